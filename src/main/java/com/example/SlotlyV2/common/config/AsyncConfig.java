@@ -4,6 +4,7 @@ import java.util.concurrent.Executor;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -21,4 +22,16 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    // One short-lived virtual thread per subscriber with pending live availability messages
+    @Bean(name = "slotStreamExecutor")
+    public Executor slotStreamExecutor() {
+        return new VirtualThreadTaskExecutor("SlotStream-");
+    }
+
+    // Runs the per-event booking queues, one virtual thread per event with bookings waiting
+    @Bean(name = "slotBookingExecutor")
+    public Executor slotBookingExecutor() {
+        return new VirtualThreadTaskExecutor("SlotBooking-");
+    }
 }
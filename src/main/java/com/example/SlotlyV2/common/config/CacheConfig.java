@@ -5,10 +5,19 @@ import java.time.Duration;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.example.SlotlyV2.common.security.VerifiedToken;
+import com.example.SlotlyV2.feature.event.HostBusyTime;
+import com.example.SlotlyV2.feature.slot.EventAvailability;
+import com.example.SlotlyV2.feature.slot.IdempotentBooking;
+import com.example.SlotlyV2.feature.waitlist.EventWaitlist;
+import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 
 import io.github.bucket4j.Bucket;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 @Configuration
 public class CacheConfig {
@@ -20,4 +29,63 @@ public class CacheConfig {
                 .expireAfterAccess(Duration.ofHours(2))
                 .build();
     }
+
+    @Bean
+    public Cache<String, EventAvailability> slotAvailabilityCache(SlotProperties slotProperties,
+            MeterRegistry meterRegistry) {
+        Cache<String, EventAvailability> cache = Caffeine.newBuilder()
+                .maximumSize(slotProperties.getAvailabilityIndexMaxEvents())
+                .expireAfterWrite(slotProperties.getAvailabilityIndexTtl())
+                .recordStats()
+                .build();
+
+        // Hit, miss and eviction counts under the cache.* meters, tagged cache=slotAvailability
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "slotAvailability");
+    }
+
+    @Bean
+    public Cache<String, VerifiedToken> verifiedTokenClaimsCache(JwtProperties jwtProperties,
+            MeterRegistry meterRegistry) {
+        Cache<String, VerifiedToken> cache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getVerifiedTokenCacheMaxEntries())
+                .expireAfter(Expiry.creating((String digest, VerifiedToken token) -> Duration.ofMillis(
+                        Math.max(0, token.getExpiration().getTime() - System.currentTimeMillis()))))
+                .recordStats()
+                .build();
+
+        // Hit ratio under the cache.gets meter, tagged cache=verifiedTokens
+        return CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedTokens");
+    }
+
+    @Bean
+    public Cache<Long, Integer> tokenEpochCache(JwtProperties jwtProperties) {
+        return Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getTokenEpochCacheMaxEntries())
+                .expireAfterWrite(jwtProperties.getTokenEpochTtl())
+                .build();
+    }
+
+    @Bean
+    public AsyncCache<String, IdempotentBooking> bookingIdempotencyCache(SlotProperties slotProperties) {
+        return Caffeine.newBuilder()
+                .maximumSize(slotProperties.getIdempotencyKeyMaxEntries())
+                .expireAfterWrite(slotProperties.getIdempotencyKeyTtl())
+                .buildAsync();
+    }
+
+    @Bean
+    public Cache<Long, HostBusyTime> hostBusyTimeCache(SlotProperties slotProperties) {
+        return Caffeine.newBuilder()
+                .maximumSize(slotProperties.getHostBusyTimeMaxHosts())
+                .expireAfterWrite(slotProperties.getHostBusyTimeTtl())
+                .build();
+    }
+
+    @Bean
+    public Cache<Long, EventWaitlist> waitlistCache(SlotProperties slotProperties) {
+        return Caffeine.newBuilder()
+                .maximumSize(slotProperties.getWaitlistMaxEvents())
+                .expireAfterWrite(slotProperties.getWaitlistTtl())
+                .build();
+    }
 }
@@ -1,5 +1,7 @@
 package com.example.SlotlyV2.common.config;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
@@ -12,4 +14,16 @@ public class JwtProperties {
     private String secretKey;
     private Long accessTokenExpiration;
     private Long refreshTokenExpiration;
+
+    // Bounds the cache of verified access tokens
+    private int verifiedTokenCacheMaxEntries = 10000;
+
+    // How often the in-memory denylist is rebuilt from the revoked_tokens table, and the false positive rate
+    // it is sized for, a false positive costs one lookup in the table
+    private Duration denylistRebuildInterval = Duration.ofMinutes(5);
+    private double denylistFalsePositiveRate = 0.01;
+
+    // Bounds the in-memory token epochs, and how long a bump on another instance takes to show up here
+    private int tokenEpochCacheMaxEntries = 10000;
+    private Duration tokenEpochTtl = Duration.ofMinutes(1);
 }
@@ -21,6 +21,9 @@ public class RateLimitProperties {
     private int bookingCapacity = 10;
     private Duration bookingRefill = Duration.ofMinutes(1);
     
+    private int holdCapacity = 20;
+    private Duration holdRefill = Duration.ofMinutes(1);
+
     private int passwordResetCapacity = 3;
     private Duration passwordResetRefill = Duration.ofHours(1);
 }
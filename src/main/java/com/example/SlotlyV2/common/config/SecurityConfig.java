@@ -1,5 +1,7 @@
 package com.example.SlotlyV2.common.config;
 
+import java.util.Arrays;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -11,9 +13,15 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
+import org.springframework.security.web.util.matcher.DispatcherTypeRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 
 import com.example.SlotlyV2.common.security.JwtAuthenticationFilter;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -38,10 +46,22 @@ public class SecurityConfig {
         http
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
+                        // Completion of streamed responses, the original request was already authorized
+                        .requestMatchers(asyncDispatchOf(
+                                "/api/v1/share/*/slots/stream",
+                                "/api/v1/events/*/slots/export",
+                                "/api/v1/users/me/bookings/export"))
+                        .permitAll()
                         .requestMatchers(
                                 "/api/v1/users/register",
                                 "/api/v1/users/login",
                                 "/api/v1/{shareableId}",
+                                "/api/v1/slots/book/**",
+                                "/api/v1/slots/waitlist",
+                                "/api/v1/share/*/slots/hold",
+                                "/api/v1/share/*/slots/release",
+                                // Public like the share page it serves, EventSource cannot send a bearer token
+                                "/api/v1/share/*/slots/stream",
                                 "/api/v1/auth/jwt/**",
                                 "/api/v1/calendar/**",
                                 "/api/v1/users/verify-email/**",
@@ -58,4 +78,12 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    private static RequestMatcher asyncDispatchOf(String... patterns) {
+        RequestMatcher paths = new OrRequestMatcher(Arrays.stream(patterns)
+                .map(pattern -> (RequestMatcher) PathPatternRequestMatcher.withDefaults().matcher(pattern))
+                .toList());
+
+        return new AndRequestMatcher(new DispatcherTypeRequestMatcher(DispatcherType.ASYNC), paths);
+    }
 }
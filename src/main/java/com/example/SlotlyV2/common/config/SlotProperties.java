@@ -0,0 +1,99 @@
+package com.example.SlotlyV2.common.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import lombok.Data;
+
+@Component
+@ConfigurationProperties(prefix = "app.slots")
+@Data
+public class SlotProperties {
+    // Sets hibernate.jdbc.batch_size, and must match the slots_seq allocation size (checked on startup)
+    private int generationBatchSize = 50;
+
+    // STORED keeps a row per slot, VIRTUAL computes free slots and stores only bookings
+    private Materialization materialization = Materialization.STORED;
+
+    // OPTIMISTIC reads, checks and saves under @Version, CONDITIONAL_UPDATE claims with one guarded UPDATE,
+    // QUEUED hands bookings to a per-event queue that books them in batches
+    private BookingMode bookingMode = BookingMode.OPTIMISTIC;
+
+    // Bounds the in-memory availability index behind the public share endpoint
+    private int availabilityIndexMaxEvents = 1000;
+
+    // Upper bound on how stale an entry can get when updates happen outside this instance
+    private Duration availabilityIndexTtl = Duration.ofMinutes(10);
+
+    // Page size of the slot listings when the client sends no limit, and the cap on what it may ask for
+    private int defaultPageSize = 100;
+    private int maxPageSize = 500;
+
+    // Live availability streams end after this and the client reconnects, heartbeats keep idle ones open
+    private Duration streamTimeout = Duration.ofMinutes(30);
+    private Duration streamHeartbeat = Duration.ofSeconds(25);
+
+    // How many Idempotency-Key results the booking endpoint remembers, and for how long
+    private int idempotencyKeyMaxEntries = 10000;
+    private Duration idempotencyKeyTtl = Duration.ofHours(24);
+
+    // Most queued bookings of one event written in one transaction
+    private int bookingQueueBatchSize = 50;
+
+    // Retries of a booking or cancellation that lost an optimistic-lock race, the delay doubles up to the max
+    private int conflictRetries = 3;
+    private Duration conflictRetryDelay = Duration.ofMillis(20);
+    private Duration conflictRetryMaxDelay = Duration.ofMillis(200);
+
+    // Bounds the in-memory waitlists and how long one serves before it is read from the table again
+    private int waitlistMaxEvents = 1000;
+    private Duration waitlistTtl = Duration.ofMinutes(10);
+
+    // Bounds the in-memory busy time of hosts, and how stale it gets when events are created on other instances
+    private int hostBusyTimeMaxHosts = 1000;
+    private Duration hostBusyTimeTtl = Duration.ofMinutes(10);
+
+    // Longest checkout hold on a slot, clients may ask for a shorter one
+    private Duration holdTtl = Duration.ofMinutes(5);
+
+    // Most slots of one event that can be held at once, whoever holds them
+    private int maxHoldsPerEvent = 20;
+
+    public enum Materialization {
+        STORED,
+        VIRTUAL
+    }
+
+    public enum BookingMode {
+        OPTIMISTIC,
+        CONDITIONAL_UPDATE,
+        QUEUED
+    }
+
+    public boolean isVirtual() {
+        return materialization == Materialization.VIRTUAL;
+    }
+
+    public int resolvePageSize(Integer requested) {
+        if (requested == null) {
+            return defaultPageSize;
+        }
+
+        return Math.clamp(requested, 1, maxPageSize);
+    }
+
+    // Unpaged listings read every row in their range, one below MAX_VALUE as callers fetch one row past the limit
+    public int resolvePageSize(Integer requested, boolean paged) {
+        return paged ? resolvePageSize(requested) : Integer.MAX_VALUE - 1;
+    }
+
+    public Duration resolveHoldTtl(Integer requestedSeconds) {
+        if (requestedSeconds == null) {
+            return holdTtl;
+        }
+
+        return Duration.ofSeconds(Math.clamp(requestedSeconds, 1, holdTtl.toSeconds()));
+    }
+}
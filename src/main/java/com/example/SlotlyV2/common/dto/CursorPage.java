@@ -0,0 +1,28 @@
+package com.example.SlotlyV2.common.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.Value;
+
+@Value
+public class CursorPage<T> {
+    private List<T> content;
+    private boolean hasNext;
+    // Pass back as ?cursor= to fetch the next page, null on the last page
+    private String nextCursor;
+
+    // Builds a page from a query that fetched one row past the limit to detect a next page
+    public static <T> CursorPage<T> of(List<T> rows, int limit, Function<T, String> cursorOf) {
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, false, null);
+        }
+
+        List<T> content = rows.subList(0, limit);
+        return new CursorPage<>(content, true, cursorOf.apply(content.get(limit - 1)));
+    }
+
+    public <R> CursorPage<R> map(Function<T, R> mapper) {
+        return new CursorPage<>(content.stream().map(mapper).toList(), hasNext, nextCursor);
+    }
+}
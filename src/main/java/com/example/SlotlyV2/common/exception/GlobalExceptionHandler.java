@@ -3,6 +3,7 @@ package com.example.SlotlyV2.common.exception;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -21,7 +22,14 @@ import com.example.SlotlyV2.common.exception.auth.UnauthorizedAccessException;
 import com.example.SlotlyV2.common.exception.event.EventNotFoundException;
 import com.example.SlotlyV2.common.exception.event.InvalidEventException;
 import com.example.SlotlyV2.common.exception.event.MaxCapacityExceededException;
+import com.example.SlotlyV2.common.exception.event.OverlappingEventException;
+import com.example.SlotlyV2.common.exception.slot.AlreadyOnWaitlistException;
+import com.example.SlotlyV2.common.exception.slot.IdempotencyKeyReusedException;
 import com.example.SlotlyV2.common.exception.slot.InvalidSlotException;
+import com.example.SlotlyV2.common.exception.slot.MaxSlotsPerUserExceededException;
+import com.example.SlotlyV2.common.exception.slot.OverlappingBookingException;
+import com.example.SlotlyV2.common.exception.slot.SlotAlreadyBookedException;
+import com.example.SlotlyV2.common.exception.slot.SlotHeldException;
 import com.example.SlotlyV2.common.exception.slot.SlotNotBookedException;
 import com.example.SlotlyV2.common.exception.slot.SlotNotFoundException;
 import com.example.SlotlyV2.common.exception.user.UserAlreadyExistsException;
@@ -40,6 +48,11 @@ public class GlobalExceptionHandler {
     @ExceptionHandler({
             UserAlreadyExistsException.class,
             UsernameAlreadyExistsException.class,
+            SlotAlreadyBookedException.class,
+            SlotHeldException.class,
+            AlreadyOnWaitlistException.class,
+            OverlappingBookingException.class,
+            OverlappingEventException.class,
             OptimisticLockException.class
     })
     @ResponseStatus(HttpStatus.CONFLICT)
@@ -47,6 +60,14 @@ public class GlobalExceptionHandler {
         return new ApiResponse<>(ex.getMessage(), null);
     }
 
+    // Left after every retry lost the race, the message of the Hibernate exception names internal entities
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public ApiResponse<Void> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        log.warn("Optimistic-lock conflict persisted after retries: {}", ex.getMessage());
+        return new ApiResponse<>("This slot was changed by another request. Please try again", null);
+    }
+
     @ExceptionHandler({
             UserNotFoundException.class,
             EventNotFoundException.class,
@@ -70,6 +91,7 @@ public class GlobalExceptionHandler {
             InvalidEventException.class,
             SlotNotBookedException.class,
             MaxCapacityExceededException.class,
+            MaxSlotsPerUserExceededException.class,
             AccountAlreadyVerifiedException.class,
             AccountNotVerifiedException.class,
             InvalidTokenException.class,
@@ -82,6 +104,12 @@ public class GlobalExceptionHandler {
         return new ApiResponse<>(ex.getMessage(), null);
     }
 
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_CONTENT)
+    public ApiResponse<Void> handleIdempotencyKeyReused(IdempotencyKeyReusedException ex) {
+        return new ApiResponse<>(ex.getMessage(), null);
+    }
+
     @ExceptionHandler(RateLimitExceededException.class)
     @ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
     public ApiResponse<Void> handleRateLimitExceeded(RateLimitExceededException ex, HttpServletResponse response) {
@@ -0,0 +1,7 @@
+package com.example.SlotlyV2.common.exception.event;
+
+public class OverlappingEventException extends RuntimeException {
+    public OverlappingEventException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.SlotlyV2.common.exception.slot;
+
+public class AlreadyOnWaitlistException extends RuntimeException {
+    public AlreadyOnWaitlistException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.SlotlyV2.common.exception.slot;
+
+public class IdempotencyKeyReusedException extends RuntimeException {
+    public IdempotencyKeyReusedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.SlotlyV2.common.exception.slot;
+
+public class MaxSlotsPerUserExceededException extends RuntimeException {
+    public MaxSlotsPerUserExceededException(String message) {
+        super(message);
+    }
+}
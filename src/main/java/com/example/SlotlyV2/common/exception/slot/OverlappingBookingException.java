@@ -0,0 +1,7 @@
+package com.example.SlotlyV2.common.exception.slot;
+
+public class OverlappingBookingException extends RuntimeException {
+    public OverlappingBookingException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.SlotlyV2.common.exception.slot;
+
+public class SlotHeldException extends RuntimeException {
+    public SlotHeldException(String message) {
+        super(message);
+    }
+}
@@ -36,15 +36,32 @@ public class RateLimitHelper {
     }
 
     public void checkBookingRateLimit(String email) {
+        checkBookingRateLimit(email, 1);
+    }
+
+    // A batch booking spends one token per slot
+    public void checkBookingRateLimit(String email, int slots) {
         Bucket bucket = rateLimitService.getBookingBucket(email);
 
-        if (!bucket.tryConsume(1)) {
+        if (!bucket.tryConsume(slots)) {
             throw new RateLimitExceededException(
                     "You can only book 10 slots per minute. Please try again later",
                     60);
         }
     }
 
+    // Holds are keyed by an email the caller types in, so they are limited per client as well
+    public void checkHoldRateLimit(HttpServletRequest request) {
+        String ip = rateLimitService.getClientIp(request);
+        Bucket bucket = rateLimitService.getHoldBucket(ip);
+
+        if (!bucket.tryConsume(1)) {
+            throw new RateLimitExceededException(
+                    "Too many hold requests. Please try again later",
+                    60);
+        }
+    }
+
     public void checkPasswordResetRateLimit(String email) {
         Bucket bucket = rateLimitService.getPasswordResetBucket(email);
 
@@ -59,6 +59,15 @@ public class RateLimitService {
         return resolveBucket("email:" + email, limit);
     }
 
+    public Bucket getHoldBucket(String ip) {
+        Bandwidth limit = Bandwidth.builder()
+                .capacity(rateLimitProperties.getHoldCapacity())
+                .refillGreedy(rateLimitProperties.getHoldCapacity(), rateLimitProperties.getHoldRefill())
+                .build();
+
+        return resolveBucket("hold:" + ip, limit);
+    }
+
     public Bucket getPasswordResetBucket(String email) {
         Bandwidth limit = Bandwidth.builder()
                 .capacity(rateLimitProperties.getPasswordResetCapacity())
@@ -0,0 +1,28 @@
+package com.example.SlotlyV2.common.security;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+import com.example.SlotlyV2.feature.user.User;
+
+import lombok.Value;
+
+// The principal of a token-authenticated request, built from the verified claims without reading the users table
+@Value
+public class AuthenticatedUser implements AuthenticatedPrincipal {
+    private Long id;
+    private String email;
+    private String displayName;
+
+    public static AuthenticatedUser of(VerifiedToken token) {
+        return new AuthenticatedUser(token.getUserId(), token.getEmail(), token.getDisplayName());
+    }
+
+    public static AuthenticatedUser of(User user) {
+        return new AuthenticatedUser(user.getId(), user.getEmail(), user.getDisplayName());
+    }
+
+    @Override
+    public String getName() {
+        return email;
+    }
+}
@@ -1,16 +1,19 @@
 package com.example.SlotlyV2.common.security;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
 
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
+import com.example.SlotlyV2.feature.auth.TokenDenylist;
+import com.example.SlotlyV2.feature.auth.TokenEpochs;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -23,8 +26,9 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider jwtTokenProvider;
-    private final UserDetailsService userDetailsService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenDenylist tokenDenylist;
+    private final TokenEpochs tokenEpochs;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -41,33 +45,46 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             // Extract JWT from request
             String jwt = getJwtFromRequest(request);
 
-            // Check if token exists and is valid
-            if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
+            // Verify the token once, or not at all when it was verified before, everything below reads the claims
+            Optional<VerifiedToken> token = StringUtils.hasText(jwt)
+                    ? verifiedTokenCache.verify(jwt)
+                    : Optional.empty();
+            if (token.isPresent()) {
 
                 // Check if its an access token
-                String tokenType = jwtTokenProvider.getTokenType(jwt);
-                if (!tokenType.equals("access")) {
-                    log.error("Invalid token type: {}", tokenType);
+                if (!token.get().isAccessToken()) {
+                    log.error("Invalid token type: {}", token.get().getType());
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
+                // Checked after the cache, so a cached token that was revoked elsewhere is still rejected
+                if (tokenDenylist.isRevoked(token.get())) {
+                    log.error("Revoked token for user: {}", token.get().getEmail());
                     filterChain.doFilter(request, response);
                     return;
                 }
 
-                // Get user email from token
-                String email = jwtTokenProvider.getEmailFromToken(jwt);
+                // Tokens issued before the user's last password reset or log out everywhere
+                if (!tokenEpochs.isCurrent(token.get())) {
+                    log.error("Token of a previous epoch for user: {}", token.get().getEmail());
+                    filterChain.doFilter(request, response);
+                    return;
+                }
 
-                // Load user details
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+                // Build the principal from the claims, services load the User only when they need more
+                AuthenticatedUser principal = AuthenticatedUser.of(token.get());
 
-                // Create authentication object
+                // Create authentication object, users have no authorities
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails,
+                        principal,
                         null,
-                        userDetails.getAuthorities());
+                        List.of());
 
                 // Set authentication in security context
                 SecurityContextHolder.getContext().setAuthentication(authentication);
 
-                log.debug("Set authentication for user: {}", email);
+                log.debug("Set authentication for user: {}", principal.getEmail());
             }
         } catch (Exception e) {
             log.error("Could not set user authentication in security context", e);
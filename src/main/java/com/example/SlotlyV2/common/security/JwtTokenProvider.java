@@ -1,9 +1,10 @@
 package com.example.SlotlyV2.common.security;
 
-import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
 
 import javax.crypto.SecretKey;
 
@@ -12,25 +13,30 @@ import org.springframework.stereotype.Component;
 import com.example.SlotlyV2.common.config.JwtProperties;
 import com.example.SlotlyV2.feature.user.User;
 
-import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SecurityException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtTokenProvider {
     private final JwtProperties jwtProperties;
 
-    private Key getSigningKey() {
-        byte[] keyBytes = jwtProperties.getSecretKey().getBytes();
-        return Keys.hmacShaKeyFor(keyBytes);
+    // Built once: the key and the parser are immutable and thread-safe, so requests share them
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    public JwtTokenProvider(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes());
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
     }
 
     public String generateAccessToken(User user) {
@@ -38,6 +44,7 @@ public class JwtTokenProvider {
         claims.put("userId", user.getId());
         claims.put("email", user.getEmail());
         claims.put("displayName", user.getDisplayName());
+        claims.put("epoch", user.getTokenEpoch());
         claims.put("type", "access");
 
         return createToken(claims, user.getEmail(), jwtProperties.getAccessTokenExpiration());
@@ -46,6 +53,7 @@ public class JwtTokenProvider {
     public String generateRefreshToken(User user) {
         Map<String, Object> claims = new HashMap<>();
         claims.put("userId", user.getId());
+        claims.put("epoch", user.getTokenEpoch());
         claims.put("type", "refresh");
 
         return createToken(claims, user.getEmail(), jwtProperties.getRefreshTokenExpiration());
@@ -57,20 +65,18 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    // Verifies the signature and expiry once and hands back the claims, empty for any token that fails
+    public Optional<VerifiedToken> verify(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith((SecretKey) getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            return Optional.of(VerifiedToken.of(parser.parseSignedClaims(token).getPayload()));
         } catch (SecurityException ex) {
             log.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
@@ -82,32 +88,6 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
         }
-        return false;
-    }
-
-    public Long getUserIdFromToken(String token) {
-        Claims claims = getAllClaimsFromToken(token);
-        return claims.get("userId", Long.class);
-    }
-
-    public String getEmailFromToken(String token) {
-        return getAllClaimsFromToken(token).getSubject();
-    }
-
-    public String getTokenType(String token) {
-        Claims claims = getAllClaimsFromToken(token);
-        return claims.get("type", String.class);
-    }
-
-    public Date getExpirationFromToken(String token) {
-        return getAllClaimsFromToken(token).getExpiration();
-    }
-
-    private Claims getAllClaimsFromToken(String token) {
-        return Jwts.parser()
-                .verifyWith((SecretKey) getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return Optional.empty();
     }
 }
@@ -0,0 +1,35 @@
+package com.example.SlotlyV2.common.security;
+
+import java.util.Date;
+import java.util.Optional;
+
+import io.jsonwebtoken.Claims;
+import lombok.Value;
+
+// The claims of a token whose signature and expiry have been checked, read once per request
+@Value
+public class VerifiedToken {
+    // The jti, null for tokens issued before tokens could be revoked
+    private String tokenId;
+    private Long userId;
+    private String email;
+    private String displayName;
+    private String type;
+    // Tokens issued before users had token epochs count as epoch 0
+    private int tokenEpoch;
+    private Date expiration;
+
+    public static VerifiedToken of(Claims claims) {
+        return new VerifiedToken(claims.getId(), claims.get("userId", Long.class), claims.getSubject(),
+                claims.get("displayName", String.class), claims.get("type", String.class),
+                Optional.ofNullable(claims.get("epoch", Integer.class)).orElse(0), claims.getExpiration());
+    }
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.SlotlyV2.common.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import lombok.RequiredArgsConstructor;
+
+// Access tokens that have already been verified, so a client repeating its bearer token skips the HMAC check.
+// Entries are keyed by the token's SHA-256 digest, so raw tokens are not kept in memory, and each one expires
+// at the token's own exp. Revoking a token or a user's tokens must go through invalidate, otherwise a revoked
+// token would keep authenticating until it expires.
+@Component
+@RequiredArgsConstructor
+public class VerifiedTokenCache {
+    private final Cache<String, VerifiedToken> verifiedTokenClaimsCache;
+    private final JwtTokenProvider jwtTokenProvider;
+
+    public Optional<VerifiedToken> verify(String token) {
+        String digest = digest(token);
+
+        VerifiedToken cached = verifiedTokenClaimsCache.getIfPresent(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        // Failures are not cached, a bad token costs a verification every time like before
+        Optional<VerifiedToken> verified = jwtTokenProvider.verify(token);
+        verified.filter(VerifiedToken::isAccessToken)
+                .ifPresent(accessToken -> verifiedTokenClaimsCache.put(digest, accessToken));
+        return verified;
+    }
+
+    public void invalidate(String token) {
+        verifiedTokenClaimsCache.invalidate(digest(token));
+    }
+
+    // Walks the cache, which is bounded and revocations are rare
+    public void invalidateUser(Long userId) {
+        verifiedTokenClaimsCache.asMap().values().removeIf(token -> userId.equals(token.getUserId()));
+    }
+
+    private String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
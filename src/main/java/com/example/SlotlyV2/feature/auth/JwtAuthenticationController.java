@@ -2,6 +2,7 @@ package com.example.SlotlyV2.feature.auth;
 
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -32,4 +33,14 @@ public class JwtAuthenticationController {
         RefreshTokenResponse refreshTokenResponse = jwtAuthenticationService.refresh(request);
         return new ApiResponse<>("Token refreshed successfully", refreshTokenResponse);
     }
+
+    @PostMapping("/logout")
+    public ApiResponse<Void> logout(@RequestHeader(value = "Authorization", required = false) String authorization,
+            @Valid @RequestBody RefreshTokenRequest request) {
+        String accessToken = authorization != null && authorization.startsWith("Bearer ")
+                ? authorization.substring(7)
+                : null;
+        jwtAuthenticationService.logout(accessToken, request);
+        return new ApiResponse<>("Logged out successfully", null);
+    }
 }
@@ -4,11 +4,14 @@ import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.example.SlotlyV2.common.config.JwtProperties;
 import com.example.SlotlyV2.common.exception.auth.AccountNotVerifiedException;
 import com.example.SlotlyV2.common.exception.auth.InvalidCredentialsException;
 import com.example.SlotlyV2.common.security.JwtTokenProvider;
+import com.example.SlotlyV2.common.security.VerifiedToken;
 import com.example.SlotlyV2.feature.auth.dto.JwtAuthenticationResponse;
 import com.example.SlotlyV2.feature.auth.dto.JwtLoginRequest;
 import com.example.SlotlyV2.feature.auth.dto.RefreshTokenRequest;
@@ -17,11 +20,9 @@ import com.example.SlotlyV2.feature.user.User;
 import com.example.SlotlyV2.feature.user.UserRepository;
 import com.example.SlotlyV2.feature.user.dto.UserResponse;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class JwtAuthenticationService {
 
@@ -29,6 +30,21 @@ public class JwtAuthenticationService {
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtProperties jwtProperties;
     private final UserRepository userRepository;
+    private final TokenDenylist tokenDenylist;
+    private final TokenEpochs tokenEpochs;
+    private final TransactionTemplate transaction;
+
+    public JwtAuthenticationService(AuthenticationManager authenticationManager, JwtTokenProvider jwtTokenProvider,
+            JwtProperties jwtProperties, UserRepository userRepository, TokenDenylist tokenDenylist,
+            TokenEpochs tokenEpochs, PlatformTransactionManager transactionManager) {
+        this.authenticationManager = authenticationManager;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.jwtProperties = jwtProperties;
+        this.userRepository = userRepository;
+        this.tokenDenylist = tokenDenylist;
+        this.tokenEpochs = tokenEpochs;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
 
     public JwtAuthenticationResponse login(JwtLoginRequest request) {
         // Check if user is verified
@@ -67,33 +83,66 @@ public class JwtAuthenticationService {
         String refreshToken = request.getRefreshToken();
 
         // Validate the refresh token
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
-            throw new InvalidCredentialsException("Invalid refresh token");
-        }
+        VerifiedToken token = jwtTokenProvider.verify(refreshToken)
+                .orElseThrow(() -> new InvalidCredentialsException("Invalid refresh token"));
 
         // Validate the token type
-        String tokenType = jwtTokenProvider.getTokenType(refreshToken);
-        if (!tokenType.equals("refresh")) {
+        if (!token.isRefreshToken()) {
             throw new InvalidCredentialsException("Token is not a refresh token");
         }
 
-        // Get user email
-        String email = jwtTokenProvider.getEmailFromToken(refreshToken);
+        if (token.getTokenId() == null) {
+            throw new InvalidCredentialsException("Invalid refresh token");
+        }
 
         // Load the user
-        User user = userRepository.findByEmail(email)
+        User user = userRepository.findByEmail(token.getEmail())
                 .orElseThrow(() -> new InvalidCredentialsException("User not found"));
 
-        // Generate new access token
+        // Read from the user, not the epoch cache, so a bump on another instance applies at once. Checked before
+        // the token is used up, so a rejected refresh does not consume it
+        if (token.getTokenEpoch() != user.getTokenEpoch()) {
+            throw new InvalidCredentialsException("Refresh token has been revoked");
+        }
+
+        // Refresh tokens are used once: revoking it here fails for a token that was already used
+        if (!tokenDenylist.revoke(token, refreshToken)) {
+            // Reuse most likely means the token was stolen, so the tokens rotated from it stop working too
+            revokeAllTokens(user.getId());
+            throw new InvalidCredentialsException("Refresh token has already been used");
+        }
+
+        // Generate new access and refresh tokens
         String newAccessToken = jwtTokenProvider.generateAccessToken(user);
+        String newRefreshToken = jwtTokenProvider.generateRefreshToken(user);
 
         // Convert expiration to seconds
         Long expiresIn = jwtProperties.getAccessTokenExpiration() / 1000;
 
         return RefreshTokenResponse.builder()
                 .accessToken(newAccessToken)
+                .refreshToken(newRefreshToken)
                 .expiresIn(expiresIn)
                 .build();
     }
 
+    // Own transaction, the failed revoke insert before it may have marked the surrounding one rollback-only
+    private void revokeAllTokens(Long userId) {
+        transaction.executeWithoutResult(status -> userRepository.findById(userId).ifPresent(tokenEpochs::revokeAll));
+        log.warn("Refresh token of user {} was reused, revoked all of their tokens", userId);
+    }
+
+    public void logout(String accessToken, RefreshTokenRequest request) {
+        // Revoke whichever of the two tokens still verifies, the other may have expired already
+        if (accessToken != null) {
+            jwtTokenProvider.verify(accessToken)
+                    .filter(token -> token.isAccessToken() && token.getTokenId() != null)
+                    .ifPresent(token -> tokenDenylist.revoke(token, accessToken));
+        }
+
+        jwtTokenProvider.verify(request.getRefreshToken())
+                .filter(token -> token.isRefreshToken() && token.getTokenId() != null)
+                .ifPresent(token -> tokenDenylist.revoke(token, request.getRefreshToken()));
+    }
+
 }
@@ -0,0 +1,56 @@
+package com.example.SlotlyV2.feature.auth;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import com.example.SlotlyV2.common.security.VerifiedToken;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// A token that no longer authenticates before its expiry. Rows are only needed until then.
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "revoked_tokens", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_revoked_tokens_token_id", columnNames = "token_id")
+}, indexes = {
+        @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at")
+})
+public class RevokedToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "revoked_tokens_seq")
+    @SequenceGenerator(name = "revoked_tokens_seq", sequenceName = "revoked_tokens_seq", allocationSize = 50)
+    private Long id;
+
+    // The token's jti
+    @Column(name = "token_id", nullable = false)
+    private String tokenId;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    private LocalDateTime revokedAt;
+
+    public static RevokedToken of(VerifiedToken token) {
+        return new RevokedToken(null, token.getTokenId(), token.getUserId(), token.getExpiration().toInstant(),
+                LocalDateTime.now());
+    }
+}
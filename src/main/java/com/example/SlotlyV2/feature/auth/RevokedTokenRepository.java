@@ -0,0 +1,25 @@
+package com.example.SlotlyV2.feature.auth;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    // Served by uk_revoked_tokens_token_id
+    boolean existsByTokenId(String tokenId);
+
+    // Read on every rebuild of the in-memory denylist
+    @Query("SELECT r.tokenId FROM RevokedToken r WHERE r.expiresAt > :now")
+    List<String> findUnexpiredTokenIds(Instant now);
+
+    // Expired tokens fail verification anyway, served by idx_revoked_tokens_expires_at
+    @Modifying
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(Instant now);
+}
@@ -0,0 +1,98 @@
+package com.example.SlotlyV2.feature.auth;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.SlotlyV2.common.config.JwtProperties;
+import com.example.SlotlyV2.common.security.VerifiedToken;
+import com.example.SlotlyV2.common.security.VerifiedTokenCache;
+import com.example.SlotlyV2.common.util.BloomFilter;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Revoked tokens, checked on every authenticated request. The revoked_tokens table is authoritative. A Bloom
+// filter of its unexpired ids, rebuilt periodically, answers the common case (not revoked) in memory, and
+// only a possible hit, revoked or a false positive, reads the table. Revocations on this instance go into the
+// filter at once, those on other instances show up with the next rebuild.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenDenylist {
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final JwtProperties jwtProperties;
+
+    // Null until the first rebuild, every check reads the table until then
+    private volatile BloomFilter filter;
+
+    // Ids revoked while a rebuild reads the table, added to the new filter before it is swapped in
+    private Set<String> revokedDuringRebuild;
+
+    public boolean isRevoked(VerifiedToken token) {
+        // Tokens issued before they carried an id cannot be revoked
+        if (token.getTokenId() == null) {
+            return false;
+        }
+
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(token.getTokenId())) {
+            return false;
+        }
+
+        return revokedTokenRepository.existsByTokenId(token.getTokenId());
+    }
+
+    // False when the token was revoked before, which for a refresh token means it is being reused
+    public boolean revoke(VerifiedToken token, String rawToken) {
+        try {
+            revokedTokenRepository.saveAndFlush(RevokedToken.of(token));
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+
+        synchronized (this) {
+            if (filter != null) {
+                filter.put(token.getTokenId());
+            }
+            if (revokedDuringRebuild != null) {
+                revokedDuringRebuild.add(token.getTokenId());
+            }
+        }
+
+        verifiedTokenCache.invalidate(rawToken);
+        return true;
+    }
+
+    // Also runs on startup, and sizes the filter with room for the revocations until the next rebuild
+    @Scheduled(fixedDelayString = "#{@jwtProperties.denylistRebuildInterval.toMillis()}")
+    @Transactional(rollbackOn = Exception.class)
+    public void rebuild() {
+        synchronized (this) {
+            revokedDuringRebuild = new HashSet<>();
+        }
+
+        Instant now = Instant.now();
+        int deleted = revokedTokenRepository.deleteExpired(now);
+        List<String> tokenIds = revokedTokenRepository.findUnexpiredTokenIds(now);
+
+        BloomFilter rebuilt = BloomFilter.create(Math.max(1024, tokenIds.size() * 2),
+                jwtProperties.getDenylistFalsePositiveRate());
+        tokenIds.forEach(rebuilt::put);
+
+        synchronized (this) {
+            revokedDuringRebuild.forEach(rebuilt::put);
+            revokedDuringRebuild = null;
+            filter = rebuilt;
+        }
+
+        log.debug("Rebuilt token denylist with {} revoked tokens, dropped {} expired", tokenIds.size(), deleted);
+    }
+}
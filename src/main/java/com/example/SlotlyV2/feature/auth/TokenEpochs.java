@@ -0,0 +1,46 @@
+package com.example.SlotlyV2.feature.auth;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.SlotlyV2.common.security.VerifiedToken;
+import com.example.SlotlyV2.common.security.VerifiedTokenCache;
+import com.example.SlotlyV2.feature.user.User;
+import com.example.SlotlyV2.feature.user.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import lombok.RequiredArgsConstructor;
+
+// Every token carries its user's token epoch from when it was issued, and only tokens of the current epoch
+// authenticate. Bumping the epoch revokes all of a user's tokens at once, without a row per token. The current
+// epochs are kept in memory, read from the users table on first use, so the check is a map lookup. A bump on
+// this instance drops the user's entry on commit, bumps on other instances show up when the entry expires.
+@Component
+@RequiredArgsConstructor
+public class TokenEpochs {
+    private final Cache<Long, Integer> tokenEpochCache;
+    private final UserRepository userRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    public boolean isCurrent(VerifiedToken token) {
+        // A deleted user has no current epoch, so none of their tokens are
+        Integer current = tokenEpochCache.get(token.getUserId(),
+                id -> userRepository.findTokenEpochById(id).orElse(-1));
+        return current == token.getTokenEpoch();
+    }
+
+    // Saved with the caller's transaction, the tokens stop working once it commits
+    public void revokeAll(User user) {
+        user.setTokenEpoch(user.getTokenEpoch() + 1);
+
+        Long userId = user.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tokenEpochCache.invalidate(userId);
+                verifiedTokenCache.invalidateUser(userId);
+            }
+        });
+    }
+}
@@ -8,6 +8,7 @@ import lombok.Value;
 public class RefreshTokenResponse {
 
     private String accessToken;
+    private String refreshToken;
     @Builder.Default
     private String tokenType = "Bearer";
     private Long expiresIn;
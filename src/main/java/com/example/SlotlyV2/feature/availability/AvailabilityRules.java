@@ -19,4 +19,7 @@ public class AvailabilityRules {
     private Boolean isPublic = true;
     @Min(1)
     private Integer maxCapacity;
+    // Attendees per slot, above one every slot is a group session
+    @Min(1)
+    private Integer seatsPerSlot = 1;
 }
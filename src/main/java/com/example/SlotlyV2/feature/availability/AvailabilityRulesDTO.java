@@ -25,4 +25,9 @@ public class AvailabilityRulesDTO {
     @NotNull
     @Builder.Default
     private Boolean isPublic = true;
+
+    @NotNull
+    @Min(value = 1, message = "Each slot must have at least 1 seat")
+    @Builder.Default
+    private Integer seatsPerSlot = 1;
 }
@@ -10,6 +10,7 @@ import org.thymeleaf.context.Context;
 import org.thymeleaf.spring6.SpringTemplateEngine;
 
 import com.example.SlotlyV2.common.config.EmailConfig;
+import com.example.SlotlyV2.feature.email.dto.BatchBookingEmailDTO;
 import com.example.SlotlyV2.feature.email.dto.BookingEmailDTO;
 import com.example.SlotlyV2.feature.email.dto.EventCancelledEmailDTO;
 import com.example.SlotlyV2.feature.slot.dto.SlotCancelledEmailDTO;
@@ -62,6 +63,34 @@ public class EmailService {
         }
     }
 
+    @Async("emailTaskExecutor")
+    public void sendWaitlistPromotion(BookingEmailDTO data) {
+        try {
+            log.info("Sending waitlist promotion to: {}", data.getAttendeeEmail());
+
+            Map<String, Object> fields = new HashMap<>();
+            fields.put("hostName", data.getHostDisplayName());
+            fields.put("hostEmail", data.getHostEmail());
+            fields.put("attendeeName", data.getAttendeeName());
+            fields.put("eventName", data.getEventName());
+            fields.put("startTime", data.getStartTime());
+            fields.put("endTime", data.getEndTime());
+            fields.put("timeZone", data.getTimeZone());
+            fields.put("calendarLink", appBaseUrl + "/api/v1/calendar/" + data.getSlotId());
+
+            String htmlContent = renderTemplate("email/waitlist-promotion", fields);
+
+            sendEmail(data.getAttendeeEmail(),
+                    "A Slot Opened Up: " + data.getEventName(),
+                    htmlContent);
+
+            log.info("Waitlist promotion sent successfully to: {}", data.getAttendeeEmail());
+        } catch (Exception e) {
+            log.error("Failed to send waitlist promotion for slot {}: {}",
+                    data.getSlotId(), e.getMessage(), e);
+        }
+    }
+
     @Async("emailTaskExecutor")
     public void sendHostNotification(BookingEmailDTO data) {
         log.info("Sending booking notification to: {}", data.getHostEmail());
@@ -92,6 +121,59 @@ public class EmailService {
 
     }
 
+    @Async("emailTaskExecutor")
+    public void sendBatchBookingConfirmation(BatchBookingEmailDTO data) {
+        log.info("Sending batch booking confirmation to: {}", data.getAttendeeEmail());
+
+        try {
+            Map<String, Object> fields = new HashMap<>();
+            fields.put("hostName", data.getHostDisplayName());
+            fields.put("hostEmail", data.getHostEmail());
+            fields.put("attendeeName", data.getAttendeeName());
+            fields.put("eventName", data.getEventName());
+            fields.put("slots", data.getSlots());
+            fields.put("timeZone", data.getTimeZone());
+
+            String htmlContent = renderTemplate("email/batch-booking-confirmation", fields);
+
+            sendEmail(data.getAttendeeEmail(),
+                    "Bookings Confirmed: " + data.getEventName(),
+                    htmlContent);
+
+            log.info("Batch booking confirmation sent successfully to: {}", data.getAttendeeEmail());
+        } catch (Exception e) {
+            log.error("Failed to send batch booking confirmation to {}: {}",
+                    data.getAttendeeEmail(), e.getMessage(), e);
+        }
+    }
+
+    @Async("emailTaskExecutor")
+    public void sendBatchHostNotification(BatchBookingEmailDTO data) {
+        log.info("Sending batch booking notification to: {}", data.getHostEmail());
+
+        try {
+            Map<String, Object> fields = new HashMap<>();
+            fields.put("hostName", data.getHostDisplayName());
+            fields.put("attendeeName", data.getAttendeeName());
+            fields.put("attendeeEmail", data.getAttendeeEmail());
+            fields.put("eventName", data.getEventName());
+            fields.put("slots", data.getSlots());
+            fields.put("timeZone", data.getTimeZone());
+
+            String htmlContent = renderTemplate("email/batch-booking-notification", fields);
+
+            sendEmail(
+                    data.getHostEmail(),
+                    "New Bookings: " + data.getAttendeeName(),
+                    htmlContent);
+
+            log.info("Host batch notification sent successfully for {}", data.getAttendeeEmail());
+        } catch (Exception e) {
+            log.error("Failed to send host batch notification for {}: {}",
+                    data.getAttendeeEmail(), e.getMessage(), e);
+        }
+    }
+
     @Async("emailTaskExecutor")
     public void sendUserRegistrationVerification(UserVerificationDTO data) {
         log.info("Sending regsitration verification to: {}", data.getEmail());
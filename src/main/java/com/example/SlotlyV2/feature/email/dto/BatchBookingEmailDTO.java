@@ -0,0 +1,23 @@
+package com.example.SlotlyV2.feature.email.dto;
+
+import java.util.List;
+
+import com.example.SlotlyV2.feature.slot.dto.SlotSummary;
+
+import lombok.Builder;
+import lombok.Value;
+
+// One notification for all slots of a batch booking
+@Value
+@Builder
+public class BatchBookingEmailDTO {
+    private String hostEmail;
+    private String attendeeName;
+    private String attendeeEmail;
+    private String eventName;
+    private List<SlotSummary> slots;
+    private String timeZone;
+    private String hostDisplayName;
+    private String shareableId;
+    private Long availabilityVersion;
+}
@@ -18,4 +18,10 @@ public class BookingEmailDTO {
     private String timeZone;
     private String hostDisplayName;
     private Long slotId;
+    private String shareableId;
+    private Long availabilityVersion;
+    // The attendee was waitlisted and got the slot when another booking was cancelled
+    private boolean promotedFromWaitlist;
+    // Seats of a group slot still free after this booking, 0 once the slot is full
+    private int seatsLeft;
 }
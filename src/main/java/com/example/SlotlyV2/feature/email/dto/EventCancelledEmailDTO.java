@@ -7,6 +7,7 @@ import lombok.Value;
 @Value
 public class EventCancelledEmailDTO {
     private final Long eventId;
+    private final String shareableId;
     private final String eventName;
     private final List<String> attendeeEmails;
 }
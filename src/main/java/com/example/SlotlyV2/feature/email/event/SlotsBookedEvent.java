@@ -0,0 +1,10 @@
+package com.example.SlotlyV2.feature.email.event;
+
+import com.example.SlotlyV2.feature.email.dto.BatchBookingEmailDTO;
+
+import lombok.Data;
+
+@Data
+public class SlotsBookedEvent {
+    private final BatchBookingEmailDTO batchBookingEmailDTO;
+}
@@ -0,0 +1,51 @@
+package com.example.SlotlyV2.feature.event;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+@Component
+@Slf4j
+public class BookedCountReconciler {
+    private final EventRepository eventRepository;
+    private final TransactionTemplate transaction;
+
+    public BookedCountReconciler(EventRepository eventRepository, PlatformTransactionManager transactionManager) {
+        this.eventRepository = eventRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    // Events created before booked_count existed start at 0, so they are repaired once on startup as well
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcileBookedCounts();
+    }
+
+    @Scheduled(cron = "${app.events.booked-count-reconcile-cron}")
+    public int reconcileBookedCounts() {
+        int repaired = 0;
+        for (Long eventId : eventRepository.findIdsWithBookedCountDrift()) {
+            repaired += transaction.execute(status -> reconcile(eventId));
+        }
+
+        if (repaired > 0) {
+            log.warn("Repaired booked count drift on {} events", repaired);
+        }
+
+        return repaired;
+    }
+
+    // The row lock waits for bookings in flight on the event, the count then sees everything they committed
+    private int reconcile(Long eventId) {
+        if (eventRepository.findWithHostByIdForUpdate(eventId).isEmpty()) {
+            return 0;
+        }
+
+        return eventRepository.reconcileBookedCount(eventId);
+    }
+}
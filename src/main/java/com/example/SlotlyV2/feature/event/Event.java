@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import com.example.SlotlyV2.feature.availability.AvailabilityRules;
 import com.example.SlotlyV2.feature.slot.Slot;
 import com.example.SlotlyV2.feature.user.User;
@@ -16,6 +18,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -31,7 +34,9 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_host_id", columnList = "host_id")
+})
 public class Event {
 
     @Id
@@ -63,6 +68,17 @@ public class Event {
     @Column(unique = true)
     private String shareableId;
 
+    // Denormalized count of booked slots, maintained by guarded updates in EventRepository only: a stale managed
+    // Event that gets saved must not write its copy back
+    @Column(name = "booked_count", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Integer bookedCount = 0;
+
+    // Bumped with every change to bookedCount, the share endpoints use it as their ETag
+    @Column(name = "availability_version", nullable = false, updatable = false)
+    @ColumnDefault("0")
+    private Long availabilityVersion = 0L;
+
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true, fetch = FetchType.LAZY)
     private List<Slot> slots = new ArrayList<>();
 
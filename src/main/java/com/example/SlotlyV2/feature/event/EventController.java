@@ -1,5 +1,8 @@
 package com.example.SlotlyV2.feature.event;
 
+import java.time.Instant;
+import java.util.Optional;
+
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -13,11 +16,14 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.example.SlotlyV2.common.dto.ApiResponse;
 import com.example.SlotlyV2.common.dto.PagedResponse;
 import com.example.SlotlyV2.feature.event.dto.EventRequest;
 import com.example.SlotlyV2.feature.event.dto.EventResponse;
+import com.example.SlotlyV2.feature.event.dto.FreeBusyResponse;
+import com.example.SlotlyV2.feature.slot.SlotAvailabilityIndex;
 import com.example.SlotlyV2.feature.user.UserService;
 
 import jakarta.validation.Valid;
@@ -28,6 +34,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class EventController {
     private final EventService eventService;
+    private final SlotAvailabilityIndex slotAvailabilityIndex;
     private final UserService userService;
 
     @PostMapping
@@ -47,11 +54,17 @@ public class EventController {
         Sort sort = Sort.by(Sort.Direction.fromString(sortDir), sortBy);
         PageRequest pageable = PageRequest.of(page, size, sort);
 
-        Page<EventResponse> events = eventService.getEvents(userService.getCurrentUser(), pageable);
+        Page<EventResponse> events = eventService.getEvents(userService.getCurrentUserId(), pageable);
         return new ApiResponse<>("Events fetched successfully",
                 PagedResponse.of(events));
     }
 
+    // The current user's busy time across all of their events, merged, and the free time between
+    @GetMapping("/free-busy")
+    public ApiResponse<FreeBusyResponse> getFreeBusy(@RequestParam Instant from, @RequestParam Instant to) {
+        return new ApiResponse<>("Free/busy time fetched successfully", eventService.getFreeBusy(from, to));
+    }
+
     @GetMapping("/{id}")
     public ApiResponse<EventResponse> getEventById(@PathVariable Long id) {
         Event event = eventService.getEventById(id);
@@ -65,8 +78,13 @@ public class EventController {
     }
 
     @GetMapping("/share/{shareableId}")
-    public ApiResponse<EventResponse> getEventByShareableId(@PathVariable String shareableId) {
-        Event event = eventService.getEventByShareableId(shareableId);
-        return new ApiResponse<>("Event fetched successfully", new EventResponse(event));
+    public ApiResponse<EventResponse> getEventByShareableId(@PathVariable String shareableId,
+            WebRequest webRequest) {
+        Optional<Long> version = slotAvailabilityIndex.getAvailabilityVersion(shareableId);
+        if (version.isPresent() && webRequest.checkNotModified(version.get().toString())) {
+            return null;
+        }
+
+        return new ApiResponse<>("Event fetched successfully", slotAvailabilityIndex.getPublicEvent(shareableId));
     }
 }
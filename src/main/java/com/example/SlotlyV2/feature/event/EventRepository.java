@@ -5,21 +5,108 @@ import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 
 import com.example.SlotlyV2.feature.user.User;
 
+import jakarta.persistence.LockModeType;
+
 public interface EventRepository extends JpaRepository<Event, Long> {
 
     // Find events by host
     List<Event> findByHost(User host);
 
-    Page<Event> findByHost(User host, Pageable pageable);
+    Page<Event> findByHostId(Long hostId, Pageable pageable);
+
+    @EntityGraph(attributePaths = "host")
+    Optional<Event> findWithHostById(Long id);
+
+    // Locks the event row, so a queued booking batch reads its slots and counts without racing other writers
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e JOIN FETCH e.host WHERE e.id = :eventId")
+    Optional<Event> findWithHostByIdForUpdate(Long eventId);
+
+    // Read once per host to build their in-memory busy time, served by idx_events_host_id
+    @Query("""
+            SELECT new com.example.SlotlyV2.feature.event.TimeRange(e.eventStart, e.eventEnd, e.timeZone)
+            FROM Event e
+            WHERE e.host.id = :hostId
+            """)
+    List<TimeRange> findEventWindowsByHostId(Long hostId);
 
     // Find Events by link
+    @EntityGraph(attributePaths = "host")
     Optional<Event> findByShareableId(String shareableId);
 
     // Check if shareableId exists
     boolean existsByShareableId(String shareableId);
 
+    // Takes one booking against the event's capacity, returns 0 when the event is full
+    @Modifying
+    @Query("""
+            UPDATE Event e
+            SET e.bookedCount = e.bookedCount + 1, e.availabilityVersion = e.availabilityVersion + 1
+            WHERE e.id = :eventId AND (e.rules.maxCapacity IS NULL OR e.bookedCount < e.rules.maxCapacity)
+            """)
+    int incrementBookedCount(Long eventId);
+
+    // Takes several bookings under one availability version, all or none
+    @Modifying
+    @Query("""
+            UPDATE Event e
+            SET e.bookedCount = e.bookedCount + :count, e.availabilityVersion = e.availabilityVersion + 1
+            WHERE e.id = :eventId AND (e.rules.maxCapacity IS NULL OR e.bookedCount + :count <= e.rules.maxCapacity)
+            """)
+    int incrementBookedCountBy(Long eventId, int count);
+
+    // Takes several separate bookings, each with its own availability version, all or none
+    @Modifying
+    @Query("""
+            UPDATE Event e
+            SET e.bookedCount = e.bookedCount + :count, e.availabilityVersion = e.availabilityVersion + :count
+            WHERE e.id = :eventId AND (e.rules.maxCapacity IS NULL OR e.bookedCount + :count <= e.rules.maxCapacity)
+            """)
+    int incrementBookedCountPerBooking(Long eventId, int count);
+
+    @Modifying
+    @Query("""
+            UPDATE Event e
+            SET e.bookedCount = e.bookedCount - 1, e.availabilityVersion = e.availabilityVersion + 1
+            WHERE e.id = :eventId AND e.bookedCount > 0
+            """)
+    int decrementBookedCount(Long eventId);
+
+    @Query("SELECT e.availabilityVersion FROM Event e WHERE e.id = :eventId")
+    long findAvailabilityVersionById(Long eventId);
+
+    // Empty for missing and private events, which the share endpoints reject anyway
+    @Query("SELECT e.availabilityVersion FROM Event e WHERE e.shareableId = :shareableId AND e.rules.isPublic = true")
+    Optional<Long> findPublicAvailabilityVersion(String shareableId);
+
+    // Events whose counter differs from the one-seat bookings on the slots table plus the seats in slot_attendees,
+    // read without locks so the reconciler can lock and repair them one at a time
+    @Query("""
+            SELECT e.id FROM Event e
+            WHERE e.bookedCount <> (SELECT COUNT(s) FROM Slot s WHERE s.event = e AND s.bookedByEmail IS NOT NULL)
+                    + (SELECT COUNT(a) FROM SlotAttendee a WHERE a.event = e)
+            """)
+    List<Long> findIdsWithBookedCountDrift();
+
+    // Resets one event's counter from its bookings, returns 0 when it was already right. Run under the event row
+    // lock, so no booking on the event commits while the bookings are counted
+    @Modifying
+    @Query("""
+            UPDATE Event e
+            SET e.bookedCount = (SELECT COUNT(s) FROM Slot s WHERE s.event = e AND s.bookedByEmail IS NOT NULL)
+                    + (SELECT COUNT(a) FROM SlotAttendee a WHERE a.event = e)
+            WHERE e.id = :eventId
+                    AND e.bookedCount <> (SELECT COUNT(s) FROM Slot s WHERE s.event = e AND s.bookedByEmail IS NOT NULL)
+                    + (SELECT COUNT(a) FROM SlotAttendee a WHERE a.event = e)
+            """)
+    int reconcileBookedCount(Long eventId);
+
 }
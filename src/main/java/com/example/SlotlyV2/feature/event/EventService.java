@@ -1,7 +1,11 @@
 package com.example.SlotlyV2.feature.event;
 
+import java.time.Instant;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Stream;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
@@ -16,6 +20,9 @@ import com.example.SlotlyV2.feature.email.dto.EventCancelledEmailDTO;
 import com.example.SlotlyV2.feature.email.event.EventCancelledEvent;
 import com.example.SlotlyV2.feature.event.dto.EventRequest;
 import com.example.SlotlyV2.feature.event.dto.EventResponse;
+import com.example.SlotlyV2.feature.event.dto.FreeBusyResponse;
+import com.example.SlotlyV2.feature.slot.Slot;
+import com.example.SlotlyV2.feature.slot.SlotAttendeeRepository;
 import com.example.SlotlyV2.feature.slot.SlotService;
 import com.example.SlotlyV2.feature.user.User;
 import com.example.SlotlyV2.feature.user.UserService;
@@ -30,6 +37,8 @@ import lombok.extern.slf4j.Slf4j;
 public class EventService {
     private final EventRepository eventRepository;
     private final SlotService slotService;
+    private final SlotAttendeeRepository slotAttendeeRepository;
+    private final HostSchedule hostSchedule;
     private final UserService userService;
     private final ApplicationEventPublisher eventPublisher;
 
@@ -50,6 +59,10 @@ public class EventService {
             throw new InvalidEventException("Event must start in the future");
         }
 
+        // Reject events overlapping another event of the host
+        hostSchedule.reserve(host.getId(),
+                new TimeRange(request.getEventStart(), request.getEventEnd(), request.getTimeZone()));
+
         // Creat the Event
         Event event = new Event();
         event.setEventName(request.getEventName());
@@ -64,6 +77,7 @@ public class EventService {
         rules.setMaxSlotsPerUser(request.getRules().getMaxSlotsPerUser());
         rules.setAllowsCancellations(request.getRules().getAllowsCancellations());
         rules.setIsPublic(request.getRules().getIsPublic());
+        rules.setSeatsPerSlot(request.getRules().getSeatsPerSlot());
 
         event.setRules(rules);
 
@@ -74,16 +88,24 @@ public class EventService {
         return savedEvent;
     }
 
-    public Page<EventResponse> getEvents(User host, Pageable pageable) {
-        return eventRepository.findByHost(host, pageable)
+    public Page<EventResponse> getEvents(Long hostId, Pageable pageable) {
+        return eventRepository.findByHostId(hostId, pageable)
                 .map(EventResponse::new);
     }
 
+    public FreeBusyResponse getFreeBusy(Instant from, Instant to) {
+        if (!to.isAfter(from)) {
+            throw new InvalidEventException("The end of the range must be after its start");
+        }
+
+        return new FreeBusyResponse(from, to, hostSchedule.getBusyTime(userService.getCurrentUserId(), from, to));
+    }
+
     public Event getEventById(Long id) {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new EventNotFoundException("Event Not Found with Id " + id));
 
-        if (!event.getHost().getId().equals(userService.getCurrentUser().getId())) {
+        if (!event.getHost().getId().equals(userService.getCurrentUserId())) {
             throw new UnauthorizedAccessException("You are not authorized to access other user's event");
         }
 
@@ -95,30 +117,26 @@ public class EventService {
         Event event = eventRepository.findById(id)
                 .orElseThrow(() -> new EventNotFoundException("Event Not Found"));
 
-        if (!event.getHost().getId().equals(userService.getCurrentUser().getId())) {
+        if (!event.getHost().getId().equals(userService.getCurrentUserId())) {
             throw new UnauthorizedAccessException("You are not authorized to delete other user's event");
         }
 
+        // One-seat bookings are on the slot rows, seats of group slots in slot_attendees, unbooked slots have neither
+        List<String> attendeeEmails = Stream.concat(
+                event.getSlots().stream().map(Slot::getBookedByEmail),
+                slotAttendeeRepository.findAttendeeEmailsByEventId(event.getId()).stream())
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+
         EventCancelledEmailDTO data = new EventCancelledEmailDTO(
                 event.getId(),
+                event.getShareableId(),
                 event.getEventName(),
-                event.getSlots().stream()
-                        .map(slot -> slot.getBookedByEmail())
-                        .toList());
+                attendeeEmails);
 
         eventRepository.delete(event);
+        hostSchedule.evictAfterCommit(event.getHost().getId());
         eventPublisher.publishEvent(new EventCancelledEvent(data));
     }
-
-    public Event getEventByShareableId(String shareableId) {
-        Event event = eventRepository.findByShareableId(shareableId)
-                .orElseThrow(() -> new EventNotFoundException("Event Not Found"));
-
-        if (!event.getRules().getIsPublic()) {
-            throw new UnauthorizedAccessException("You are not authorized to access this event");
-        }
-
-        return event;
-    }
-
 }
@@ -0,0 +1,95 @@
+package com.example.SlotlyV2.feature.event;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+// One host's busy time in memory: the windows of all their events merged into disjoint intervals, keyed by
+// start. Built in O(n log n) by sorting the windows once. Because the intervals are disjoint, only the last
+// one starting before a range ends can overlap it, so an overlap check is one O(log n) lookup and a range
+// query is that lookup plus the intervals it returns.
+public class HostBusyTime {
+    private final NavigableMap<Instant, Instant> intervals = new TreeMap<>();
+
+    public static HostBusyTime of(List<TimeRange> windows) {
+        HostBusyTime busyTime = new HostBusyTime();
+
+        Instant start = null;
+        Instant end = null;
+        for (TimeRange window : windows.stream().sorted(Comparator.comparing(TimeRange::getStart)).toList()) {
+            if (end != null && !window.getStart().isAfter(end)) {
+                end = latest(end, window.getEnd());
+                continue;
+            }
+
+            if (start != null) {
+                busyTime.intervals.put(start, end);
+            }
+            start = window.getStart();
+            end = window.getEnd();
+        }
+
+        if (start != null) {
+            busyTime.intervals.put(start, end);
+        }
+        return busyTime;
+    }
+
+    public synchronized boolean overlaps(Instant start, Instant end) {
+        Map.Entry<Instant, Instant> last = intervals.lowerEntry(end);
+        return last != null && last.getValue().isAfter(start);
+    }
+
+    // Adds the window unless it overlaps busy time, as one step so two events of the host cannot both pass
+    public synchronized boolean addIfFree(TimeRange window) {
+        if (overlaps(window.getStart(), window.getEnd())) {
+            return false;
+        }
+
+        Instant start = window.getStart();
+        Instant end = window.getEnd();
+
+        // Joins the intervals it touches, keeping them disjoint
+        Map.Entry<Instant, Instant> before = intervals.floorEntry(start);
+        if (before != null && before.getValue().equals(start)) {
+            start = before.getKey();
+        }
+        Instant after = intervals.remove(end);
+        if (after != null) {
+            end = after;
+        }
+
+        intervals.put(start, end);
+        return true;
+    }
+
+    // The busy intervals within the range, clipped to it
+    public synchronized List<TimeRange> between(Instant from, Instant to) {
+        Instant first = intervals.floorKey(from);
+        List<TimeRange> busy = new ArrayList<>();
+
+        for (Map.Entry<Instant, Instant> interval : intervals.subMap(first != null ? first : from, true, to, false)
+                .entrySet()) {
+            if (interval.getValue().isAfter(from)) {
+                busy.add(new TimeRange(latest(interval.getKey(), from), earliest(interval.getValue(), to)));
+            }
+        }
+        return busy;
+    }
+
+    public synchronized int size() {
+        return intervals.size();
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private static Instant earliest(Instant a, Instant b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.SlotlyV2.feature.event;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.SlotlyV2.common.exception.event.OverlappingEventException;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import lombok.RequiredArgsConstructor;
+
+// In-memory busy time per host, like the waitlists: read from the events table on first use, then kept
+// current by the events created on this instance. Events created on other instances show up when the entry
+// expires. Merged intervals cannot be split again, so a deleted event or a rolled back creation drops the
+// host's entry instead.
+@Component
+@RequiredArgsConstructor
+public class HostSchedule {
+    private final Cache<Long, HostBusyTime> hostBusyTimeCache;
+    private final EventRepository eventRepository;
+
+    // Takes the window inside the caller's transaction, or rejects it when another event of the host overlaps
+    public void reserve(Long hostId, TimeRange window) {
+        if (!busyTime(hostId).addIfFree(window)) {
+            throw new OverlappingEventException("You already have an event that overlaps this time");
+        }
+
+        evictAfterCompletion(hostId, false);
+    }
+
+    public List<TimeRange> getBusyTime(Long hostId, Instant from, Instant to) {
+        return busyTime(hostId).between(from, to);
+    }
+
+    public void evictAfterCommit(Long hostId) {
+        evictAfterCompletion(hostId, true);
+    }
+
+    private HostBusyTime busyTime(Long hostId) {
+        return hostBusyTimeCache.get(hostId, id -> HostBusyTime.of(eventRepository.findEventWindowsByHostId(id)));
+    }
+
+    private void evictAfterCompletion(Long hostId, boolean onCommit) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if ((status == STATUS_COMMITTED) == onCommit) {
+                    hostBusyTimeCache.invalidate(hostId);
+                }
+            }
+        });
+    }
+}
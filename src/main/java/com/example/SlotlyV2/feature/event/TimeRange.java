@@ -0,0 +1,26 @@
+package com.example.SlotlyV2.feature.event;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import lombok.Value;
+
+// A stretch of time on the timeline, such as a host's busy or free time
+@Value
+public class TimeRange {
+    private Instant start;
+    private Instant end;
+
+    public TimeRange(Instant start, Instant end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    // An event's window, also the projection EventRepository.findEventWindowsByHostId reads
+    public TimeRange(LocalDateTime eventStart, LocalDateTime eventEnd, String timeZone) {
+        ZoneId zone = ZoneId.of(timeZone);
+        this.start = eventStart.atZone(zone).toInstant();
+        this.end = eventEnd.atZone(zone).toInstant();
+    }
+}
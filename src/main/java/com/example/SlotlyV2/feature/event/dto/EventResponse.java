@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 
 import com.example.SlotlyV2.feature.availability.AvailabilityRulesDTO;
 import com.example.SlotlyV2.feature.event.Event;
+import com.example.SlotlyV2.feature.slot.SlotGrid;
 import com.example.SlotlyV2.feature.user.dto.UserResponse;
 
 import lombok.Value;
@@ -35,6 +36,7 @@ public class EventResponse {
                 .maxSlotsPerUser(event.getRules().getMaxSlotsPerUser())
                 .allowsCancellations(event.getRules().getAllowsCancellations())
                 .isPublic(event.getRules().getIsPublic())
+                .seatsPerSlot(SlotGrid.seatsPerSlot(event))
                 .build();
         this.shareableId = event.getShareableId();
     }
@@ -0,0 +1,36 @@
+package com.example.SlotlyV2.feature.event.dto;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.example.SlotlyV2.feature.event.TimeRange;
+
+import lombok.Value;
+
+@Value
+public class FreeBusyResponse {
+    private Instant from;
+    private Instant to;
+    private List<TimeRange> busy;
+    private List<TimeRange> free;
+
+    // The busy intervals are disjoint and sorted, the free ones are the gaps between them
+    public FreeBusyResponse(Instant from, Instant to, List<TimeRange> busy) {
+        this.from = from;
+        this.to = to;
+        this.busy = busy;
+        this.free = new ArrayList<>();
+
+        Instant freeFrom = from;
+        for (TimeRange interval : busy) {
+            if (interval.getStart().isAfter(freeFrom)) {
+                free.add(new TimeRange(freeFrom, interval.getStart()));
+            }
+            freeFrom = interval.getEnd();
+        }
+        if (to.isAfter(freeFrom)) {
+            free.add(new TimeRange(freeFrom, to));
+        }
+    }
+}
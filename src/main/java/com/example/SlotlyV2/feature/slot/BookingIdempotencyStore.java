@@ -0,0 +1,77 @@
+package com.example.SlotlyV2.feature.slot;
+
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.example.SlotlyV2.common.exception.slot.IdempotencyKeyReusedException;
+import com.example.SlotlyV2.common.exception.slot.InvalidSlotException;
+import com.example.SlotlyV2.feature.slot.dto.SlotRequest;
+import com.example.SlotlyV2.feature.slot.dto.SlotResponse;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Remembers the result of recent bookings by Idempotency-Key, so a client retrying after a timeout gets
+// the original booking back instead of running another transaction. A retry that arrives while the
+// first attempt is still running waits for it.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookingIdempotencyStore {
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final AsyncCache<String, IdempotentBooking> bookingIdempotencyCache;
+
+    public SlotResponse execute(String idempotencyKey, SlotRequest request, Supplier<SlotResponse> booking) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidSlotException("Idempotency-Key must be between 1 and 255 characters");
+        }
+
+        // Scoped to the attendee, so clients cannot collide on or probe each other's keys
+        String key = request.getAttendeeEmail().toLowerCase(Locale.ROOT) + ":" + idempotencyKey;
+
+        while (true) {
+            CompletableFuture<IdempotentBooking> attempt = new CompletableFuture<>();
+            CompletableFuture<IdempotentBooking> previous = bookingIdempotencyCache.asMap().putIfAbsent(key,
+                    attempt);
+
+            if (previous == null) {
+                return run(key, attempt, request, booking);
+            }
+
+            IdempotentBooking result;
+            try {
+                result = previous.join();
+            } catch (CompletionException e) {
+                // The earlier attempt failed and nothing was stored, so this one runs the booking itself
+                continue;
+            }
+
+            if (!result.getRequest().equals(request)) {
+                throw new IdempotencyKeyReusedException("Idempotency-Key was already used for a different booking");
+            }
+
+            log.debug("Replaying booking for idempotency key {}", idempotencyKey);
+            return result.getResponse();
+        }
+    }
+
+    private SlotResponse run(String key, CompletableFuture<IdempotentBooking> attempt, SlotRequest request,
+            Supplier<SlotResponse> booking) {
+        try {
+            SlotResponse response = booking.get();
+            attempt.complete(new IdempotentBooking(request, response));
+            return response;
+        } catch (RuntimeException e) {
+            // Failed bookings rolled back, forget them so the client can retry with the same key
+            bookingIdempotencyCache.asMap().remove(key, attempt);
+            attempt.completeExceptionally(e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.SlotlyV2.feature.slot;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.example.SlotlyV2.common.dto.CursorPage;
+import com.example.SlotlyV2.feature.event.Event;
+import com.example.SlotlyV2.feature.event.dto.EventResponse;
+import com.example.SlotlyV2.feature.slot.dto.EventSlotsResponse;
+import com.example.SlotlyV2.feature.slot.dto.SlotResponse;
+import com.example.SlotlyV2.feature.slot.dto.SlotSummary;
+
+// Immutable snapshot of one event's slot grid: bit i is set when slot i is booked.
+// Updates return a copy, so readers never need a lock.
+public final class EventAvailability {
+    private final EventResponse event;
+    private final long version;
+    private final int slotCount;
+    private final BitSet booked;
+
+    // The event's availability version must be read before the booked start times, so the bits are never
+    // older than the version they are tagged with
+    public EventAvailability(Event event, List<LocalDateTime> bookedStartTimes) {
+        this.event = new EventResponse(event);
+        this.version = event.getAvailabilityVersion();
+        this.slotCount = SlotGrid.slotCount(event);
+        this.booked = new BitSet(slotCount);
+
+        for (LocalDateTime startTime : bookedStartTimes) {
+            int index = SlotGrid.indexOf(event, startTime);
+            if (index >= 0) {
+                booked.set(index);
+            }
+        }
+    }
+
+    private EventAvailability(EventResponse event, long version, int slotCount, BitSet booked) {
+        this.event = event;
+        this.version = version;
+        this.slotCount = slotCount;
+        this.booked = booked;
+    }
+
+    public EventResponse getEvent() {
+        return event;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isPublic() {
+        return event.getRules().getIsPublic();
+    }
+
+    // Applies the change that produced newVersion. Returns null when changes in between were
+    // missed (out of order, or made on another instance), the snapshot must then be rebuilt.
+    public EventAvailability withBooked(LocalDateTime startTime, boolean isBooked, long newVersion) {
+        return withBooked(List.of(startTime), isBooked, newVersion);
+    }
+
+    // A batch booking changes several slots under one version
+    public EventAvailability withBooked(Collection<LocalDateTime> startTimes, boolean isBooked, long newVersion) {
+        return isBooked ? withBooked(startTimes, List.of(), newVersion) : withBooked(List.of(), startTimes, newVersion);
+    }
+
+    // A batch of seats in group slots books the slots that became full and leaves the others bookable
+    public EventAvailability withBooked(Collection<LocalDateTime> bookedStartTimes,
+            Collection<LocalDateTime> availableStartTimes, long newVersion) {
+        if (newVersion <= version) {
+            return this;
+        }
+        if (newVersion > version + 1) {
+            return null;
+        }
+
+        BitSet updated = (BitSet) booked.clone();
+        set(updated, bookedStartTimes, true);
+        set(updated, availableStartTimes, false);
+        return new EventAvailability(event, newVersion, slotCount, updated);
+    }
+
+    private void set(BitSet bits, Collection<LocalDateTime> startTimes, boolean isBooked) {
+        for (LocalDateTime startTime : startTimes) {
+            int index = indexOf(startTime);
+            if (index >= 0) {
+                bits.set(index, isBooked);
+            }
+        }
+    }
+
+    public boolean isSlotStart(LocalDateTime startTime) {
+        return indexOf(startTime) >= 0;
+    }
+
+    public boolean isBooked(LocalDateTime startTime) {
+        int index = indexOf(startTime);
+        return index >= 0 && booked.get(index);
+    }
+
+    // Free slots starting in [from, to) and after the cursor's start time, if any. Held slots are left out.
+    public CursorPage<SlotResponse> availableSlots(LocalDateTime from, LocalDateTime to, LocalDateTime after,
+            int limit, Set<LocalDateTime> held) {
+        BitSet unavailable = withHeld(held);
+        int duration = slotDurationMinutes();
+        int first = firstIndexAtOrAfter(from);
+        if (after != null) {
+            first = Math.max(first, firstIndexAtOrAfter(after.plusNanos(1)));
+        }
+        int end = firstIndexAtOrAfter(to);
+
+        List<SlotResponse> slots = new ArrayList<>();
+        for (int i = unavailable.nextClearBit(first); i < end && slots.size() <= limit;
+                i = unavailable.nextClearBit(i + 1)) {
+            LocalDateTime startTime = event.getEventStart().plusMinutes((long) i * duration);
+            slots.add(new SlotResponse(event, startTime, startTime.plusMinutes(duration)));
+        }
+
+        return CursorPage.of(slots, limit, slot -> new SlotCursor(slot.getStartTime(), null).encode());
+    }
+
+    public EventSlotsResponse availableSlotSummaries(Set<LocalDateTime> held) {
+        BitSet unavailable = withHeld(held);
+        int duration = slotDurationMinutes();
+        List<SlotSummary> slots = new ArrayList<>(slotCount - unavailable.cardinality());
+
+        for (int i = unavailable.nextClearBit(0); i < slotCount; i = unavailable.nextClearBit(i + 1)) {
+            LocalDateTime startTime = event.getEventStart().plusMinutes((long) i * duration);
+            slots.add(new SlotSummary(startTime, startTime.plusMinutes(duration), false));
+        }
+
+        return new EventSlotsResponse(event, slots);
+    }
+
+    private BitSet withHeld(Set<LocalDateTime> held) {
+        if (held.isEmpty()) {
+            return booked;
+        }
+
+        BitSet unavailable = (BitSet) booked.clone();
+        for (LocalDateTime startTime : held) {
+            int index = indexOf(startTime);
+            if (index >= 0) {
+                unavailable.set(index);
+            }
+        }
+        return unavailable;
+    }
+
+    private int indexOf(LocalDateTime startTime) {
+        return SlotGrid.indexOf(event.getEventStart(), slotDurationMinutes(), slotCount, startTime);
+    }
+
+    private int firstIndexAtOrAfter(LocalDateTime time) {
+        return SlotGrid.firstIndexAtOrAfter(event.getEventStart(), slotDurationMinutes(), slotCount, time);
+    }
+
+    private int slotDurationMinutes() {
+        return event.getRules().getSlotDurationMinutes();
+    }
+}
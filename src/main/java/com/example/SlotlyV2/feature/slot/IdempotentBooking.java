@@ -0,0 +1,13 @@
+package com.example.SlotlyV2.feature.slot;
+
+import com.example.SlotlyV2.feature.slot.dto.SlotRequest;
+import com.example.SlotlyV2.feature.slot.dto.SlotResponse;
+
+import lombok.Value;
+
+// The request is kept so a key replayed with a different body can be told apart from a retry
+@Value
+public class IdempotentBooking {
+    private SlotRequest request;
+    private SlotResponse response;
+}
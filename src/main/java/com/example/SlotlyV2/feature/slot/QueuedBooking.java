@@ -0,0 +1,41 @@
+package com.example.SlotlyV2.feature.slot;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.example.SlotlyV2.feature.slot.dto.SlotRequest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// One caller's booking in a per-event queue. The batch records its outcome, and the caller only sees it
+// once the batch's transaction has committed
+@Getter
+@RequiredArgsConstructor
+public class QueuedBooking {
+    private final SlotRequest request;
+    private final CompletableFuture<Slot> result = new CompletableFuture<>();
+    private Slot slot;
+    private RuntimeException failure;
+
+    void succeed(Slot slot) {
+        this.slot = slot;
+        this.failure = null;
+    }
+
+    void fail(RuntimeException failure) {
+        this.slot = null;
+        this.failure = failure;
+    }
+
+    boolean isBooked() {
+        return slot != null;
+    }
+
+    void complete() {
+        if (failure != null) {
+            result.completeExceptionally(failure);
+        } else {
+            result.complete(slot);
+        }
+    }
+}
@@ -1,7 +1,10 @@
 package com.example.SlotlyV2.feature.slot;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import com.example.SlotlyV2.feature.event.Event;
 
 import jakarta.persistence.Column;
@@ -10,9 +13,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -24,11 +31,20 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "slots")
+@Table(name = "slots", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_slots_event_start_time", columnNames = { "event_id", "start_time" })
+}, indexes = {
+        @Index(name = "idx_slots_booked_by_email_start_time", columnList = "booked_by_email, start_time, id"),
+        @Index(name = "idx_slots_event_booked_by_email", columnList = "event_id, booked_by_email"),
+        @Index(name = "idx_slots_booked_by_email_end_instant", columnList = "booked_by_email, end_instant")
+})
 public class Slot {
+    // Ids handed out per slots_seq round trip, app.slots.generation-batch-size is checked against it on startup
+    public static final int ID_ALLOCATION_SIZE = 50;
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "slots_seq")
+    @SequenceGenerator(name = "slots_seq", sequenceName = "slots_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Version
@@ -44,6 +60,13 @@ public class Slot {
     @Column(name = "end_time")
     private LocalDateTime endTime;
 
+    // Start and end on the timeline, so slots of events in different time zones can be compared
+    @Column(name = "start_instant")
+    private Instant startInstant;
+
+    @Column(name = "end_instant")
+    private Instant endInstant;
+
     // Doesn't need logged in user
     @Column(name = "booked_by_name")
     private String bookedByName;
@@ -53,8 +76,41 @@ public class Slot {
 
     private LocalDateTime bookedAt;
 
+    // Seats of a group slot. A one-seat slot keeps its attendee in the columns above, a group slot only counts
+    // its seats here and keeps its attendees in slot_attendees.
+    @Column(name = "capacity", nullable = false)
+    @ColumnDefault("1")
+    private Integer capacity = 1;
+
+    // Claimed and released by guarded updates in SlotRepository
+    @Column(name = "seats_taken", nullable = false)
+    @ColumnDefault("0")
+    private Integer seatsTaken = 0;
+
+    @PrePersist
+    private void onCreate() {
+        startInstant = SlotGrid.instantOf(event, startTime);
+        endInstant = SlotGrid.instantOf(event, endTime);
+    }
+
+    public boolean hasSeats() {
+        return capacity > 1;
+    }
+
     public boolean isAvailable() {
+        if (hasSeats()) {
+            return seatsTaken < capacity;
+        }
+
         return bookedByEmail == null && bookedByName == null;
     }
 
+    public int getSeatsLeft() {
+        if (hasSeats()) {
+            return capacity - seatsTaken;
+        }
+
+        return isAvailable() ? 1 : 0;
+    }
+
 }
@@ -0,0 +1,77 @@
+package com.example.SlotlyV2.feature.slot;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import com.example.SlotlyV2.feature.event.Event;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// One taken seat of a group slot. The slot row only keeps the count, so listings never read these rows.
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "slot_attendees", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_slot_attendees_slot_email", columnNames = { "slot_id", "attendee_email" })
+}, indexes = {
+        @Index(name = "idx_slot_attendees_event_email", columnList = "event_id, attendee_email"),
+        @Index(name = "idx_slot_attendees_email_end_instant", columnList = "attendee_email, end_instant")
+})
+public class SlotAttendee {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "slot_attendees_seq")
+    @SequenceGenerator(name = "slot_attendees_seq", sequenceName = "slot_attendees_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "slot_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Slot slot;
+
+    // Copied from the slot so an attendee's seats in an event are counted without a join
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Event event;
+
+    // Copied from the slot as well, for the attendee's overlap check
+    @Column(name = "start_instant")
+    private Instant startInstant;
+
+    @Column(name = "end_instant")
+    private Instant endInstant;
+
+    @Column(name = "attendee_name", nullable = false)
+    private String attendeeName;
+
+    @Column(name = "attendee_email", nullable = false)
+    private String attendeeEmail;
+
+    private LocalDateTime bookedAt;
+
+    public static SlotAttendee of(Slot slot, String attendeeName, String attendeeEmail, LocalDateTime bookedAt) {
+        return new SlotAttendee(null, slot, slot.getEvent(), slot.getStartInstant(), slot.getEndInstant(),
+                attendeeName, attendeeEmail, bookedAt);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.SlotlyV2.feature.slot;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface SlotAttendeeRepository extends JpaRepository<SlotAttendee, Long> {
+
+    // Served by uk_slot_attendees_slot_email
+    Optional<SlotAttendee> findBySlotIdAndAttendeeEmail(Long slotId, String attendeeEmail);
+
+    boolean existsBySlotIdAndAttendeeEmail(Long slotId, String attendeeEmail);
+
+    // Served by idx_slot_attendees_event_email
+    long countByEventIdAndAttendeeEmail(Long eventId, String attendeeEmail);
+
+    // Served by idx_slot_attendees_event_email
+    @Query("SELECT a.attendeeEmail FROM SlotAttendee a WHERE a.event.id = :eventId")
+    List<String> findAttendeeEmailsByEventId(Long eventId);
+
+    // Same seek as SlotRepository.findStartsOfBookingsEndingAfter, on idx_slot_attendees_email_end_instant
+    @Query("""
+            SELECT a.startInstant FROM SlotAttendee a
+            WHERE a.attendeeEmail = :email AND a.endInstant > :after
+            ORDER BY a.attendeeEmail, a.endInstant
+            """)
+    List<Instant> findStartsOfBookingsEndingAfter(String email, Instant after, Limit limit);
+}
@@ -0,0 +1,152 @@
+package com.example.SlotlyV2.feature.slot;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.example.SlotlyV2.common.config.SlotProperties;
+import com.example.SlotlyV2.common.dto.CursorPage;
+import com.example.SlotlyV2.common.exception.auth.UnauthorizedAccessException;
+import com.example.SlotlyV2.common.exception.event.EventNotFoundException;
+import com.example.SlotlyV2.common.exception.slot.InvalidSlotException;
+import com.example.SlotlyV2.common.exception.slot.SlotAlreadyBookedException;
+import com.example.SlotlyV2.common.exception.slot.SlotNotFoundException;
+import com.example.SlotlyV2.feature.event.Event;
+import com.example.SlotlyV2.feature.event.EventRepository;
+import com.example.SlotlyV2.feature.event.dto.EventResponse;
+import com.example.SlotlyV2.feature.slot.dto.EventSlotsResponse;
+import com.example.SlotlyV2.feature.slot.dto.SlotHoldRequest;
+import com.example.SlotlyV2.feature.slot.dto.SlotPageRequest;
+import com.example.SlotlyV2.feature.slot.dto.SlotResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Serves the public share endpoints (event header and free slots) from memory. Entries are built on
+// first read and kept current by the booking listeners, the cache itself is an LRU over events.
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SlotAvailabilityIndex {
+    private final Cache<String, EventAvailability> slotAvailabilityCache;
+    private final EventRepository eventRepository;
+    private final SlotRepository slotRepository;
+    private final SlotProperties slotProperties;
+    private final SlotHoldRegistry slotHoldRegistry;
+
+    public CursorPage<SlotResponse> getAvailableSlots(String shareableId, SlotPageRequest page) {
+        LocalDateTime after = page.getCursor() != null ? SlotCursor.decode(page.getCursor()).getStartTime() : null;
+
+        int limit = slotProperties.resolvePageSize(page.getLimit(), page.isPaged());
+
+        return getPublicAvailability(shareableId).availableSlots(page.fromOrEarliest(), page.toOrLatest(), after,
+                limit, slotHoldRegistry.getHeldStartTimes(shareableId));
+    }
+
+    public EventResponse getPublicEvent(String shareableId) {
+        return getPublicAvailability(shareableId).getEvent();
+    }
+
+    public EventSlotsResponse getAvailableSlotSummaries(String shareableId) {
+        return getPublicAvailability(shareableId)
+                .availableSlotSummaries(slotHoldRegistry.getHeldStartTimes(shareableId));
+    }
+
+    // Checkout hold on a free slot of a public event, checked against the index without touching the database
+    public SlotHold holdSlot(String shareableId, SlotHoldRequest request) {
+        EventAvailability availability = getPublicAvailability(shareableId);
+        LocalDateTime startTime = request.getStartTime();
+
+        if (!availability.isSlotStart(startTime)) {
+            throw new SlotNotFoundException("Slot Not Found");
+        }
+
+        ZoneId zone = ZoneId.of(availability.getEvent().getTimeZone());
+        if (startTime.atZone(zone).isBefore(ZonedDateTime.now(zone))) {
+            throw new InvalidSlotException("Cannot hold a past slot");
+        }
+
+        if (availability.isBooked(startTime)) {
+            throw new SlotAlreadyBookedException("This slot is already booked. Please choose another slot");
+        }
+
+        // A hold is on the whole slot, it would keep every other attendee away from a group session
+        if (availability.getEvent().getRules().getSeatsPerSlot() > 1) {
+            throw new InvalidSlotException("Seats of group slots cannot be held, please book one instead");
+        }
+
+        return slotHoldRegistry.hold(shareableId, startTime, request.getAttendeeEmail(), request.getHoldToken(),
+                request.getHoldSeconds(), availability.getEvent().getRules().getMaxSlotsPerUser());
+    }
+
+    // ETag of the share slot listings, which change with bookings and with holds
+    public Optional<String> getSlotsETag(String shareableId) {
+        return getAvailabilityVersion(shareableId).map(version -> slotHoldRegistry.tag(shareableId, version));
+    }
+
+    // Served from the cached entry when there is one, otherwise from the event row without loading any slots
+    public Optional<Long> getAvailabilityVersion(String shareableId) {
+        EventAvailability availability = slotAvailabilityCache.getIfPresent(shareableId);
+        if (availability != null) {
+            return availability.isPublic() ? Optional.of(availability.getVersion()) : Optional.empty();
+        }
+
+        return eventRepository.findPublicAvailabilityVersion(shareableId);
+    }
+
+    public void markBooked(String shareableId, LocalDateTime startTime, long availabilityVersion) {
+        update(shareableId, List.of(startTime), true, availabilityVersion);
+    }
+
+    public void markBooked(String shareableId, Collection<LocalDateTime> startTimes, long availabilityVersion) {
+        update(shareableId, startTimes, true, availabilityVersion);
+    }
+
+    public void markAvailable(String shareableId, LocalDateTime startTime, long availabilityVersion) {
+        update(shareableId, List.of(startTime), false, availabilityVersion);
+    }
+
+    // A booking that takes a seat of a group slot leaves the slot bookable until its last seat is gone
+    public void markBooked(String shareableId, Collection<LocalDateTime> full, Collection<LocalDateTime> notFull,
+            long availabilityVersion) {
+        slotAvailabilityCache.asMap().computeIfPresent(shareableId,
+                (key, availability) -> availability.withBooked(full, notFull, availabilityVersion));
+    }
+
+    public void evict(String shareableId) {
+        slotAvailabilityCache.invalidate(shareableId);
+    }
+
+    private EventAvailability getPublicAvailability(String shareableId) {
+        EventAvailability availability = slotAvailabilityCache.get(shareableId, this::load);
+
+        if (!availability.isPublic()) {
+            throw new UnauthorizedAccessException("Event is private");
+        }
+
+        return availability;
+    }
+
+    private void update(String shareableId, Collection<LocalDateTime> startTimes, boolean booked,
+            long availabilityVersion) {
+        // Blocks on an in-flight load of the same event, so a booking committed mid-load is still applied.
+        // A null result (missed versions) drops the entry.
+        slotAvailabilityCache.asMap().computeIfPresent(shareableId,
+                (key, availability) -> availability.withBooked(startTimes, booked, availabilityVersion));
+    }
+
+    private EventAvailability load(String shareableId) {
+        Event event = eventRepository.findByShareableId(shareableId)
+                .orElseThrow(() -> new EventNotFoundException("Event Not Found"));
+
+        log.debug("Building availability index for event: {}", event.getId());
+
+        return new EventAvailability(event, slotRepository.findBookedStartTimesByEvent(event));
+    }
+}
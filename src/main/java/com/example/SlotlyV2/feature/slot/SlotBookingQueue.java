@@ -0,0 +1,143 @@
+package com.example.SlotlyV2.feature.slot;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import com.example.SlotlyV2.common.config.SlotProperties;
+import com.example.SlotlyV2.common.config.SlotProperties.BookingMode;
+import com.example.SlotlyV2.feature.slot.dto.SlotRequest;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// Entry point for single bookings. In QUEUED mode every event gets one writer: bookings wait in the event's
+// queue and a virtual thread books them in batches, so concurrent attendees no longer fight over the event row.
+// The queues are per instance, the database checks still guard bookings made elsewhere.
+@Component
+@Slf4j
+public class SlotBookingQueue {
+    private final SlotService slotService;
+    private final SlotConflictRetry slotConflictRetry;
+    private final SlotProperties slotProperties;
+    private final Executor executor;
+    private final DistributionSummary batchSizes;
+
+    private final Map<Long, EventQueue> queues = new ConcurrentHashMap<>();
+
+    public SlotBookingQueue(SlotService slotService, SlotConflictRetry slotConflictRetry,
+            SlotProperties slotProperties, @Qualifier("slotBookingExecutor") Executor executor,
+            MeterRegistry meterRegistry) {
+        this.slotService = slotService;
+        this.slotConflictRetry = slotConflictRetry;
+        this.slotProperties = slotProperties;
+        this.executor = executor;
+        this.batchSizes = DistributionSummary.builder("slot.booking.queue.batch.size")
+                .description("Bookings written per queued batch")
+                .register(meterRegistry);
+    }
+
+    public Slot bookSlot(SlotRequest request) {
+        if (slotProperties.getBookingMode() != BookingMode.QUEUED) {
+            return bookOne(request);
+        }
+
+        QueuedBooking booking = new QueuedBooking(request);
+        enqueue(request.getEventId(), booking);
+
+        try {
+            return booking.getResult().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void enqueue(Long eventId, QueuedBooking booking) {
+        boolean[] start = new boolean[1];
+
+        // Adding and starting happen under the map's lock for the event, the same lock drain() gives the
+        // queue up under, so no booking lands in a queue nobody drains
+        queues.compute(eventId, (id, queue) -> {
+            EventQueue eventQueue = queue != null ? queue : new EventQueue();
+            eventQueue.pending.add(booking);
+            if (!eventQueue.draining) {
+                eventQueue.draining = true;
+                start[0] = true;
+            }
+            return eventQueue;
+        });
+
+        if (start[0]) {
+            executor.execute(() -> drain(eventId));
+        }
+    }
+
+    private void drain(Long eventId) {
+        EventQueue queue = queues.get(eventId);
+        int batchSize = slotProperties.getBookingQueueBatchSize();
+
+        while (true) {
+            List<QueuedBooking> batch = new ArrayList<>(batchSize);
+            QueuedBooking next;
+            while (batch.size() < batchSize && (next = queue.pending.poll()) != null) {
+                batch.add(next);
+            }
+
+            if (batch.isEmpty()) {
+                boolean[] idle = new boolean[1];
+                queues.computeIfPresent(eventId, (id, eventQueue) -> {
+                    idle[0] = eventQueue.pending.isEmpty();
+                    return idle[0] ? null : eventQueue;
+                });
+                if (idle[0]) {
+                    return;
+                }
+                continue;
+            }
+
+            book(eventId, batch);
+        }
+    }
+
+    private void book(Long eventId, List<QueuedBooking> batch) {
+        try {
+            slotService.bookQueued(eventId, batch);
+            batchSizes.record(batch.stream().filter(QueuedBooking::isBooked).count());
+        } catch (RuntimeException e) {
+            // The whole batch rolled back, so each booking gets its own transaction instead
+            log.warn("Queued booking batch for event {} failed, booking {} attempts one by one", eventId,
+                    batch.size(), e);
+            for (QueuedBooking booking : batch) {
+                try {
+                    booking.succeed(bookOne(booking.getRequest()));
+                } catch (RuntimeException failure) {
+                    booking.fail(failure);
+                }
+            }
+        }
+
+        batch.forEach(QueuedBooking::complete);
+    }
+
+    private Slot bookOne(SlotRequest request) {
+        return slotConflictRetry.execute("book", () -> slotService.bookSlot(request));
+    }
+
+    private static class EventQueue {
+        private final Queue<QueuedBooking> pending = new ConcurrentLinkedQueue<>();
+        // Guarded by the queues map's lock for the event
+        private boolean draining;
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.SlotlyV2.feature.slot;
+
+import java.util.function.Supplier;
+
+import org.springframework.core.retry.RetryException;
+import org.springframework.core.retry.RetryListener;
+import org.springframework.core.retry.RetryPolicy;
+import org.springframework.core.retry.RetryTemplate;
+import org.springframework.core.retry.Retryable;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import com.example.SlotlyV2.common.config.SlotProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.OptimisticLockException;
+import lombok.extern.slf4j.Slf4j;
+
+// Reruns a booking or cancellation whose transaction lost an optimistic-lock race on a slot. Each attempt is a
+// new transaction that reads the slot again, so an attempt that now fails a domain check (the slot was booked
+// meanwhile) ends the retries with that error instead of a conflict.
+@Component
+@Slf4j
+public class SlotConflictRetry {
+    private final RetryTemplate retryTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public SlotConflictRetry(SlotProperties slotProperties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        // Jitter spreads the retries of attendees who collided, so they do not collide again
+        RetryPolicy retryPolicy = RetryPolicy.builder()
+                .includes(OptimisticLockingFailureException.class, OptimisticLockException.class)
+                .maxRetries(slotProperties.getConflictRetries())
+                .delay(slotProperties.getConflictRetryDelay())
+                .jitter(slotProperties.getConflictRetryDelay().dividedBy(2))
+                .multiplier(2)
+                .maxDelay(slotProperties.getConflictRetryMaxDelay())
+                .build();
+
+        this.retryTemplate = new RetryTemplate(retryPolicy);
+        this.retryTemplate.setRetryListener(new RetryListener() {
+            @Override
+            public void beforeRetry(RetryPolicy policy, Retryable<?> retryable) {
+                meterRegistry.counter("slot.conflict.retries", "operation", retryable.getName()).increment();
+            }
+
+            // Also called for an error the policy does not retry, only conflicts mean the retries ran out
+            @Override
+            public void onRetryPolicyExhaustion(RetryPolicy policy, Retryable<?> retryable, RetryException e) {
+                if (!(e.getCause() instanceof OptimisticLockingFailureException
+                        || e.getCause() instanceof OptimisticLockException)) {
+                    return;
+                }
+                log.warn("Giving up on {} after {} optimistic-lock retries", retryable.getName(), e.getRetryCount());
+                meterRegistry.counter("slot.conflict.exhausted", "operation", retryable.getName()).increment();
+            }
+        });
+    }
+
+    public <T> T execute(String operation, Supplier<T> action) {
+        try {
+            return retryTemplate.execute(new Retryable<T>() {
+                @Override
+                public T execute() {
+                    try {
+                        return action.get();
+                    } catch (OptimisticLockingFailureException | OptimisticLockException e) {
+                        meterRegistry.counter("slot.conflicts", "operation", operation).increment();
+                        throw e;
+                    }
+                }
+
+                @Override
+                public String getName() {
+                    return operation;
+                }
+            });
+        } catch (RetryException e) {
+            // The last attempt's error, which is a domain exception unless every attempt hit a conflict
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -1,20 +1,35 @@
 package com.example.SlotlyV2.feature.slot;
 
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.SlotlyV2.common.dto.ApiResponse;
+import com.example.SlotlyV2.common.dto.CursorPage;
+import com.example.SlotlyV2.common.rate_limiting.RateLimitHelper;
+import com.example.SlotlyV2.feature.slot.dto.BatchSlotRequest;
 import com.example.SlotlyV2.feature.slot.dto.CancelBookingRequest;
+import com.example.SlotlyV2.feature.slot.dto.SlotHoldRequest;
+import com.example.SlotlyV2.feature.slot.dto.SlotPageRequest;
+import com.example.SlotlyV2.feature.slot.dto.SlotReleaseRequest;
+import com.example.SlotlyV2.feature.slot.dto.SlotRequest;
 import com.example.SlotlyV2.feature.slot.dto.SlotResponse;
-import com.example.SlotlyV2.feature.user.User;
 import com.example.SlotlyV2.feature.user.UserService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -23,46 +38,134 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class SlotController {
     private final SlotService slotService;
+    private final SlotAvailabilityIndex slotAvailabilityIndex;
+    private final SlotHoldRegistry slotHoldRegistry;
+    private final SlotBookingQueue slotBookingQueue;
+    private final SlotConflictRetry slotConflictRetry;
+    private final SlotExportService slotExportService;
+    private final SlotStreamHub slotStreamHub;
+    private final BookingIdempotencyStore bookingIdempotencyStore;
     private final UserService userService;
+    private final RateLimitHelper rateLimitHelper;
+
+    // The v1 list shape, kept for clients that send neither a cursor nor a limit
+    @GetMapping(value = "events/{eventId}/slots", params = { "!cursor", "!limit" })
+    public ApiResponse<List<SlotResponse>> getSlots(@PathVariable Long eventId, SlotPageRequest range) {
+        return new ApiResponse<>("Slots fetched successfully", getSlotPage(eventId, range).getData().getContent());
+    }
 
     @GetMapping("events/{eventId}/slots")
-    public ApiResponse<List<SlotResponse>> getSlots(@PathVariable Long eventId) {
-        List<Slot> slots = slotService.getSlots(eventId);
+    public ApiResponse<CursorPage<SlotResponse>> getSlotPage(@PathVariable Long eventId, SlotPageRequest page) {
+        CursorPage<Slot> slots = slotService.getSlots(eventId, page);
+
+        CursorPage<SlotResponse> slotResponses = slots.map(slot -> new SlotResponse(slot));
+
+        return new ApiResponse<>("Slots fetched successfully", slotResponses);
+    }
+
+    @GetMapping(value = "events/{eventId}/slots/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public StreamingResponseBody exportSlots(@PathVariable Long eventId) {
+        return slotExportService.exportSlots(eventId);
+    }
+
+    @PostMapping("slots/book")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<SlotResponse> bookSlot(@Valid @RequestBody SlotRequest request,
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey) {
+        SlotResponse bookedSlot = idempotencyKey == null
+                ? book(request)
+                : bookingIdempotencyStore.execute(idempotencyKey, request, () -> book(request));
 
-        List<SlotResponse> slotResponses = slots.stream()
+        return new ApiResponse<>("Slot booked successfully", bookedSlot);
+    }
+
+    @PostMapping("slots/book/batch")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<List<SlotResponse>> bookSlots(@Valid @RequestBody BatchSlotRequest request) {
+        rateLimitHelper.checkBookingRateLimit(request.getAttendeeEmail(), request.getStartTimes().size());
+
+        List<SlotResponse> bookedSlots = slotService.bookSlots(request).stream()
                 .map(slot -> new SlotResponse(slot))
                 .toList();
 
-        return new ApiResponse<>("Slots fetched successfully", slotResponses);
+        return new ApiResponse<>("Slots booked successfully", bookedSlots);
     }
 
     @PostMapping("slots/cancel")
     public ApiResponse<SlotResponse> cancelBooking(@Valid @RequestBody CancelBookingRequest request) {
-        Slot cancelledSlot = slotService.cancelBooking(request);
+        Slot cancelledSlot = slotConflictRetry.execute("cancel", () -> slotService.cancelBooking(request));
         return new ApiResponse<>("Slot booking cancelled successfully", new SlotResponse(cancelledSlot));
     }
 
+    @GetMapping(value = "share/{shareableId}/slots", params = { "!cursor", "!limit" })
+    public ApiResponse<List<SlotResponse>> getAvailableSlotsByShareableId(@PathVariable String shareableId,
+            SlotPageRequest range, WebRequest webRequest) {
+        ApiResponse<CursorPage<SlotResponse>> page = getAvailableSlotPageByShareableId(shareableId, range, webRequest);
+
+        return page == null ? null : new ApiResponse<>(page.getMessage(), page.getData().getContent());
+    }
+
     @GetMapping("share/{shareableId}/slots")
-    public ApiResponse<List<SlotResponse>> getAvailableSlotsByShareableId(
-            @PathVariable String shareableId) {
-        List<Slot> availableSlots = slotService.getAvailableSlotsByShareableId(shareableId);
+    public ApiResponse<CursorPage<SlotResponse>> getAvailableSlotPageByShareableId(
+            @PathVariable String shareableId, SlotPageRequest page, WebRequest webRequest) {
+        // Answers a matching If-None-Match with 304 before any slots are read
+        Optional<String> etag = slotAvailabilityIndex.getSlotsETag(shareableId);
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+            return null;
+        }
 
-        List<SlotResponse> availableSlotsResponse = availableSlots.stream()
-                .map(availableSlot -> new SlotResponse(availableSlot))
-                .toList();
+        CursorPage<SlotResponse> availableSlotsResponse = slotAvailabilityIndex.getAvailableSlots(shareableId, page);
 
         return new ApiResponse<>("Slots fetched successfully", availableSlotsResponse);
     }
 
+    @PostMapping("share/{shareableId}/slots/hold")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<SlotHold> holdSlot(@PathVariable String shareableId,
+            @Valid @RequestBody SlotHoldRequest request, HttpServletRequest httpRequest) {
+        rateLimitHelper.checkHoldRateLimit(httpRequest);
+        rateLimitHelper.checkBookingRateLimit(request.getAttendeeEmail());
+
+        return new ApiResponse<>("Slot held successfully", slotAvailabilityIndex.holdSlot(shareableId, request));
+    }
+
+    @PostMapping("share/{shareableId}/slots/release")
+    public ApiResponse<Void> releaseSlot(@PathVariable String shareableId,
+            @Valid @RequestBody SlotReleaseRequest request, HttpServletRequest httpRequest) {
+        rateLimitHelper.checkHoldRateLimit(httpRequest);
+        slotHoldRegistry.release(shareableId, request.getStartTime(), request.getHoldToken());
+
+        return new ApiResponse<>("Slot released successfully", null);
+    }
+
+    @GetMapping(value = "share/{shareableId}/slots/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamAvailabilityChanges(@PathVariable String shareableId) {
+        return slotStreamHub.subscribe(shareableId);
+    }
+
+    @GetMapping(value = "users/me/bookings", params = { "!cursor", "!limit" })
+    public ApiResponse<List<SlotResponse>> getBookedSlots(SlotPageRequest range) {
+        return new ApiResponse<>("Booked Slots fetched successfully", getBookedSlotPage(range).getData().getContent());
+    }
+
     @GetMapping("users/me/bookings")
-    public ApiResponse<List<SlotResponse>> getBookedSlots() {
-        User currentUser = userService.getCurrentUser();
-        List<Slot> slots = slotService.getBookedSlots(currentUser);
+    public ApiResponse<CursorPage<SlotResponse>> getBookedSlotPage(SlotPageRequest page) {
+        String email = userService.getAuthenticatedUser().getEmail();
+        CursorPage<Slot> slots = slotService.getBookedSlots(email, page);
 
-        List<SlotResponse> slotResponses = slots.stream()
-                .map(slot -> new SlotResponse(slot))
-                .toList();
+        CursorPage<SlotResponse> slotResponses = slots.map(slot -> new SlotResponse(slot));
 
         return new ApiResponse<>("Booked Slots fetched successfully", slotResponses);
     }
+
+    @GetMapping(value = "users/me/bookings/export", produces = MediaType.APPLICATION_JSON_VALUE)
+    public StreamingResponseBody exportBookedSlots() {
+        return slotExportService.exportBookedSlots(userService.getAuthenticatedUser().getEmail());
+    }
+
+    // Replayed retries never reach this, so they do not count against the booking rate limit
+    private SlotResponse book(SlotRequest request) {
+        rateLimitHelper.checkBookingRateLimit(request.getAttendeeEmail());
+        return new SlotResponse(slotBookingQueue.bookSlot(request));
+    }
 }
@@ -0,0 +1,42 @@
+package com.example.SlotlyV2.feature.slot;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.example.SlotlyV2.common.exception.slot.InvalidSlotException;
+
+import lombok.Value;
+
+// Keyset position in a slot listing ordered by (start_time, id), sent to clients as an opaque string
+@Value
+public class SlotCursor {
+    private LocalDateTime startTime;
+    // Null for slots without a row
+    private Long id;
+
+    public static SlotCursor of(Slot slot) {
+        return new SlotCursor(slot.getStartTime(), slot.getId());
+    }
+
+    // Resumes after every row at startTime when the cursor has no id
+    public long afterId() {
+        return id != null ? id : Long.MAX_VALUE;
+    }
+
+    public String encode() {
+        String value = id != null ? startTime + "," + id : startTime.toString();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SlotCursor decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(",", 2);
+            Long id = parts.length > 1 ? Long.valueOf(parts[1]) : null;
+            return new SlotCursor(LocalDateTime.parse(parts[0]), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidSlotException("Invalid cursor");
+        }
+    }
+}
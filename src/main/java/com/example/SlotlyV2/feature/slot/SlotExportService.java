@@ -0,0 +1,106 @@
+package com.example.SlotlyV2.feature.slot;
+
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.SlotlyV2.common.config.SlotProperties;
+import com.example.SlotlyV2.common.exception.event.EventNotFoundException;
+import com.example.SlotlyV2.feature.event.Event;
+import com.example.SlotlyV2.feature.event.EventRepository;
+import com.example.SlotlyV2.feature.slot.dto.SlotResponse;
+
+import jakarta.persistence.EntityManager;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+
+// Writes slot listings as JSON while the rows are still being read, so memory stays flat however big the
+// listing is. The body runs after the controller returns, inside its own read-only transaction.
+@Service
+public class SlotExportService {
+    private final SlotRepository slotRepository;
+    private final EventRepository eventRepository;
+    private final SlotProperties slotProperties;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public SlotExportService(SlotRepository slotRepository, EventRepository eventRepository,
+            SlotProperties slotProperties, EntityManager entityManager, ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager) {
+        this.slotRepository = slotRepository;
+        this.eventRepository = eventRepository;
+        this.slotProperties = slotProperties;
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public StreamingResponseBody exportSlots(Long eventId) {
+        // Resolved up front so a missing event is still a 404
+        Event event = eventRepository.findWithHostById(eventId)
+                .orElseThrow(() -> new EventNotFoundException("Event Not Found"));
+
+        return out -> readOnlyTransaction.executeWithoutResult(status -> writeSlots(event, out));
+    }
+
+    public StreamingResponseBody exportBookedSlots(String email) {
+        return out -> readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Slot> slots = slotRepository.streamBookedByEmail(email);
+                    JsonGenerator generator = startResponse(out, "Booked Slots exported successfully")) {
+                slots.forEach(slot -> writeSlot(generator, slot));
+                endResponse(generator);
+            }
+        });
+    }
+
+    private void writeSlots(Event event, OutputStream out) {
+        try (Stream<Slot> slots = slotRepository.streamByEventId(event.getId());
+                JsonGenerator generator = startResponse(out, "Slots exported successfully")) {
+            if (!slotProperties.isVirtual()) {
+                slots.forEach(slot -> writeSlot(generator, slot));
+            } else {
+                // Merge the stored (booked) rows into the computed grid, both ordered by start time
+                Iterator<Slot> stored = slots.iterator();
+                Slot next = stored.hasNext() ? stored.next() : null;
+
+                int slotCount = SlotGrid.slotCount(event);
+                for (int i = 0; i < slotCount; i++) {
+                    if (next != null && next.getStartTime().equals(SlotGrid.startTimeAt(event, i))) {
+                        writeSlot(generator, next);
+                        next = stored.hasNext() ? stored.next() : null;
+                    } else {
+                        generator.writePOJO(new SlotResponse(SlotGrid.virtualSlot(event, i)));
+                    }
+                }
+            }
+            endResponse(generator);
+        }
+    }
+
+    private JsonGenerator startResponse(OutputStream out, String message) {
+        JsonGenerator generator = objectMapper.createGenerator(out);
+        generator.writeStartObject();
+        generator.writeStringProperty("message", message);
+        generator.writeArrayPropertyStart("data");
+        return generator;
+    }
+
+    private void endResponse(JsonGenerator generator) {
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    private void writeSlot(JsonGenerator generator, Slot slot) {
+        generator.writePOJO(new SlotResponse(slot));
+
+        // Written rows are not needed again, keep the persistence context from growing with the stream
+        entityManager.detach(slot);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.SlotlyV2.feature.slot;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import com.example.SlotlyV2.feature.event.Event;
+
+// Index arithmetic over an event's slots: slot i starts at eventStart + i * slotDuration
+public final class SlotGrid {
+
+    private SlotGrid() {
+    }
+
+    public static int slotCount(Event event) {
+        long slotSeconds = slotSeconds(event);
+        long eventSeconds = Duration.between(event.getEventStart(), event.getEventEnd()).toSeconds();
+
+        return eventSeconds < slotSeconds ? 0 : (int) (eventSeconds / slotSeconds);
+    }
+
+    public static LocalDateTime startTimeAt(Event event, int index) {
+        return event.getEventStart().plusMinutes((long) index * event.getRules().getSlotDurationMinutes());
+    }
+
+    // Returns -1 when startTime is not the start of one of the event's slots
+    public static int indexOf(Event event, LocalDateTime startTime) {
+        return indexOf(event.getEventStart(), event.getRules().getSlotDurationMinutes(), slotCount(event), startTime);
+    }
+
+    public static int indexOf(LocalDateTime eventStart, int slotDurationMinutes, int slotCount,
+            LocalDateTime startTime) {
+        Duration offset = Duration.between(eventStart, startTime);
+        long slotSeconds = slotDurationMinutes * 60L;
+
+        if (offset.isNegative() || offset.getNano() != 0 || offset.toSeconds() % slotSeconds != 0) {
+            return -1;
+        }
+
+        long index = offset.toSeconds() / slotSeconds;
+        return index < slotCount ? (int) index : -1;
+    }
+
+    // Index of the first slot starting at or after time, slotCount when there is none
+    public static int firstIndexAtOrAfter(Event event, LocalDateTime time) {
+        return firstIndexAtOrAfter(event.getEventStart(), event.getRules().getSlotDurationMinutes(),
+                slotCount(event), time);
+    }
+
+    public static int firstIndexAtOrAfter(LocalDateTime eventStart, int slotDurationMinutes, int slotCount,
+            LocalDateTime time) {
+        if (!time.isAfter(eventStart)) {
+            return 0;
+        }
+
+        LocalDateTime lastStart = eventStart.plusMinutes((long) (slotCount - 1) * slotDurationMinutes);
+        if (slotCount == 0 || time.isAfter(lastStart)) {
+            return slotCount;
+        }
+
+        long slotNanos = slotDurationMinutes * 60_000_000_000L;
+        long offsetNanos = Duration.between(eventStart, time).toNanos();
+        return (int) ((offsetNanos + slotNanos - 1) / slotNanos);
+    }
+
+    // An unsaved, unbooked slot for the given grid position
+    public static Slot virtualSlot(Event event, int index) {
+        LocalDateTime startTime = startTimeAt(event, index);
+
+        Slot slot = new Slot();
+        slot.setEvent(event);
+        slot.setStartTime(startTime);
+        slot.setEndTime(startTime.plusMinutes(event.getRules().getSlotDurationMinutes()));
+        slot.setCapacity(seatsPerSlot(event));
+        return slot;
+    }
+
+    public static Instant instantOf(Event event, LocalDateTime time) {
+        return time.atZone(ZoneId.of(event.getTimeZone())).toInstant();
+    }
+
+    // Events created before group slots have no value, they are one-seat events
+    public static int seatsPerSlot(Event event) {
+        Integer seatsPerSlot = event.getRules().getSeatsPerSlot();
+        return seatsPerSlot != null ? seatsPerSlot : 1;
+    }
+
+    private static long slotSeconds(Event event) {
+        return event.getRules().getSlotDurationMinutes() * 60L;
+    }
+}
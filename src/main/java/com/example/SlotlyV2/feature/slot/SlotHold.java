@@ -0,0 +1,23 @@
+package com.example.SlotlyV2.feature.slot;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.Value;
+
+@Value
+public class SlotHold {
+    private String shareableId;
+    private LocalDateTime startTime;
+    private String attendeeEmail;
+
+    // Needed to extend or release the hold, the email alone is not proof of being the holder
+    private String holdToken;
+    private Instant expiresAt;
+
+    @JsonIgnore
+    private Duration ttl;
+}
@@ -0,0 +1,200 @@
+package com.example.SlotlyV2.feature.slot;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.example.SlotlyV2.common.config.SlotProperties;
+import com.example.SlotlyV2.common.exception.slot.MaxSlotsPerUserExceededException;
+import com.example.SlotlyV2.common.exception.slot.SlotHeldException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.Scheduler;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+
+// Short checkout holds on free slots, kept in memory only. Each hold carries its own TTL, which puts it
+// on Caffeine's hierarchical timer wheel: expiry is O(1) per hold and there is no scheduled task per hold.
+// Holds live on the instance that granted them, like the availability index.
+@Component
+@Slf4j
+public class SlotHoldRegistry {
+    private final Cache<HoldKey, SlotHold> holds;
+    private final SlotProperties slotProperties;
+
+    // Held start times per event, so listings do not scan every hold
+    private final Map<String, Set<LocalDateTime>> heldStartTimes = new ConcurrentHashMap<>();
+
+    // Bumped on every hold change, tags the share listings' ETags while an event has holds
+    private final Map<String, Long> holdRevisions = new ConcurrentHashMap<>();
+    private final AtomicLong revisionSource = new AtomicLong();
+    private final String instanceTag = Long.toString(System.currentTimeMillis(), 36);
+
+    @Autowired
+    public SlotHoldRegistry(SlotProperties slotProperties) {
+        this(slotProperties, Ticker.systemTicker());
+    }
+
+    public SlotHoldRegistry(SlotProperties slotProperties, Ticker ticker) {
+        this.slotProperties = slotProperties;
+        this.holds = Caffeine.newBuilder()
+                .expireAfter(Expiry.writing((HoldKey key, SlotHold hold) -> hold.getTtl()))
+                .evictionListener(this::onEviction)
+                .scheduler(Scheduler.systemScheduler())
+                .ticker(ticker)
+                .build();
+    }
+
+    // Holds the slot for the attendee, or extends the hold the given token was issued for
+    public SlotHold hold(String shareableId, LocalDateTime startTime, String attendeeEmail, String holdToken,
+            Integer holdSeconds, Integer maxHoldsPerAttendee) {
+        String email = normalize(attendeeEmail);
+        HoldKey key = new HoldKey(shareableId, startTime);
+
+        // Best effort: concurrent holds can all pass these limits, booking enforces the real per-attendee limit
+        SlotHold current = holds.getIfPresent(key);
+        boolean extending = current != null && isHolder(current, email, holdToken);
+        if (maxHoldsPerAttendee != null && !extending && countHolds(shareableId, email) >= maxHoldsPerAttendee) {
+            throw new MaxSlotsPerUserExceededException(
+                    "You can hold at most " + maxHoldsPerAttendee + " slots for this event");
+        }
+
+        // Emails are not verified here, so the per-attendee limit alone would let one caller hold a whole event
+        if (!extending && getHeldStartTimes(shareableId).size() >= slotProperties.getMaxHoldsPerEvent()) {
+            throw new SlotHeldException("Too many slots of this event are being booked right now. Please try again "
+                    + "in a few minutes");
+        }
+
+        Duration ttl = slotProperties.resolveHoldTtl(holdSeconds);
+        String token = extending ? current.getHoldToken() : UUID.randomUUID().toString();
+        SlotHold requested = new SlotHold(shareableId, startTime, email, token, Instant.now().plus(ttl), ttl);
+
+        SlotHold granted = holds.asMap().compute(key,
+                (k, existing) -> existing == null || isHolder(existing, email, holdToken) ? requested : existing);
+
+        if (granted != requested) {
+            throw new SlotHeldException("This slot is being booked by someone else. Please choose another slot");
+        }
+
+        heldStartTimes.computeIfAbsent(shareableId, id -> ConcurrentHashMap.newKeySet()).add(startTime);
+        touch(shareableId);
+        return granted;
+    }
+
+    // Lets the holder (or anyone, when the slot is not held) book the slot
+    public void checkNotHeldByOthers(String shareableId, Collection<LocalDateTime> startTimes, String attendeeEmail) {
+        String email = normalize(attendeeEmail);
+
+        for (LocalDateTime startTime : startTimes) {
+            SlotHold hold = holds.getIfPresent(new HoldKey(shareableId, startTime));
+            if (hold != null && !hold.getAttendeeEmail().equals(email)) {
+                throw new SlotHeldException("This slot is being booked by someone else. Please choose another slot");
+            }
+        }
+    }
+
+    // Releases the hold the token was issued for, any other hold is left alone
+    public void release(String shareableId, LocalDateTime startTime, String holdToken) {
+        SlotHold removed = holds.asMap().computeIfPresent(new HoldKey(shareableId, startTime),
+                (key, hold) -> hold.getHoldToken().equals(holdToken) ? null : hold);
+
+        if (removed == null) {
+            untrack(shareableId, startTime);
+        }
+    }
+
+    // The slots were booked, whoever held them
+    public void release(String shareableId, Collection<LocalDateTime> startTimes) {
+        for (LocalDateTime startTime : startTimes) {
+            if (holds.asMap().remove(new HoldKey(shareableId, startTime)) != null) {
+                untrack(shareableId, startTime);
+            }
+        }
+    }
+
+    public void releaseAll(String shareableId) {
+        Set<LocalDateTime> startTimes = heldStartTimes.remove(shareableId);
+        if (startTimes != null) {
+            startTimes.forEach(startTime -> holds.invalidate(new HoldKey(shareableId, startTime)));
+        }
+        holdRevisions.remove(shareableId);
+    }
+
+    public Set<LocalDateTime> getHeldStartTimes(String shareableId) {
+        Set<LocalDateTime> startTimes = heldStartTimes.get(shareableId);
+        if (startTimes == null || startTimes.isEmpty()) {
+            return Set.of();
+        }
+
+        // Skips holds that expired but were not cleaned up yet
+        return startTimes.stream()
+                .filter(startTime -> holds.getIfPresent(new HoldKey(shareableId, startTime)) != null)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    // The availability version alone while the event has no holds, since holds also change the listings
+    public String tag(String shareableId, long availabilityVersion) {
+        Long revision = holdRevisions.get(shareableId);
+        return revision == null ? Long.toString(availabilityVersion)
+                : availabilityVersion + "-" + instanceTag + "." + revision;
+    }
+
+    private long countHolds(String shareableId, String email) {
+        return heldStartTimes.getOrDefault(shareableId, Set.of()).stream()
+                .map(startTime -> holds.getIfPresent(new HoldKey(shareableId, startTime)))
+                .filter(hold -> hold != null && hold.getAttendeeEmail().equals(email))
+                .count();
+    }
+
+    private static boolean isHolder(SlotHold hold, String email, String holdToken) {
+        return hold.getAttendeeEmail().equals(email) && hold.getHoldToken().equals(holdToken);
+    }
+
+    private void onEviction(HoldKey key, SlotHold hold, RemovalCause cause) {
+        log.debug("Hold on {} of event {} ended: {}", key.getStartTime(), key.getShareableId(), cause);
+        untrack(key.getShareableId(), key.getStartTime());
+    }
+
+    private void untrack(String shareableId, LocalDateTime startTime) {
+        heldStartTimes.computeIfPresent(shareableId, (id, startTimes) -> {
+            startTimes.remove(startTime);
+            return startTimes.isEmpty() ? null : startTimes;
+        });
+
+        // Without holds the listings depend on the availability version alone again
+        if (heldStartTimes.containsKey(shareableId)) {
+            touch(shareableId);
+        } else {
+            holdRevisions.remove(shareableId);
+        }
+    }
+
+    private void touch(String shareableId) {
+        holdRevisions.put(shareableId, revisionSource.incrementAndGet());
+    }
+
+    private static String normalize(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    @Value
+    private static class HoldKey {
+        private String shareableId;
+        private LocalDateTime startTime;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.SlotlyV2.feature.slot;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import com.example.SlotlyV2.common.config.SlotProperties;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+// Slots created before slots_seq existed got their ids from the old identity column, while ddl-auto=update
+// creates the sequence starting at 1. Moves the sequence past the highest slot id before any slot is inserted,
+// and only ever forward, so ranges already handed out to running instances stay valid.
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@Slf4j
+public class SlotIdSequenceInitializer {
+    private static final String SYNC_SEQUENCE = "SELECT setval('slots_seq', GREATEST("
+            + "(SELECT COALESCE(MAX(id), 0) FROM slots), (SELECT last_value FROM slots_seq)))";
+
+    private final DataSource dataSource;
+    private final SlotProperties slotProperties;
+
+    @PostConstruct
+    void initialize() throws SQLException {
+        // One generation batch should take exactly one sequence round trip
+        if (slotProperties.getGenerationBatchSize() != Slot.ID_ALLOCATION_SIZE) {
+            throw new IllegalStateException("app.slots.generation-batch-size must be " + Slot.ID_ALLOCATION_SIZE
+                    + " to match the slots_seq allocation size, was " + slotProperties.getGenerationBatchSize());
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            // setval is PostgreSQL only, other databases (H2 in tests) never had identity slot ids
+            if (!"PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(SYNC_SEQUENCE);
+            }
+            log.info("Synced slots_seq with existing slot ids");
+        }
+    }
+}
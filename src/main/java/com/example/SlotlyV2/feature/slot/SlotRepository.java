@@ -1,31 +1,163 @@
 package com.example.SlotlyV2.feature.slot;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.example.SlotlyV2.feature.event.Event;
+import com.example.SlotlyV2.feature.slot.dto.SlotSummary;
+
+import jakarta.persistence.QueryHint;
 
 @Repository
 public interface SlotRepository extends JpaRepository<Slot, Long> {
     List<Slot> findByEvent(Event event);
 
+    // Keyset page of an event's slots starting in [from, to), served by uk_slots_event_start_time
     @EntityGraph(attributePaths = { "event", "event.host" })
-    List<Slot> findByEventId(Long eventId);
-
-    @EntityGraph(attributePaths = { "event", "event.host" })
-    List<Slot> findByEventAndBookedByEmailIsNullAndBookedByNameIsNull(Event event);
+    @Query("""
+            SELECT s FROM Slot s
+            WHERE s.event.id = :eventId AND s.startTime >= :from AND s.startTime < :to
+              AND (s.startTime > :afterTime OR (s.startTime = :afterTime AND s.id > :afterId))
+            ORDER BY s.startTime, s.id
+            """)
+    List<Slot> findPageByEventId(Long eventId, LocalDateTime from, LocalDateTime to, LocalDateTime afterTime,
+            long afterId, Limit limit);
 
     Optional<Slot> findById(Long id);
 
+    // Keyset page of an attendee's bookings starting in [from, to), served by idx_slots_booked_by_email_start_time
     @EntityGraph(attributePaths = { "event", "event.host" })
-    List<Slot> findByBookedByEmail(String email);
+    @Query("""
+            SELECT s FROM Slot s
+            WHERE s.bookedByEmail = :email AND s.startTime >= :from AND s.startTime < :to
+              AND (s.startTime > :afterTime OR (s.startTime = :afterTime AND s.id > :afterId))
+            ORDER BY s.startTime, s.id
+            """)
+    List<Slot> findBookedPageByEmail(String email, LocalDateTime from, LocalDateTime to, LocalDateTime afterTime,
+            long afterId, Limit limit);
 
     Optional<Slot> findByEventIdAndStartTime(Long eventId, LocalDateTime startTime);
 
-    Integer countByEventAndBookedByEmailIsNotNullAndBookedByNameIsNotNull(Event event);
+    List<Slot> findByEventIdAndStartTimeInOrderByStartTime(Long eventId, Collection<LocalDateTime> startTimes);
+
+    // Served by idx_slots_event_booked_by_email
+    long countByEventIdAndBookedByEmail(Long eventId, String bookedByEmail);
+
+    // Start of the attendee's first booking ending after the given instant, one seek on
+    // idx_slots_booked_by_email_end_instant. Ordering by the email too lets H2 read the index in order.
+    @Query("""
+            SELECT s.startInstant FROM Slot s
+            WHERE s.bookedByEmail = :email AND s.endInstant > :after
+            ORDER BY s.bookedByEmail, s.endInstant
+            """)
+    List<Instant> findStartsOfBookingsEndingAfter(String email, Instant after, Limit limit);
+
+    // Unbounded reads for the JSON exports, consumed row by row inside a read-only transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Slot s JOIN FETCH s.event e JOIN FETCH e.host WHERE e.id = :eventId ORDER BY s.startTime")
+    Stream<Slot> streamByEventId(Long eventId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            SELECT s FROM Slot s JOIN FETCH s.event e JOIN FETCH e.host
+            WHERE s.bookedByEmail = :email ORDER BY s.startTime, s.id
+            """)
+    Stream<Slot> streamBookedByEmail(String email);
+
+    // Slot rows without their event, for listings that send the event once. Group slots are read by their seat
+    // counter alone, never by their attendees.
+    @Query("""
+            SELECT new com.example.SlotlyV2.feature.slot.dto.SlotSummary(
+                s.startTime, s.endTime,
+                CASE WHEN s.bookedByEmail IS NOT NULL OR s.seatsTaken >= s.capacity THEN true ELSE false END,
+                CASE WHEN s.capacity > 1 THEN s.capacity - s.seatsTaken WHEN s.bookedByEmail IS NULL THEN 1 ELSE 0 END)
+            FROM Slot s WHERE s.event.id = :eventId ORDER BY s.startTime
+            """)
+    List<SlotSummary> findSummariesByEventId(Long eventId);
+
+    // Start times of the slots nobody else can book: booked one-seat slots and full group slots
+    @Query("""
+            SELECT s.startTime FROM Slot s
+            WHERE s.event = :event AND (s.bookedByEmail IS NOT NULL OR s.seatsTaken >= s.capacity)
+            """)
+    List<LocalDateTime> findBookedStartTimesByEvent(Event event);
+
+    // Compare-and-set booking: returns 1 when this call claimed the slot, 0 otherwise
+    @Modifying
+    @Query("""
+            UPDATE Slot s
+            SET s.bookedByName = :attendeeName, s.bookedByEmail = :attendeeEmail, s.bookedAt = :bookedAt,
+                s.version = s.version + 1
+            WHERE s.event.id = :eventId AND s.startTime = :startTime AND s.bookedByEmail IS NULL
+            """)
+    int claimSlot(Long eventId, LocalDateTime startTime, String attendeeName, String attendeeEmail,
+            LocalDateTime bookedAt);
+
+    // Claims the slot row read at the given version, in the same statement as the event's capacity check: returns
+    // 0 when the slot changed since it was read or the event is full. The pinned version makes the claimed row
+    // the one that was read, with the booking applied and the version bumped once
+    @Modifying
+    @Query("""
+            UPDATE Slot s
+            SET s.bookedByName = :attendeeName, s.bookedByEmail = :attendeeEmail, s.bookedAt = :bookedAt,
+                s.version = s.version + 1
+            WHERE s.id = :slotId AND s.version = :version AND s.bookedByEmail IS NULL
+                AND EXISTS (SELECT e FROM Event e WHERE e.id = s.event.id
+                        AND (e.rules.maxCapacity IS NULL OR e.bookedCount < e.rules.maxCapacity))
+            """)
+    int claimSlotById(Long slotId, Long version, String attendeeName, String attendeeEmail, LocalDateTime bookedAt);
+
+    // Set-based claim of several slots: returns how many were free and are now taken by this call
+    @Modifying
+    @Query("""
+            UPDATE Slot s
+            SET s.bookedByName = :attendeeName, s.bookedByEmail = :attendeeEmail, s.bookedAt = :bookedAt,
+                s.version = s.version + 1
+            WHERE s.event.id = :eventId AND s.startTime IN :startTimes AND s.bookedByEmail IS NULL
+            """)
+    int claimSlots(Long eventId, Collection<LocalDateTime> startTimes, String attendeeName, String attendeeEmail,
+            LocalDateTime bookedAt);
+
+    // Takes one seat of a group slot: returns 1 when a seat was left, 0 when the slot is full
+    @Modifying
+    @Query("""
+            UPDATE Slot s SET s.seatsTaken = s.seatsTaken + 1, s.version = s.version + 1
+            WHERE s.id = :slotId AND s.seatsTaken < s.capacity
+            """)
+    int takeSeat(Long slotId);
+
+    // Takes one seat in each of several group slots: returns how many of them still had a seat
+    @Modifying
+    @Query("""
+            UPDATE Slot s SET s.seatsTaken = s.seatsTaken + 1, s.version = s.version + 1
+            WHERE s.event.id = :eventId AND s.startTime IN :startTimes AND s.seatsTaken < s.capacity
+            """)
+    int takeSeats(Long eventId, Collection<LocalDateTime> startTimes);
+
+    @Modifying
+    @Query("""
+            UPDATE Slot s SET s.seatsTaken = s.seatsTaken - 1, s.version = s.version + 1
+            WHERE s.id = :slotId AND s.seatsTaken > 0
+            """)
+    int releaseSeat(Long slotId);
 }
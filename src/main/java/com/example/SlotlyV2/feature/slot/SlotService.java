@@ -4,28 +4,52 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import com.example.SlotlyV2.common.config.SlotProperties;
+import com.example.SlotlyV2.common.config.SlotProperties.BookingMode;
+import com.example.SlotlyV2.common.dto.CursorPage;
 import com.example.SlotlyV2.common.exception.auth.UnauthorizedAccessException;
 import com.example.SlotlyV2.common.exception.event.EventNotFoundException;
 import com.example.SlotlyV2.common.exception.event.MaxCapacityExceededException;
 import com.example.SlotlyV2.common.exception.slot.InvalidSlotException;
+import com.example.SlotlyV2.common.exception.slot.MaxSlotsPerUserExceededException;
+import com.example.SlotlyV2.common.exception.slot.OverlappingBookingException;
 import com.example.SlotlyV2.common.exception.slot.SlotAlreadyBookedException;
+import com.example.SlotlyV2.common.exception.slot.SlotHeldException;
 import com.example.SlotlyV2.common.exception.slot.SlotNotFoundException;
 import com.example.SlotlyV2.common.util.NameUtils;
+import com.example.SlotlyV2.feature.email.dto.BatchBookingEmailDTO;
 import com.example.SlotlyV2.feature.email.dto.BookingEmailDTO;
 import com.example.SlotlyV2.feature.email.event.SlotBookedEvent;
 import com.example.SlotlyV2.feature.email.event.SlotCancelledEvent;
+import com.example.SlotlyV2.feature.email.event.SlotsBookedEvent;
 import com.example.SlotlyV2.feature.event.Event;
 import com.example.SlotlyV2.feature.event.EventRepository;
+import com.example.SlotlyV2.feature.event.dto.EventResponse;
+import com.example.SlotlyV2.feature.slot.dto.BatchSlotRequest;
 import com.example.SlotlyV2.feature.slot.dto.CancelBookingRequest;
+import com.example.SlotlyV2.feature.slot.dto.EventSlotsResponse;
 import com.example.SlotlyV2.feature.slot.dto.SlotCancelledEmailDTO;
+import com.example.SlotlyV2.feature.slot.dto.SlotPageRequest;
 import com.example.SlotlyV2.feature.slot.dto.SlotRequest;
-import com.example.SlotlyV2.feature.user.User;
+import com.example.SlotlyV2.feature.slot.dto.SlotSummary;
+import com.example.SlotlyV2.feature.waitlist.WaitlistService;
+import com.example.SlotlyV2.feature.waitlist.WaitlistTicket;
 
+import jakarta.persistence.EntityManager;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -35,46 +59,85 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class SlotService {
     private final SlotRepository slotRepository;
+    private final SlotAttendeeRepository slotAttendeeRepository;
     private final EventRepository eventRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final NameUtils nameUtils;
+    private final SlotProperties slotProperties;
+    private final SlotHoldRegistry slotHoldRegistry;
+    private final AttendeeSchedule attendeeSchedule;
+    private final WaitlistService waitlistService;
+    private final EntityManager entityManager;
 
     @Transactional(rollbackOn = Exception.class)
     public void generateSlots(Event event) {
-        LocalDateTime start = event.getEventStart();
-        LocalDateTime end = event.getEventEnd();
-        List<Slot> slots = new ArrayList<>();
+        int duration = event.getRules().getSlotDurationMinutes();
 
-        if (event.getRules().getSlotDurationMinutes() <= 0) {
+        if (duration <= 0) {
             throw new InvalidSlotException("Slot duration must be greater than zero");
         }
 
-        // TODO: Improve the slot generation algorithm
-        while (!start.isAfter(end.minusMinutes(event.getRules().getSlotDurationMinutes()))) {
+        // Virtual slots are computed on read, only bookings get a row. Group slots always get one, their seat
+        // counter is claimed on it.
+        int seatsPerSlot = SlotGrid.seatsPerSlot(event);
+        if (slotProperties.isVirtual() && seatsPerSlot == 1) {
+            return;
+        }
+
+        LocalDateTime start = event.getEventStart();
+        LocalDateTime lastStart = event.getEventEnd().minusMinutes(duration);
+        int batchSize = slotProperties.getGenerationBatchSize();
+        List<Slot> batch = new ArrayList<>(batchSize);
+
+        while (!start.isAfter(lastStart)) {
             Slot slot = new Slot();
             slot.setEvent(event);
             slot.setStartTime(start);
-            slot.setEndTime(start.plusMinutes(event.getRules().getSlotDurationMinutes()));
+            slot.setEndTime(start.plusMinutes(duration));
             slot.setBookedByName(null);
             slot.setBookedByEmail(null);
-
-            slots.add(slot);
-            start = start.plusMinutes(event.getRules().getSlotDurationMinutes());
+            slot.setCapacity(seatsPerSlot);
+
+            batch.add(slot);
+            start = start.plusMinutes(duration);
+
+            // Write each full batch as one JDBC batch and detach it, so the
+            // persistence context (and its dirty checking) stays batch-sized
+            if (batch.size() == batchSize) {
+                slotRepository.saveAll(batch);
+                slotRepository.flush();
+                batch.forEach(entityManager::detach);
+                batch = new ArrayList<>(batchSize);
+            }
         }
 
-        slotRepository.saveAll(slots);
+        slotRepository.saveAll(batch);
     }
 
     @Transactional(rollbackOn = Exception.class)
     public Slot bookSlot(SlotRequest request) {
-        // Find the slot
-        Slot slot = slotRepository.findByEventIdAndStartTime(request.getEventId(), request.getStartTime())
-                .orElseThrow(() -> new SlotNotFoundException("Slot Not Found"));
+        if (slotProperties.getBookingMode() == BookingMode.CONDITIONAL_UPDATE) {
+            return claimSlot(request);
+        }
+
+        return bookSlotOptimistically(request);
+    }
 
-        // Check that slot is available
+    private Slot bookSlotOptimistically(SlotRequest request) {
+        return bookSlotOptimistically(findOrMaterializeSlot(request.getEventId(), request.getStartTime()), request);
+    }
+
+    private Slot bookSlotOptimistically(Slot slot, SlotRequest request) {
+        if (slot.hasSeats()) {
+            return bookSeat(slot, request);
+        }
+
+        // Check that slot is available and not held for another attendee
         if (!slot.isAvailable()) {
             throw new SlotAlreadyBookedException("This slot is already booked. Please choose another slot");
         }
+        slotHoldRegistry.checkNotHeldByOthers(slot.getEvent().getShareableId(), List.of(slot.getStartTime()),
+                request.getAttendeeEmail());
 
         // Check that slot is not in the past
         ZoneId zone = ZoneId.of(slot.getEvent().getTimeZone());
@@ -82,15 +145,12 @@ public class SlotService {
             throw new InvalidSlotException("Cannot book a past slot");
         }
 
-        // Check event capacity
-        Integer maxCapacity = slot.getEvent().getRules().getMaxCapacity();
-        if (maxCapacity != null) {
-            Integer currentCapacity = slotRepository
-                    .countByEventAndBookedByEmailIsNotNullAndBookedByNameIsNotNull(slot.getEvent());
-            if (currentCapacity >= maxCapacity) {
-                throw new MaxCapacityExceededException("This event has reached maximum capacity");
-            }
-        }
+        attendeeSchedule.checkNoOverlap(request.getAttendeeEmail(), slot.getEvent(), slot.getStartTime(),
+                slot.getEndTime());
+
+        // Count the booking against event capacity and the attendee's limit
+        long availabilityVersion = reserveCapacity(slot.getEvent().getId());
+        checkSlotsPerUser(slot.getEvent(), request.getAttendeeEmail(), 1);
 
         // Book the Slot
         slot.setBookedByName(request.getAttendeeName());
@@ -98,26 +158,427 @@ public class SlotService {
         slot.setBookedAt(LocalDateTime.now());
 
         // Save the Slot
-        Slot savedSlot = slotRepository.save(slot);
+        Slot savedSlot = saveBooking(slot);
+
+        publishSlotBooked(savedSlot, availabilityVersion);
+
+        return savedSlot;
+    }
+
+    private Slot claimSlot(SlotRequest request) {
+        // The one read of the slot, the claim below updates this row and the result is built from it
+        Slot slot = findOrMaterializeSlot(request.getEventId(), request.getStartTime());
+
+        // Group slots are never free by their attendee columns, the claim below would take them whole. A virtual
+        // slot has no row to update, its insert is guarded by the unique key instead
+        if (slot.hasSeats() || slot.getId() == null) {
+            return bookSlotOptimistically(slot, request);
+        }
+
+        Event event = slot.getEvent();
+
+        // Check that slot is not in the past
+        ZoneId zone = ZoneId.of(event.getTimeZone());
+        if (slot.getStartTime().atZone(zone).isBefore(ZonedDateTime.now(zone))) {
+            throw new InvalidSlotException("Cannot book a past slot");
+        }
+
+        if (!slot.isAvailable()) {
+            throw new SlotAlreadyBookedException("This slot is already booked. Please choose another slot");
+        }
+
+        // A slot held for another attendee is turned away before it reaches the database
+        slotHoldRegistry.checkNotHeldByOthers(event.getShareableId(), List.of(slot.getStartTime()),
+                request.getAttendeeEmail());
+
+        // Checked before the claim, which would make the slot one of the attendee's bookings
+        attendeeSchedule.checkNoOverlap(request.getAttendeeEmail(), event, slot.getStartTime(), slot.getEndTime());
+
+        // Claim the slot with one statement guarded by its availability and the event's capacity
+        Long version = slot.getVersion();
+        LocalDateTime bookedAt = LocalDateTime.now();
+        int claimed = slotRepository.claimSlotById(slot.getId(), version, request.getAttendeeName(),
+                request.getAttendeeEmail(), bookedAt);
+
+        if (claimed == 0) {
+            // Only a failed claim reads the row again, to tell a lost race from a full event
+            entityManager.refresh(slot);
+            if (!slot.isAvailable() || !slot.getVersion().equals(version)) {
+                throw new SlotAlreadyBookedException("This slot is already booked. Please choose another slot");
+            }
+
+            throw new MaxCapacityExceededException("This event has reached maximum capacity");
+        }
+
+        // Detached so the persistence context does not write the claimed state a second time
+        entityManager.detach(slot);
+        slot.setBookedByName(request.getAttendeeName());
+        slot.setBookedByEmail(request.getAttendeeEmail());
+        slot.setBookedAt(bookedAt);
+        slot.setVersion(version + 1);
+
+        // Keeps the counter in step with the claim. Its guard still turns away a booking that raced past the
+        // claim's capacity check, rolling back the claim; so does the attendee's limit
+        long availabilityVersion = reserveCapacity(event.getId());
+        checkSlotsPerUser(event, request.getAttendeeEmail(), 0);
+
+        publishSlotBooked(slot, availabilityVersion);
+
+        return slot;
+    }
+
+    // Takes one seat of a group slot with a statement guarded by the slot's seat counter
+    private Slot bookSeat(Slot slot, SlotRequest request) {
+        Event event = slot.getEvent();
+
+        // Check that slot is not in the past
+        ZoneId zone = ZoneId.of(event.getTimeZone());
+        if (slot.getStartTime().atZone(zone).isBefore(ZonedDateTime.now(zone))) {
+            throw new InvalidSlotException("Cannot book a past slot");
+        }
+
+        if (slotAttendeeRepository.existsBySlotIdAndAttendeeEmail(slot.getId(), request.getAttendeeEmail())) {
+            throw new SlotAlreadyBookedException("You already have a seat in this slot");
+        }
+
+        attendeeSchedule.checkNoOverlap(request.getAttendeeEmail(), event, slot.getStartTime(), slot.getEndTime());
+
+        if (slotRepository.takeSeat(slot.getId()) == 0) {
+            throw new SlotAlreadyBookedException("This slot is full. Please choose another slot");
+        }
+
+        // Count the booking against event capacity and the attendee's limit, rolling back the seat when over
+        long availabilityVersion = reserveCapacity(event.getId());
+        checkSlotsPerUser(event, request.getAttendeeEmail(), 1);
+
+        // The unique key rejects a concurrent second seat for the same attendee
+        try {
+            slotAttendeeRepository.saveAndFlush(SlotAttendee.of(slot, request.getAttendeeName(),
+                    request.getAttendeeEmail(), LocalDateTime.now()));
+        } catch (DataIntegrityViolationException e) {
+            throw new SlotAlreadyBookedException("You already have a seat in this slot");
+        }
+
+        // Read back the counter the statement changed
+        entityManager.refresh(slot);
+
+        publishSlotBooked(slot, request.getAttendeeName(), request.getAttendeeEmail(), slot.getSeatsLeft(),
+                availabilityVersion, false);
+
+        return slot;
+    }
+
+    // Books all requested slots of one event for one attendee, or none of them
+    @Transactional(rollbackOn = Exception.class)
+    public List<Slot> bookSlots(BatchSlotRequest request) {
+        Event event = eventRepository.findWithHostById(request.getEventId())
+                .orElseThrow(() -> new EventNotFoundException("Event Not Found"));
+
+        SortedSet<LocalDateTime> startTimes = new TreeSet<>(request.getStartTimes());
+        for (LocalDateTime startTime : startTimes) {
+            if (SlotGrid.indexOf(event, startTime) < 0) {
+                throw new SlotNotFoundException("Slot Not Found");
+            }
+        }
+
+        // Check that no slot is in the past
+        ZoneId zone = ZoneId.of(event.getTimeZone());
+        if (startTimes.first().atZone(zone).isBefore(ZonedDateTime.now(zone))) {
+            throw new InvalidSlotException("Cannot book a past slot");
+        }
+
+        slotHoldRegistry.checkNotHeldByOthers(event.getShareableId(), startTimes, request.getAttendeeEmail());
+
+        // Slots of one event never overlap each other, only the attendee's other bookings can
+        int duration = event.getRules().getSlotDurationMinutes();
+        for (LocalDateTime startTime : startTimes) {
+            attendeeSchedule.checkNoOverlap(request.getAttendeeEmail(), event, startTime,
+                    startTime.plusMinutes(duration));
+        }
+
+        // Count the bookings against event capacity and the attendee's limit
+        long availabilityVersion = reserveCapacity(event.getId(), startTimes.size());
+        checkSlotsPerUser(event, request.getAttendeeEmail(), startTimes.size());
+
+        List<Slot> slots;
+        if (SlotGrid.seatsPerSlot(event) > 1) {
+            slots = takeSeats(event, startTimes, request);
+        } else if (slotProperties.isVirtual()) {
+            slots = insertBookings(event, startTimes, request);
+        } else {
+            slots = claimSlots(event, startTimes, request);
+        }
+
+        publishSlotsBooked(event, slots, request, availabilityVersion);
+
+        return slots;
+    }
+
+    private List<Slot> claimSlots(Event event, Set<LocalDateTime> startTimes, BatchSlotRequest request) {
+        // One UPDATE for all slots, it must take every one of them
+        int claimed = slotRepository.claimSlots(event.getId(), startTimes, request.getAttendeeName(),
+                request.getAttendeeEmail(), LocalDateTime.now());
+
+        if (claimed != startTimes.size()) {
+            throw new SlotAlreadyBookedException("One or more of these slots are already booked");
+        }
+
+        return slotRepository.findByEventIdAndStartTimeInOrderByStartTime(event.getId(), startTimes);
+    }
+
+    private List<Slot> takeSeats(Event event, Set<LocalDateTime> startTimes, BatchSlotRequest request) {
+        // One UPDATE for all seat counters, every slot must still have a seat
+        int taken = slotRepository.takeSeats(event.getId(), startTimes);
+
+        if (taken != startTimes.size()) {
+            throw new SlotAlreadyBookedException("One or more of these slots are full");
+        }
+
+        LocalDateTime bookedAt = LocalDateTime.now();
+        List<Slot> slots = slotRepository.findByEventIdAndStartTimeInOrderByStartTime(event.getId(), startTimes);
+        List<SlotAttendee> attendees = slots.stream()
+                .map(slot -> SlotAttendee.of(slot, request.getAttendeeName(), request.getAttendeeEmail(), bookedAt))
+                .toList();
+
+        // One JDBC batch, the (slot_id, attendee_email) unique key rejects seats the attendee already has
+        try {
+            slotAttendeeRepository.saveAllAndFlush(attendees);
+        } catch (DataIntegrityViolationException e) {
+            throw new SlotAlreadyBookedException("You already have a seat in one or more of these slots");
+        }
+
+        return slots;
+    }
+
+    private List<Slot> insertBookings(Event event, Set<LocalDateTime> startTimes, BatchSlotRequest request) {
+        LocalDateTime bookedAt = LocalDateTime.now();
+        List<Slot> slots = new ArrayList<>(startTimes.size());
+
+        for (LocalDateTime startTime : startTimes) {
+            Slot slot = SlotGrid.virtualSlot(event, SlotGrid.indexOf(event, startTime));
+            slot.setBookedByName(request.getAttendeeName());
+            slot.setBookedByEmail(request.getAttendeeEmail());
+            slot.setBookedAt(bookedAt);
+            slots.add(slot);
+        }
+
+        // One JDBC batch, the (event_id, start_time) unique key rejects slots that are already taken
+        try {
+            return slotRepository.saveAllAndFlush(slots);
+        } catch (DataIntegrityViolationException e) {
+            throw new SlotAlreadyBookedException("One or more of these slots are already booked");
+        }
+    }
 
+    // Books a batch from one event's queue in one transaction. The event row stays locked for the whole batch,
+    // so the checks see every committed booking, and an attempt that fails changes nothing for the others
+    @Transactional(rollbackOn = Exception.class)
+    public void bookQueued(Long eventId, List<QueuedBooking> bookings) {
+        Optional<Event> locked = eventRepository.findWithHostByIdForUpdate(eventId);
+        if (locked.isEmpty()) {
+            bookings.forEach(booking -> booking.fail(new SlotNotFoundException("Slot Not Found")));
+            return;
+        }
+        Event event = locked.get();
+
+        Set<LocalDateTime> startTimes = new HashSet<>();
+        bookings.forEach(booking -> startTimes.add(booking.getRequest().getStartTime()));
+
+        Map<LocalDateTime, Slot> slotsByStart = new HashMap<>();
+        for (Slot slot : slotRepository.findByEventIdAndStartTimeInOrderByStartTime(eventId, startTimes)) {
+            slotsByStart.put(slot.getStartTime(), slot);
+        }
+
+        // Counted before any slot of this batch is touched, the batch's own bookings are added as it goes
+        Integer maxSlotsPerUser = event.getRules().getMaxSlotsPerUser();
+        Map<String, Long> bookedByEmail = new HashMap<>();
+        if (maxSlotsPerUser != null) {
+            for (QueuedBooking booking : bookings) {
+                bookedByEmail.computeIfAbsent(booking.getRequest().getAttendeeEmail(),
+                        email -> countBookings(event, email));
+            }
+        }
+
+        Integer maxCapacity = event.getRules().getMaxCapacity();
+        int bookedCount = event.getBookedCount();
+        ZoneId zone = ZoneId.of(event.getTimeZone());
+        LocalDateTime bookedAt = LocalDateTime.now();
+        List<Slot> newSlots = new ArrayList<>();
+        List<SlotAttendee> newAttendees = new ArrayList<>();
+        Set<String> seatsTaken = new HashSet<>();
+        List<QueuedBooking> booked = new ArrayList<>();
+
+        for (QueuedBooking booking : bookings) {
+            SlotRequest request = booking.getRequest();
+            try {
+                Slot slot = slotsByStart.get(request.getStartTime());
+                int index = SlotGrid.indexOf(event, request.getStartTime());
+                if (slot == null && (!slotProperties.isVirtual() || index < 0)) {
+                    throw new SlotNotFoundException("Slot Not Found");
+                }
+                if (slot != null && !slot.isAvailable()) {
+                    throw new SlotAlreadyBookedException("This slot is already booked. Please choose another slot");
+                }
+                if (request.getStartTime().atZone(zone).isBefore(ZonedDateTime.now(zone))) {
+                    throw new InvalidSlotException("Cannot book a past slot");
+                }
+                slotHoldRegistry.checkNotHeldByOthers(event.getShareableId(), List.of(request.getStartTime()),
+                        request.getAttendeeEmail());
+                attendeeSchedule.checkNoOverlap(request.getAttendeeEmail(), event, request.getStartTime(),
+                        request.getStartTime().plusMinutes(event.getRules().getSlotDurationMinutes()));
+
+                if (maxCapacity != null && bookedCount >= maxCapacity) {
+                    throw new MaxCapacityExceededException("This event has reached maximum capacity");
+                }
+                if (maxSlotsPerUser != null && bookedByEmail.get(request.getAttendeeEmail()) >= maxSlotsPerUser) {
+                    throw new MaxSlotsPerUserExceededException(
+                            "You can book at most " + maxSlotsPerUser + " slots for this event");
+                }
+
+                if (slot == null) {
+                    slot = SlotGrid.virtualSlot(event, index);
+                    slotsByStart.put(slot.getStartTime(), slot);
+                    newSlots.add(slot);
+                }
+
+                if (slot.hasSeats()) {
+                    if (!seatsTaken.add(slot.getId() + " " + request.getAttendeeEmail())
+                            || slotAttendeeRepository.existsBySlotIdAndAttendeeEmail(slot.getId(),
+                                    request.getAttendeeEmail())) {
+                        throw new SlotAlreadyBookedException("You already have a seat in this slot");
+                    }
+                    slot.setSeatsTaken(slot.getSeatsTaken() + 1);
+                    newAttendees.add(SlotAttendee.of(slot, request.getAttendeeName(), request.getAttendeeEmail(),
+                            bookedAt));
+                } else {
+                    slot.setBookedByName(request.getAttendeeName());
+                    slot.setBookedByEmail(request.getAttendeeEmail());
+                    slot.setBookedAt(bookedAt);
+                }
+
+                bookedCount++;
+                bookedByEmail.computeIfPresent(request.getAttendeeEmail(), (email, count) -> count + 1);
+                booked.add(booking);
+                booking.succeed(slot);
+            } catch (SlotNotFoundException | SlotAlreadyBookedException | InvalidSlotException | SlotHeldException
+                    | OverlappingBookingException | MaxCapacityExceededException
+                    | MaxSlotsPerUserExceededException e) {
+                booking.fail(e);
+            }
+        }
+
+        if (booked.isEmpty()) {
+            return;
+        }
+
+        // One capacity UPDATE and one JDBC batch of slot writes for the whole batch
+        long firstVersion = event.getAvailabilityVersion() + 1;
+        if (eventRepository.incrementBookedCountPerBooking(eventId, booked.size()) == 0) {
+            throw new MaxCapacityExceededException("This event has reached maximum capacity");
+        }
+        slotRepository.saveAll(newSlots);
+        slotAttendeeRepository.saveAll(newAttendees);
+        slotRepository.flush();
+
+        for (int i = 0; i < booked.size(); i++) {
+            Slot slot = booked.get(i).getSlot();
+            SlotRequest request = booked.get(i).getRequest();
+            publishSlotBooked(slot, request.getAttendeeName(), request.getAttendeeEmail(), slot.getSeatsLeft(),
+                    firstVersion + i, false);
+        }
+    }
+
+    // Runs after the capacity update, whose lock on the event row keeps concurrent bookings of the same
+    // event from both passing this count
+    private void checkSlotsPerUser(Event event, String attendeeEmail, int newBookings) {
+        Integer maxSlotsPerUser = event.getRules().getMaxSlotsPerUser();
+        if (maxSlotsPerUser == null) {
+            return;
+        }
+
+        long booked = countBookings(event, attendeeEmail);
+        if (booked + newBookings > maxSlotsPerUser) {
+            throw new MaxSlotsPerUserExceededException(
+                    "You can book at most " + maxSlotsPerUser + " slots for this event");
+        }
+    }
+
+    // Seats of group events are counted in slot_attendees, one-seat bookings on the slot rows
+    private long countBookings(Event event, String attendeeEmail) {
+        if (SlotGrid.seatsPerSlot(event) > 1) {
+            return slotAttendeeRepository.countByEventIdAndAttendeeEmail(event.getId(), attendeeEmail);
+        }
+
+        return slotRepository.countByEventIdAndBookedByEmail(event.getId(), attendeeEmail);
+    }
+
+    // Returns the event's availability version after this booking
+    private long reserveCapacity(Long eventId) {
+        if (eventRepository.incrementBookedCount(eventId) == 0) {
+            throw new MaxCapacityExceededException("This event has reached maximum capacity");
+        }
+
+        return eventRepository.findAvailabilityVersionById(eventId);
+    }
+
+    private long reserveCapacity(Long eventId, int count) {
+        if (eventRepository.incrementBookedCountBy(eventId, count) == 0) {
+            throw new MaxCapacityExceededException("This event does not have capacity for all of these slots");
+        }
+
+        return eventRepository.findAvailabilityVersionById(eventId);
+    }
+
+    private void publishSlotBooked(Slot savedSlot, long availabilityVersion) {
+        publishSlotBooked(savedSlot, savedSlot.getBookedByName(), savedSlot.getBookedByEmail(), 0,
+                availabilityVersion, false);
+    }
+
+    // The attendee is passed in, a group slot does not keep its attendees on the row
+    private void publishSlotBooked(Slot savedSlot, String attendeeName, String attendeeEmail, int seatsLeft,
+            long availabilityVersion, boolean promotedFromWaitlist) {
         // Prepare Booking data for emails
         String hostDisplayName = nameUtils.getUserDisplayName(savedSlot);
         BookingEmailDTO bookingData = BookingEmailDTO.builder()
-                .attendeeEmail(savedSlot.getBookedByEmail())
+                .attendeeEmail(attendeeEmail)
                 .hostEmail(savedSlot.getEvent().getHost().getEmail())
-                .attendeeName(savedSlot.getBookedByName())
+                .attendeeName(attendeeName)
                 .eventName(savedSlot.getEvent().getEventName())
                 .startTime(savedSlot.getStartTime())
                 .endTime(savedSlot.getEndTime())
                 .timeZone(savedSlot.getEvent().getTimeZone())
                 .hostDisplayName(hostDisplayName)
                 .slotId(savedSlot.getId())
+                .shareableId(savedSlot.getEvent().getShareableId())
+                .availabilityVersion(availabilityVersion)
+                .promotedFromWaitlist(promotedFromWaitlist)
+                .seatsLeft(seatsLeft)
                 .build();
 
         // Publish the Booking Event
         eventPublisher.publishEvent(new SlotBookedEvent(bookingData));
+    }
 
-        return savedSlot;
+    private void publishSlotsBooked(Event event, List<Slot> slots, BatchSlotRequest request,
+            long availabilityVersion) {
+        List<SlotSummary> bookedSlots = slots.stream()
+                .map(slot -> new SlotSummary(slot.getStartTime(), slot.getEndTime(), true, slot.getSeatsLeft()))
+                .toList();
+
+        BatchBookingEmailDTO bookingData = BatchBookingEmailDTO.builder()
+                .attendeeEmail(request.getAttendeeEmail())
+                .hostEmail(event.getHost().getEmail())
+                .attendeeName(request.getAttendeeName())
+                .eventName(event.getEventName())
+                .slots(bookedSlots)
+                .timeZone(event.getTimeZone())
+                .hostDisplayName(nameUtils.getUserDisplayName(event))
+                .shareableId(event.getShareableId())
+                .availabilityVersion(availabilityVersion)
+                .build();
+
+        // One event for the whole batch
+        eventPublisher.publishEvent(new SlotsBookedEvent(bookingData));
     }
 
     @Transactional(rollbackOn = Exception.class)
@@ -135,6 +596,10 @@ public class SlotService {
             throw new InvalidSlotException("Cannot cancel a past slot");
         }
 
+        if (slot.hasSeats()) {
+            return cancelSeat(slot, request);
+        }
+
         if (slot.isAvailable()) {
             throw new InvalidSlotException("This slot is not booked");
         }
@@ -150,9 +615,51 @@ public class SlotService {
         slot.setBookedByEmail(null);
         slot.setBookedByName(null);
 
-        // Save the Slot
-        Slot savedSlot = slotRepository.save(slot);
+        eventRepository.decrementBookedCount(slot.getEvent().getId());
+        long availabilityVersion = eventRepository.findAvailabilityVersionById(slot.getEvent().getId());
+
+        // Save the Slot, or drop its row when free slots are virtual
+        Slot savedSlot;
+        if (slotProperties.isVirtual()) {
+            slotRepository.delete(slot);
+            savedSlot = slot;
+        } else {
+            savedSlot = slotRepository.save(slot);
+        }
+
+        publishSlotCancelled(savedSlot, attendeeName, attendeeEmail, availabilityVersion);
+
+        // Hand the freed slot to the next waitlisted attendee in the same transaction
+        waitlistService.claimNext(savedSlot, ticket -> bookForWaitlisted(savedSlot, ticket));
+
+        return savedSlot;
+    }
+
+    // Gives back one seat of a group slot, the attendee's row goes and the counter is released with a statement
+    private Slot cancelSeat(Slot slot, CancelBookingRequest request) {
+        SlotAttendee attendee = slotAttendeeRepository
+                .findBySlotIdAndAttendeeEmail(slot.getId(), request.getAttendeeEmail())
+                .orElseThrow(() -> new UnauthorizedAccessException(
+                        "This email is not associated with the booked slot"));
+
+        slotAttendeeRepository.delete(attendee);
+        slotRepository.releaseSeat(slot.getId());
 
+        eventRepository.decrementBookedCount(slot.getEvent().getId());
+        long availabilityVersion = eventRepository.findAvailabilityVersionById(slot.getEvent().getId());
+
+        // Read back the counter the statement changed
+        entityManager.refresh(slot);
+
+        publishSlotCancelled(slot, attendee.getAttendeeName(), attendee.getAttendeeEmail(), availabilityVersion);
+
+        waitlistService.claimNext(slot, ticket -> bookForWaitlisted(slot, ticket));
+
+        return slot;
+    }
+
+    private void publishSlotCancelled(Slot savedSlot, String attendeeName, String attendeeEmail,
+            long availabilityVersion) {
         // Prepare Cancellation data
         String hostDisplayName = nameUtils.getUserDisplayName(savedSlot);
 
@@ -164,32 +671,185 @@ public class SlotService {
                 attendeeEmail,
                 savedSlot.getEvent().getEventName(),
                 hostDisplayName,
-                savedSlot.getEvent().getHost().getEmail());
+                savedSlot.getEvent().getHost().getEmail(),
+                savedSlot.getEvent().getShareableId(),
+                availabilityVersion);
 
         // Publish the Cancellation Event
         eventPublisher.publishEvent(new SlotCancelledEvent(cancellationData));
+    }
 
-        return savedSlot;
+    // False when the freed slot could not be taken again, the waitlisted attendee then keeps their place and
+    // the cancellation still commits. Only statements that report their outcome run here, a failing one would
+    // roll the canceller's transaction back with it.
+    private boolean bookForWaitlisted(Slot freedSlot, WaitlistTicket ticket) {
+        Event event = freedSlot.getEvent();
+        LocalDateTime bookedAt = LocalDateTime.now();
+
+        if (eventRepository.incrementBookedCount(event.getId()) == 0) {
+            return false;
+        }
+        long availabilityVersion = eventRepository.findAvailabilityVersionById(event.getId());
+
+        if (freedSlot.hasSeats()) {
+            // The released seat is taken again the same way, the returned slot keeps showing the cancellation
+            if (slotRepository.takeSeat(freedSlot.getId()) == 0) {
+                eventRepository.decrementBookedCount(event.getId());
+                return false;
+            }
+            slotAttendeeRepository.save(SlotAttendee.of(freedSlot, ticket.getAttendeeName(),
+                    ticket.getAttendeeEmail(), bookedAt));
+
+            log.info("Promoted waitlist entry {} to a seat in slot {} of event {}", ticket.getId(),
+                    freedSlot.getStartTime(), event.getId());
+            publishSlotBooked(freedSlot, ticket.getAttendeeName(), ticket.getAttendeeEmail(),
+                    freedSlot.getSeatsLeft() - 1, availabilityVersion, true);
+            return true;
+        }
+
+        // The cancellation's update or delete has to reach the database before the slot is taken again
+        slotRepository.flush();
+
+        Slot promoted;
+        if (slotProperties.isVirtual()) {
+            promoted = SlotGrid.virtualSlot(event, SlotGrid.indexOf(event, freedSlot.getStartTime()));
+            promoted.setBookedByName(ticket.getAttendeeName());
+            promoted.setBookedByEmail(ticket.getAttendeeEmail());
+            promoted.setBookedAt(bookedAt);
+            promoted = slotRepository.save(promoted);
+        } else {
+            // Claimed with a statement, so the cancelled slot returned to the caller keeps showing the cancellation
+            int claimed = slotRepository.claimSlot(event.getId(), freedSlot.getStartTime(), ticket.getAttendeeName(),
+                    ticket.getAttendeeEmail(), bookedAt);
+            if (claimed == 0) {
+                eventRepository.decrementBookedCount(event.getId());
+                return false;
+            }
+
+            // Read back the row the statement changed, like claimSlot. The cancelled slot is detached first, or the
+            // read would hand back that same instance
+            entityManager.detach(freedSlot);
+            promoted = slotRepository.findByEventIdAndStartTime(event.getId(), freedSlot.getStartTime())
+                    .orElseThrow();
+        }
+
+        log.info("Promoted waitlist entry {} to slot {} of event {}", ticket.getId(), promoted.getStartTime(),
+                event.getId());
+        publishSlotBooked(promoted, promoted.getBookedByName(), promoted.getBookedByEmail(), 0, availabilityVersion,
+                true);
+        return true;
     }
 
-    public List<Slot> getSlots(Long eventId) {
-        return slotRepository.findByEventId(eventId);
+    public CursorPage<Slot> getSlots(Long eventId, SlotPageRequest page) {
+        int limit = slotProperties.resolvePageSize(page.getLimit(), page.isPaged());
+        SlotCursor after = afterCursor(page);
+
+        if (!slotProperties.isVirtual()) {
+            List<Slot> rows = slotRepository.findPageByEventId(eventId, page.fromOrEarliest(), page.toOrLatest(),
+                    after.getStartTime(), after.afterId(), Limit.of(limit + 1));
+            return CursorPage.of(rows, limit, slot -> SlotCursor.of(slot).encode());
+        }
+
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new EventNotFoundException("Event Not Found"));
+
+        // Page over the computed grid, one position past the limit to detect a next page
+        int first = SlotGrid.firstIndexAtOrAfter(event, page.fromOrEarliest());
+        if (page.getCursor() != null) {
+            first = Math.max(first, SlotGrid.firstIndexAtOrAfter(event, after.getStartTime().plusNanos(1)));
+        }
+        int end = (int) Math.min(SlotGrid.firstIndexAtOrAfter(event, page.toOrLatest()), (long) first + limit + 1);
+
+        if (first >= end) {
+            return CursorPage.of(List.of(), limit, slot -> null);
+        }
+
+        LocalDateTime windowStart = SlotGrid.startTimeAt(event, first);
+        LocalDateTime windowEnd = SlotGrid.startTimeAt(event, end);
+
+        Map<LocalDateTime, Slot> storedSlots = new HashMap<>();
+        for (Slot slot : slotRepository.findPageByEventId(eventId, windowStart, windowEnd, windowStart, 0L,
+                Limit.of(end - first))) {
+            storedSlots.put(slot.getStartTime(), slot);
+        }
+
+        // Overlay the stored (booked) rows on that window
+        List<Slot> slots = new ArrayList<>(end - first);
+        for (int i = first; i < end; i++) {
+            Slot stored = storedSlots.get(SlotGrid.startTimeAt(event, i));
+            slots.add(stored != null ? stored : SlotGrid.virtualSlot(event, i));
+        }
+
+        return CursorPage.of(slots, limit, slot -> new SlotCursor(slot.getStartTime(), null).encode());
     }
 
-    public List<Slot> getBookedSlots(User user) {
-        return slotRepository.findByBookedByEmail(user.getEmail());
+    public EventSlotsResponse getSlotSummaries(Long eventId) {
+        Event event = eventRepository.findWithHostById(eventId)
+                .orElseThrow(() -> new EventNotFoundException("Event Not Found"));
+
+        // Group events store every slot even when free slots are virtual
+        if (!slotProperties.isVirtual() || SlotGrid.seatsPerSlot(event) > 1) {
+            return new EventSlotsResponse(new EventResponse(event), slotRepository.findSummariesByEventId(eventId));
+        }
+
+        Set<LocalDateTime> bookedStartTimes = new HashSet<>(slotRepository.findBookedStartTimesByEvent(event));
+
+        int duration = event.getRules().getSlotDurationMinutes();
+        int slotCount = SlotGrid.slotCount(event);
+        List<SlotSummary> slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            LocalDateTime startTime = SlotGrid.startTimeAt(event, i);
+            boolean booked = bookedStartTimes.contains(startTime);
+            slots.add(new SlotSummary(startTime, startTime.plusMinutes(duration), booked, booked ? 0 : 1));
+        }
+
+        return new EventSlotsResponse(new EventResponse(event), slots);
     }
 
-    public List<Slot> getAvailableSlotsByShareableId(String shareableId) {
+    public CursorPage<Slot> getBookedSlots(String email, SlotPageRequest page) {
+        int limit = slotProperties.resolvePageSize(page.getLimit(), page.isPaged());
+        SlotCursor after = afterCursor(page);
 
-        Event event = eventRepository.findByShareableId(shareableId)
-                .orElseThrow(() -> new EventNotFoundException("Event Not Found"));
+        List<Slot> rows = slotRepository.findBookedPageByEmail(email, page.fromOrEarliest(),
+                page.toOrLatest(), after.getStartTime(), after.afterId(), Limit.of(limit + 1));
+        return CursorPage.of(rows, limit, slot -> SlotCursor.of(slot).encode());
+    }
+
+    // The first page starts at every row at or after from
+    private SlotCursor afterCursor(SlotPageRequest page) {
+        return page.getCursor() != null ? SlotCursor.decode(page.getCursor())
+                : new SlotCursor(page.fromOrEarliest(), 0L);
+    }
+
+    private Slot findOrMaterializeSlot(Long eventId, LocalDateTime startTime) {
+        Optional<Slot> stored = slotRepository.findByEventIdAndStartTime(eventId, startTime);
+        if (stored.isPresent() || !slotProperties.isVirtual()) {
+            return stored.orElseThrow(() -> new SlotNotFoundException("Slot Not Found"));
+        }
+
+        // No row yet: the slot is free if it lies on the event's grid
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new SlotNotFoundException("Slot Not Found"));
 
-        if (!event.getRules().getIsPublic()) {
-            throw new UnauthorizedAccessException("Event is private");
+        int index = SlotGrid.indexOf(event, startTime);
+        if (index < 0) {
+            throw new SlotNotFoundException("Slot Not Found");
         }
 
-        return slotRepository.findByEventAndBookedByEmailIsNullAndBookedByNameIsNull(event);
+        return SlotGrid.virtualSlot(event, index);
+    }
+
+    private Slot saveBooking(Slot slot) {
+        if (slot.getId() != null) {
+            return slotRepository.save(slot);
+        }
+
+        // New row for a virtual slot: the (event_id, start_time) unique key rejects a concurrent booking
+        try {
+            return slotRepository.saveAndFlush(slot);
+        } catch (DataIntegrityViolationException e) {
+            throw new SlotAlreadyBookedException("This slot is already booked. Please choose another slot");
+        }
     }
 
     public Slot getSlotById(Long slotId) {
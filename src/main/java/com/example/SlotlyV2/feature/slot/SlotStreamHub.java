@@ -0,0 +1,180 @@
+package com.example.SlotlyV2.feature.slot;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import com.example.SlotlyV2.common.config.SlotProperties;
+import com.example.SlotlyV2.feature.slot.dto.SlotAvailabilityChange;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+// Fans availability changes out to the SSE subscribers of each shareable link. An idle subscriber is only
+// an emitter and an empty queue, no thread is held. Each subscriber drains its own queue on a virtual
+// thread, so a slow client never delays the others and still gets its messages in order.
+@Component
+@Slf4j
+public class SlotStreamHub {
+    private final Map<String, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final SlotAvailabilityIndex slotAvailabilityIndex;
+    private final SlotProperties slotProperties;
+    private final Executor slotStreamExecutor;
+
+    public SlotStreamHub(SlotAvailabilityIndex slotAvailabilityIndex, SlotProperties slotProperties,
+            @Qualifier("slotStreamExecutor") Executor slotStreamExecutor, MeterRegistry meterRegistry) {
+        this.slotAvailabilityIndex = slotAvailabilityIndex;
+        this.slotProperties = slotProperties;
+        this.slotStreamExecutor = slotStreamExecutor;
+
+        Gauge.builder("slot.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("Open live availability streams")
+                .register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(String shareableId) {
+        // Same not found / private errors as the share endpoints, and the version the client starts from
+        slotAvailabilityIndex.getPublicEvent(shareableId);
+        long version = slotAvailabilityIndex.getAvailabilityVersion(shareableId).orElseThrow();
+
+        Subscriber subscriber = new Subscriber(shareableId,
+                new SseEmitter(slotProperties.getStreamTimeout().toMillis()));
+
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(error -> remove(subscriber));
+
+        subscribers.compute(shareableId, (key, eventSubscribers) -> {
+            Set<Subscriber> updated = eventSubscribers != null ? eventSubscribers : ConcurrentHashMap.newKeySet();
+            updated.add(subscriber);
+            return updated;
+        });
+        subscriberCount.incrementAndGet();
+
+        subscriber.enqueue(SseEmitter.event().name("ready").id(Long.toString(version)).data(version));
+        return subscriber.emitter;
+    }
+
+    public void publish(String shareableId, SlotAvailabilityChange change) {
+        Set<Subscriber> eventSubscribers = subscribers.get(shareableId);
+        if (eventSubscribers == null) {
+            return;
+        }
+
+        String name = change.getType() == SlotAvailabilityChange.Type.TAKEN ? "slot-taken" : "slot-freed";
+        for (Subscriber subscriber : eventSubscribers) {
+            subscriber.enqueue(SseEmitter.event()
+                    .name(name)
+                    .id(change.getAvailabilityVersion().toString())
+                    .data(change));
+        }
+    }
+
+    // Ends every stream of an event that is gone, clients get a final message instead of reconnecting
+    public void close(String shareableId) {
+        Set<Subscriber> eventSubscribers = subscribers.remove(shareableId);
+        if (eventSubscribers == null) {
+            return;
+        }
+
+        for (Subscriber subscriber : eventSubscribers) {
+            subscriberCount.decrementAndGet();
+            subscriber.enqueue(SseEmitter.event().name("event-cancelled").data(shareableId));
+            subscriber.enqueueCompletion();
+        }
+    }
+
+    public int getSubscriberCount(String shareableId) {
+        Set<Subscriber> eventSubscribers = subscribers.get(shareableId);
+        return eventSubscribers == null ? 0 : eventSubscribers.size();
+    }
+
+    // Keeps idle connections open through proxies and finds clients that went away without closing
+    @Scheduled(fixedRateString = "${app.slots.stream-heartbeat}")
+    public void sendHeartbeats() {
+        for (Set<Subscriber> eventSubscribers : subscribers.values()) {
+            for (Subscriber subscriber : eventSubscribers) {
+                subscriber.enqueue(SseEmitter.event().comment("heartbeat"));
+            }
+        }
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.shareableId, (key, eventSubscribers) -> {
+            if (eventSubscribers.remove(subscriber)) {
+                subscriberCount.decrementAndGet();
+            }
+            return eventSubscribers.isEmpty() ? null : eventSubscribers;
+        });
+    }
+
+    private final class Subscriber {
+        private final String shareableId;
+        private final SseEmitter emitter;
+        private final Queue<SseEventBuilder> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean completeWhenDrained;
+
+        private Subscriber(String shareableId, SseEmitter emitter) {
+            this.shareableId = shareableId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(SseEventBuilder message) {
+            queue.add(message);
+            scheduleDrain();
+        }
+
+        private void enqueueCompletion() {
+            completeWhenDrained = true;
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                slotStreamExecutor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEventBuilder message;
+                while ((message = queue.poll()) != null) {
+                    emitter.send(message);
+                }
+
+                if (completeWhenDrained) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client is gone or the emitter already finished
+                log.debug("Dropping live availability subscriber for {}: {}", shareableId, e.getMessage());
+                queue.clear();
+                remove(this);
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+
+            // A message may have arrived between the last poll and releasing the flag
+            if (!queue.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.SlotlyV2.feature.slot;
+
+import java.util.Optional;
+
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.example.SlotlyV2.common.dto.ApiResponse;
+import com.example.SlotlyV2.feature.slot.dto.EventSlotsResponse;
+
+import lombok.RequiredArgsConstructor;
+
+// Grouped slot listings: the event header once, then compact slot rows
+@RestController
+@RequestMapping("/api/v2")
+@RequiredArgsConstructor
+public class SlotV2Controller {
+    private final SlotService slotService;
+    private final SlotAvailabilityIndex slotAvailabilityIndex;
+
+    @GetMapping("events/{eventId}/slots")
+    public ApiResponse<EventSlotsResponse> getSlots(@PathVariable Long eventId) {
+        return new ApiResponse<>("Slots fetched successfully", slotService.getSlotSummaries(eventId));
+    }
+
+    @GetMapping("share/{shareableId}/slots")
+    public ApiResponse<EventSlotsResponse> getAvailableSlotsByShareableId(@PathVariable String shareableId,
+            WebRequest webRequest) {
+        Optional<String> etag = slotAvailabilityIndex.getSlotsETag(shareableId);
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+            return null;
+        }
+
+        return new ApiResponse<>("Slots fetched successfully",
+                slotAvailabilityIndex.getAvailableSlotSummaries(shareableId));
+    }
+}
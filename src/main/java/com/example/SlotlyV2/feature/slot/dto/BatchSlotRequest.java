@@ -0,0 +1,33 @@
+package com.example.SlotlyV2.feature.slot.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class BatchSlotRequest {
+    @NotNull(message = "Event ID is required")
+    private Long eventId;
+
+    @NotEmpty(message = "At least one start time is required")
+    @Size(max = 50, message = "Cannot book more than 50 slots at once")
+    private List<@NotNull LocalDateTime> startTimes;
+
+    @NotBlank(message = "Attendee name is required")
+    private String attendeeName;
+
+    @Email(message = "Valid email is required")
+    @NotBlank(message = "Attendee email is required")
+    private String attendeeEmail;
+
+    @Size(max = 500, message = "Notes cannot exceed 500 characters")
+    private String notes;
+}
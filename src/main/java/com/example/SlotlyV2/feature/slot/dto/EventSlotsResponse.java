@@ -0,0 +1,13 @@
+package com.example.SlotlyV2.feature.slot.dto;
+
+import java.util.List;
+
+import com.example.SlotlyV2.feature.event.dto.EventResponse;
+
+import lombok.Value;
+
+@Value
+public class EventSlotsResponse {
+    private EventResponse event;
+    private List<SlotSummary> slots;
+}
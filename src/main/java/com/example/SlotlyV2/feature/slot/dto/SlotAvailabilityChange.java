@@ -0,0 +1,19 @@
+package com.example.SlotlyV2.feature.slot.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Value;
+
+// A batch booking takes several slots under one availability version
+@Value
+public class SlotAvailabilityChange {
+    private Type type;
+    private List<LocalDateTime> startTimes;
+    private Long availabilityVersion;
+
+    public enum Type {
+        TAKEN,
+        FREED
+    }
+}
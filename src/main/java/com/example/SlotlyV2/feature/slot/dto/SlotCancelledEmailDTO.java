@@ -12,4 +12,6 @@ public class SlotCancelledEmailDTO {
     private String eventName;
     private String hostName;
     private String hostEmail;
+    private String shareableId;
+    private Long availabilityVersion;
 }
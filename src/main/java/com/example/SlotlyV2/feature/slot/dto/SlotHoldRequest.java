@@ -0,0 +1,30 @@
+package com.example.SlotlyV2.feature.slot.dto;
+
+import java.time.LocalDateTime;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class SlotHoldRequest {
+    @NotNull(message = "Start time is required")
+    @Future(message = "Hold must be for a future slot")
+    private LocalDateTime startTime;
+
+    @Email(message = "Valid email is required")
+    @NotBlank(message = "Attendee email is required")
+    private String attendeeEmail;
+
+    // Token of the caller's current hold on the slot, to extend it
+    private String holdToken;
+
+    // Capped at app.slots.hold-ttl, which is also the default
+    @Positive(message = "Hold duration must be positive")
+    private Integer holdSeconds;
+}
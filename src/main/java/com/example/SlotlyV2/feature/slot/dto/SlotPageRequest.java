@@ -0,0 +1,41 @@
+package com.example.SlotlyV2.feature.slot.dto;
+
+import java.time.LocalDateTime;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Query parameters of the paged slot listings: an optional [from, to) start time range and a keyset cursor
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlotPageRequest {
+    private static final LocalDateTime EARLIEST = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    private String cursor;
+
+    private Integer limit;
+
+    // Without a cursor or limit the v1 listings keep their list shape and return every slot in the range
+    public boolean isPaged() {
+        return cursor != null || limit != null;
+    }
+
+    public LocalDateTime fromOrEarliest() {
+        return from != null ? from : EARLIEST;
+    }
+
+    public LocalDateTime toOrLatest() {
+        return to != null ? to : LATEST;
+    }
+}
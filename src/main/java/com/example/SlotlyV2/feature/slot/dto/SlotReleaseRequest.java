@@ -0,0 +1,18 @@
+package com.example.SlotlyV2.feature.slot.dto;
+
+import java.time.LocalDateTime;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class SlotReleaseRequest {
+    @NotNull(message = "Start time is required")
+    private LocalDateTime startTime;
+
+    @NotBlank(message = "Hold token is required")
+    private String holdToken;
+}
@@ -15,6 +15,8 @@ public class SlotResponse {
     private String bookedByName;
     private String bookedByEmail;
     private LocalDateTime bookedAt;
+    // Null where only whether the slot can be booked is known
+    private Integer seatsLeft;
 
     public SlotResponse(Slot slot) {
         this.eventResponse = new EventResponse(slot.getEvent());
@@ -23,5 +25,17 @@ public class SlotResponse {
         this.bookedByName = slot.getBookedByName();
         this.bookedByEmail = slot.getBookedByEmail();
         this.bookedAt = slot.getBookedAt();
+        this.seatsLeft = slot.getSeatsLeft();
+    }
+
+    // A free slot, for callers that have the event but no Slot row
+    public SlotResponse(EventResponse eventResponse, LocalDateTime startTime, LocalDateTime endTime) {
+        this.eventResponse = eventResponse;
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.bookedByName = null;
+        this.bookedByEmail = null;
+        this.bookedAt = null;
+        this.seatsLeft = null;
     }
 }
@@ -0,0 +1,26 @@
+package com.example.SlotlyV2.feature.slot.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.Value;
+
+// One slot in a grouped listing, the event is sent once alongside
+@Value
+public class SlotSummary {
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private Boolean booked;
+    // Null where only whether the slot can be booked is known
+    private Integer seatsLeft;
+
+    public SlotSummary(LocalDateTime startTime, LocalDateTime endTime, Boolean booked, Integer seatsLeft) {
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.booked = booked;
+        this.seatsLeft = seatsLeft;
+    }
+
+    public SlotSummary(LocalDateTime startTime, LocalDateTime endTime, Boolean booked) {
+        this(startTime, endTime, booked, null);
+    }
+}
@@ -4,6 +4,7 @@ import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.Collections;
 
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
@@ -73,6 +74,12 @@ public class User implements UserDetails {
     @Column(name = "password_verification_token_expires_at")
     private LocalDateTime passwordVerificationTokenExpiresAt;
 
+    // Embedded in every token, bumped to revoke all of the user's tokens
+    @Column(name = "token_epoch", nullable = false)
+    @ColumnDefault("0")
+    @JsonIgnore
+    private Integer tokenEpoch = 0;
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.emptyList();
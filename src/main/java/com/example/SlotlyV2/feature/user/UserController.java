@@ -56,6 +56,12 @@ public class UserController {
         return new ApiResponse<>("Logged out successfully", null);
     }
 
+    @PostMapping("/logout-all")
+    public ApiResponse<Void> logoutEverywhere(HttpServletRequest request) {
+        userService.logoutEverywhere(request);
+        return new ApiResponse<>("Logged out on all devices successfully", null);
+    }
+
     @GetMapping("/me")
     public ApiResponse<UserResponse> userProfile() {
         User user = userService.getCurrentUser();
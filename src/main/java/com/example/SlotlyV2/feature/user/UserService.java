@@ -15,6 +15,8 @@ import com.example.SlotlyV2.common.exception.auth.PasswordMismatchException;
 import com.example.SlotlyV2.common.exception.auth.UnauthorizedAccessException;
 import com.example.SlotlyV2.common.exception.user.UserAlreadyExistsException;
 import com.example.SlotlyV2.common.exception.user.UsernameAlreadyExistsException;
+import com.example.SlotlyV2.common.security.AuthenticatedUser;
+import com.example.SlotlyV2.feature.auth.TokenEpochs;
 import com.example.SlotlyV2.feature.auth.VerificationTokenService;
 import com.example.SlotlyV2.feature.email.event.EmailVerificationEvent;
 import com.example.SlotlyV2.feature.email.event.PasswordResetEvent;
@@ -40,6 +42,7 @@ public class UserService {
     private final AuthenticationManager authenticationManager;
     private final ApplicationEventPublisher eventPublisher;
     private final VerificationTokenService verificationTokenService;
+    private final TokenEpochs tokenEpochs;
 
     @Transactional(rollbackOn = Exception.class)
     public User registerUser(RegisterRequest request) {
@@ -132,27 +135,54 @@ public class UserService {
         user.setPasswordVerificationToken(null);
         user.setPasswordVerificationTokenExpiresAt(null);
 
+        // Tokens issued with the old password stop working
+        tokenEpochs.revokeAll(user);
+
         userRepository.save(user);
     }
 
+    // The caller's identity, from the session's User or the access token's claims, without a query
+    public AuthenticatedUser getAuthenticatedUser() {
+        Object principal = getPrincipal();
+
+        if (principal instanceof AuthenticatedUser authenticatedUser) {
+            return authenticatedUser;
+        }
+
+        return AuthenticatedUser.of((User) principal);
+    }
+
+    public Long getCurrentUserId() {
+        return getAuthenticatedUser().getId();
+    }
+
+    // For token requests this is a reference, loaded only once a field other than the id is read
     public User getCurrentUser() {
+        Object principal = getPrincipal();
+
+        if (principal instanceof AuthenticatedUser authenticatedUser) {
+            return userRepository.getReferenceById(authenticatedUser.getId());
+        }
+
+        return (User) principal;
+    }
+
+    private Object getPrincipal() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
 
         if (auth == null || !auth.isAuthenticated() || auth.getPrincipal() == null) {
             throw new UnauthorizedAccessException("User not authenticated");
         }
 
-        if (auth.getPrincipal() instanceof User) {
-            return (User) auth.getPrincipal();
+        if (auth.getPrincipal() instanceof User || auth.getPrincipal() instanceof AuthenticatedUser) {
+            return auth.getPrincipal();
         }
 
         throw new UnauthorizedAccessException("User not authenticated");
     }
 
     public void logout(HttpServletRequest request) {
-        if (getCurrentUser() == null) {
-            throw new UnauthorizedAccessException("User not authenticated");
-        }
+        getAuthenticatedUser();
 
         SecurityContextHolder.clearContext();
 
@@ -161,4 +191,16 @@ public class UserService {
             session.invalidate();
         }
     }
+
+    // Revokes every token of the user and ends this session, sessions on other devices are not tracked
+    @Transactional(rollbackOn = Exception.class)
+    public void logoutEverywhere(HttpServletRequest request) {
+        User user = userRepository.findById(getCurrentUserId())
+                .orElseThrow(() -> new UnauthorizedAccessException("User not authenticated"));
+
+        tokenEpochs.revokeAll(user);
+        userRepository.save(user);
+
+        logout(request);
+    }
 }
@@ -0,0 +1,68 @@
+package com.example.SlotlyV2.feature.waitlist;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+// One event's waitlist in memory: a heap of tickets that take any slot and one heap per requested slot,
+// each ordered by entry id, so a promotion compares two heads instead of scanning the waitlist
+public class EventWaitlist {
+    private static final Comparator<WaitlistTicket> BY_ID = Comparator.comparing(WaitlistTicket::getId);
+
+    private final PriorityQueue<WaitlistTicket> anySlot = new PriorityQueue<>(BY_ID);
+    private final Map<LocalDateTime, PriorityQueue<WaitlistTicket>> bySlot = new HashMap<>();
+    // Drops a ticket that is added again, e.g. one loaded from the table and then added after its commit
+    private final Set<Long> ticketIds = new HashSet<>();
+
+    public static EventWaitlist of(List<WaitlistTicket> tickets) {
+        EventWaitlist waitlist = new EventWaitlist();
+        tickets.forEach(waitlist::add);
+        return waitlist;
+    }
+
+    public synchronized void add(WaitlistTicket ticket) {
+        if (!ticketIds.add(ticket.getId())) {
+            return;
+        }
+
+        if (ticket.getStartTime() == null) {
+            anySlot.add(ticket);
+        } else {
+            bySlot.computeIfAbsent(ticket.getStartTime(), startTime -> new PriorityQueue<>(BY_ID)).add(ticket);
+        }
+    }
+
+    // The longest-waiting ticket that can take the slot, O(log n)
+    public synchronized Optional<WaitlistTicket> poll(LocalDateTime startTime) {
+        PriorityQueue<WaitlistTicket> slotQueue = bySlot.get(startTime);
+        WaitlistTicket forSlot = slotQueue != null ? slotQueue.peek() : null;
+        WaitlistTicket forAny = anySlot.peek();
+
+        if (forSlot == null && forAny == null) {
+            return Optional.empty();
+        }
+
+        WaitlistTicket next;
+        if (forAny == null || (forSlot != null && forSlot.getId() < forAny.getId())) {
+            next = slotQueue.poll();
+            if (slotQueue.isEmpty()) {
+                bySlot.remove(startTime);
+            }
+        } else {
+            next = anySlot.poll();
+        }
+
+        ticketIds.remove(next.getId());
+        return Optional.of(next);
+    }
+
+    public synchronized int size() {
+        return ticketIds.size();
+    }
+}
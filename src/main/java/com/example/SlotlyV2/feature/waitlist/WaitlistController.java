@@ -0,0 +1,33 @@
+package com.example.SlotlyV2.feature.waitlist;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.SlotlyV2.common.dto.ApiResponse;
+import com.example.SlotlyV2.common.rate_limiting.RateLimitHelper;
+import com.example.SlotlyV2.feature.waitlist.dto.WaitlistRequest;
+import com.example.SlotlyV2.feature.waitlist.dto.WaitlistResponse;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/v1")
+@RequiredArgsConstructor
+public class WaitlistController {
+    private final WaitlistService waitlistService;
+    private final RateLimitHelper rateLimitHelper;
+
+    @PostMapping("slots/waitlist")
+    @ResponseStatus(HttpStatus.CREATED)
+    public ApiResponse<WaitlistResponse> joinWaitlist(@Valid @RequestBody WaitlistRequest request) {
+        rateLimitHelper.checkBookingRateLimit(request.getAttendeeEmail());
+
+        WaitlistEntry entry = waitlistService.join(request);
+        return new ApiResponse<>("Joined the waitlist successfully", new WaitlistResponse(entry));
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.SlotlyV2.feature.waitlist;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import com.example.SlotlyV2.feature.event.Event;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "waitlist_entries", indexes = {
+        @Index(name = "idx_waitlist_entries_event_id_id", columnList = "event_id, id"),
+        @Index(name = "idx_waitlist_entries_event_email", columnList = "event_id, attendee_email")
+})
+public class WaitlistEntry {
+
+    // Ascending ids are the waitlist order
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Event event;
+
+    // Null when any slot of the event will do
+    @Column(name = "start_time")
+    private LocalDateTime startTime;
+
+    @Column(name = "attendee_name", nullable = false)
+    private String attendeeName;
+
+    @Column(name = "attendee_email", nullable = false)
+    private String attendeeEmail;
+
+    private LocalDateTime createdAt;
+}
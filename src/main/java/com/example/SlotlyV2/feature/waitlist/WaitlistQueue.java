@@ -0,0 +1,66 @@
+package com.example.SlotlyV2.feature.waitlist;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import lombok.RequiredArgsConstructor;
+
+// In-memory mirror of the waitlist table. An event's waitlist is read from the table once, on its first
+// promotion, and then kept current by the joins and promotions of this instance. Joins on other instances
+// show up when the entry expires and is read again, like the availability index.
+@Component
+@RequiredArgsConstructor
+public class WaitlistQueue {
+    private final Cache<Long, EventWaitlist> waitlistCache;
+    private final WaitlistRepository waitlistRepository;
+
+    // Takes the ticket inside the caller's transaction and puts it back if that transaction rolls back
+    public Optional<WaitlistTicket> poll(Long eventId, LocalDateTime startTime) {
+        EventWaitlist waitlist = waitlistCache.get(eventId,
+                id -> EventWaitlist.of(waitlistRepository.findTicketsByEventId(id)));
+
+        Optional<WaitlistTicket> ticket = waitlist.poll(startTime);
+        ticket.ifPresent(taken -> afterCompletion(taken, false));
+        return ticket;
+    }
+
+    // Adds the ticket once the transaction that saved its entry has committed
+    public void addAfterCommit(WaitlistTicket ticket) {
+        afterCompletion(ticket, true);
+    }
+
+    // Returns a polled ticket whose entry stays on the waitlist, at its old place
+    public void putBack(WaitlistTicket ticket) {
+        add(ticket);
+    }
+
+    public void evict(Long eventId) {
+        waitlistCache.invalidate(eventId);
+    }
+
+    private void afterCompletion(WaitlistTicket ticket, boolean onCommit) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if ((status == STATUS_COMMITTED) == onCommit) {
+                    add(ticket);
+                }
+            }
+        });
+    }
+
+    // A waitlist that is not loaded yet reads the ticket from the table instead. Computing also waits for a
+    // load in progress, which may have read the table before the entry was committed
+    private void add(WaitlistTicket ticket) {
+        waitlistCache.asMap().computeIfPresent(ticket.getEventId(), (eventId, waitlist) -> {
+            waitlist.add(ticket);
+            return waitlist;
+        });
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.SlotlyV2.feature.waitlist;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+
+import jakarta.persistence.LockModeType;
+
+public interface WaitlistRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    // Read once per event to build its in-memory waitlist, served by idx_waitlist_entries_event_id_id
+    @Query("""
+            SELECT new com.example.SlotlyV2.feature.waitlist.WaitlistTicket(
+                w.id, w.event.id, w.startTime, w.attendeeName, w.attendeeEmail)
+            FROM WaitlistEntry w
+            WHERE w.event.id = :eventId
+            ORDER BY w.id
+            """)
+    List<WaitlistTicket> findTicketsByEventId(Long eventId);
+
+    // Served by idx_waitlist_entries_event_email
+    @Query("""
+            SELECT COUNT(w) > 0 FROM WaitlistEntry w
+            WHERE w.event.id = :eventId AND w.attendeeEmail = :attendeeEmail
+                AND (w.startTime = :startTime OR (w.startTime IS NULL AND :startTime IS NULL))
+            """)
+    boolean isWaiting(Long eventId, String attendeeEmail, LocalDateTime startTime);
+
+    // Locks the entry for a promotion, empty when another promotion already took it
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM WaitlistEntry w WHERE w.id = :id")
+    Optional<WaitlistEntry> findForUpdateById(Long id);
+}
@@ -0,0 +1,153 @@
+package com.example.SlotlyV2.feature.waitlist;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+import org.springframework.stereotype.Service;
+
+import com.example.SlotlyV2.common.exception.event.EventNotFoundException;
+import com.example.SlotlyV2.common.exception.slot.AlreadyOnWaitlistException;
+import com.example.SlotlyV2.common.exception.slot.InvalidSlotException;
+import com.example.SlotlyV2.common.exception.slot.SlotNotFoundException;
+import com.example.SlotlyV2.feature.event.Event;
+import com.example.SlotlyV2.feature.event.EventRepository;
+import com.example.SlotlyV2.feature.slot.AttendeeSchedule;
+import com.example.SlotlyV2.feature.slot.Slot;
+import com.example.SlotlyV2.feature.slot.SlotAttendeeRepository;
+import com.example.SlotlyV2.feature.slot.SlotGrid;
+import com.example.SlotlyV2.feature.slot.SlotRepository;
+import com.example.SlotlyV2.feature.waitlist.dto.WaitlistRequest;
+
+import jakarta.transaction.Transactional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistService {
+    private final WaitlistRepository waitlistRepository;
+    private final WaitlistQueue waitlistQueue;
+    private final EventRepository eventRepository;
+    private final SlotRepository slotRepository;
+    private final SlotAttendeeRepository slotAttendeeRepository;
+    private final AttendeeSchedule attendeeSchedule;
+
+    @Transactional(rollbackOn = Exception.class)
+    public WaitlistEntry join(WaitlistRequest request) {
+        Event event = eventRepository.findById(request.getEventId())
+                .orElseThrow(() -> new EventNotFoundException("Event Not Found"));
+
+        LocalDateTime startTime = request.getStartTime();
+        if (startTime != null) {
+            if (SlotGrid.indexOf(event, startTime) < 0) {
+                throw new SlotNotFoundException("Slot Not Found");
+            }
+
+            ZoneId zone = ZoneId.of(event.getTimeZone());
+            if (startTime.atZone(zone).isBefore(ZonedDateTime.now(zone))) {
+                throw new InvalidSlotException("Cannot join the waitlist of a past slot");
+            }
+        }
+
+        // Only a full event or a taken slot has a waitlist
+        Integer maxCapacity = event.getRules().getMaxCapacity();
+        boolean full = maxCapacity != null && event.getBookedCount() >= maxCapacity;
+        if (!full && (startTime == null || isFree(event, startTime))) {
+            throw new InvalidSlotException("This event still has free slots. Please book one instead");
+        }
+
+        if (waitlistRepository.isWaiting(event.getId(), request.getAttendeeEmail(), startTime)) {
+            throw new AlreadyOnWaitlistException("You are already on the waitlist for this slot");
+        }
+
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setEvent(event);
+        entry.setStartTime(startTime);
+        entry.setAttendeeName(request.getAttendeeName());
+        entry.setAttendeeEmail(request.getAttendeeEmail());
+        entry.setCreatedAt(LocalDateTime.now());
+        entry = waitlistRepository.save(entry);
+
+        waitlistQueue.addAfterCommit(new WaitlistTicket(entry.getId(), event.getId(), startTime,
+                entry.getAttendeeName(), entry.getAttendeeEmail()));
+
+        return entry;
+    }
+
+    // Promotes the longest-waiting attendee who can have the freed slot (or seat), within the caller's
+    // transaction. An entry is deleted only once its promotion succeeded: attendees who cannot take this slot
+    // right now, and one whose promotion failed, keep their place for the next freed slot. Entries promoted on
+    // another instance are dropped on the way.
+    public Optional<WaitlistTicket> claimNext(Slot freedSlot, Predicate<WaitlistTicket> promotion) {
+        Long eventId = freedSlot.getEvent().getId();
+        List<WaitlistTicket> skipped = new ArrayList<>();
+
+        try {
+            Optional<WaitlistTicket> next;
+            while ((next = waitlistQueue.poll(eventId, freedSlot.getStartTime())).isPresent()) {
+                WaitlistTicket ticket = next.get();
+
+                if (!canTake(freedSlot, ticket.getAttendeeEmail())) {
+                    skipped.add(ticket);
+                    continue;
+                }
+
+                // Locked until the caller commits, so a promotion on another instance waits and then skips it
+                Optional<WaitlistEntry> entry = waitlistRepository.findForUpdateById(ticket.getId());
+                if (entry.isEmpty()) {
+                    continue;
+                }
+
+                if (!promotion.test(ticket)) {
+                    log.warn("Could not promote waitlist entry {} to the freed slot {} of event {}", ticket.getId(),
+                            freedSlot.getStartTime(), eventId);
+                    skipped.add(ticket);
+                    return Optional.empty();
+                }
+
+                waitlistRepository.delete(entry.get());
+                return next;
+            }
+
+            return Optional.empty();
+        } finally {
+            skipped.forEach(waitlistQueue::putBack);
+        }
+    }
+
+    private boolean canTake(Slot freedSlot, String attendeeEmail) {
+        Event event = freedSlot.getEvent();
+
+        // Seats of group slots live in slot_attendees, one-seat bookings on the slot rows
+        if (freedSlot.hasSeats() && slotAttendeeRepository.existsBySlotIdAndAttendeeEmail(freedSlot.getId(),
+                attendeeEmail)) {
+            return false;
+        }
+
+        if (attendeeSchedule.overlaps(attendeeEmail, event, freedSlot.getStartTime(), freedSlot.getEndTime())) {
+            return false;
+        }
+
+        Integer maxSlotsPerUser = event.getRules().getMaxSlotsPerUser();
+        if (maxSlotsPerUser == null) {
+            return true;
+        }
+
+        long booked = freedSlot.hasSeats()
+                ? slotAttendeeRepository.countByEventIdAndAttendeeEmail(event.getId(), attendeeEmail)
+                : slotRepository.countByEventIdAndBookedByEmail(event.getId(), attendeeEmail);
+        return booked < maxSlotsPerUser;
+    }
+
+    private boolean isFree(Event event, LocalDateTime startTime) {
+        return slotRepository.findByEventIdAndStartTime(event.getId(), startTime)
+                .map(Slot::isAvailable)
+                .orElse(true);
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.SlotlyV2.feature.waitlist;
+
+import java.time.LocalDateTime;
+
+import lombok.Value;
+
+// The in-memory copy of a waitlist entry, carrying everything a promotion needs without reading the row
+@Value
+public class WaitlistTicket {
+    private Long id;
+    private Long eventId;
+    private LocalDateTime startTime;
+    private String attendeeName;
+    private String attendeeEmail;
+}
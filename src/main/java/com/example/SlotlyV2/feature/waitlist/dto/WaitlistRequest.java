@@ -0,0 +1,28 @@
+package com.example.SlotlyV2.feature.waitlist.dto;
+
+import java.time.LocalDateTime;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Value;
+
+@Value
+@Builder
+public class WaitlistRequest {
+    @NotNull(message = "Event ID is required")
+    private Long eventId;
+
+    // Leave empty to take the first slot of the event that frees up
+    @Future(message = "Waitlist must be for a future slot")
+    private LocalDateTime startTime;
+
+    @NotBlank(message = "Attendee name is required")
+    private String attendeeName;
+
+    @Email(message = "Valid email is required")
+    @NotBlank(message = "Attendee email is required")
+    private String attendeeEmail;
+}
@@ -0,0 +1,24 @@
+package com.example.SlotlyV2.feature.waitlist.dto;
+
+import java.time.LocalDateTime;
+
+import com.example.SlotlyV2.feature.waitlist.WaitlistEntry;
+
+import lombok.Value;
+
+@Value
+public class WaitlistResponse {
+    private Long eventId;
+    private LocalDateTime startTime;
+    private String attendeeName;
+    private String attendeeEmail;
+    private LocalDateTime createdAt;
+
+    public WaitlistResponse(WaitlistEntry entry) {
+        this.eventId = entry.getEvent().getId();
+        this.startTime = entry.getStartTime();
+        this.attendeeName = entry.getAttendeeName();
+        this.attendeeEmail = entry.getAttendeeEmail();
+        this.createdAt = entry.getCreatedAt();
+    }
+}
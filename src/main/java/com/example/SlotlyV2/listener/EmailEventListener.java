@@ -7,6 +7,7 @@ import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 import com.example.SlotlyV2.feature.email.EmailService;
+import com.example.SlotlyV2.feature.email.dto.BatchBookingEmailDTO;
 import com.example.SlotlyV2.feature.email.dto.BookingEmailDTO;
 import com.example.SlotlyV2.feature.email.dto.EventCancelledEmailDTO;
 import com.example.SlotlyV2.feature.email.event.EmailVerificationEvent;
@@ -14,6 +15,7 @@ import com.example.SlotlyV2.feature.email.event.EventCancelledEvent;
 import com.example.SlotlyV2.feature.email.event.PasswordResetEvent;
 import com.example.SlotlyV2.feature.email.event.SlotBookedEvent;
 import com.example.SlotlyV2.feature.email.event.SlotCancelledEvent;
+import com.example.SlotlyV2.feature.email.event.SlotsBookedEvent;
 import com.example.SlotlyV2.feature.slot.dto.SlotCancelledEmailDTO;
 import com.example.SlotlyV2.feature.user.dto.PasswordResetDTO;
 import com.example.SlotlyV2.feature.user.dto.UserVerificationDTO;
@@ -35,7 +37,11 @@ public class EmailEventListener {
         log.debug("Received SlotBookedEvent for slot: {}", data.getSlotId());
 
         try {
-            emailService.sendBookingConfirmation(data);
+            if (data.isPromotedFromWaitlist()) {
+                emailService.sendWaitlistPromotion(data);
+            } else {
+                emailService.sendBookingConfirmation(data);
+            }
             emailService.sendHostNotification(data);
             log.info("Emails sent successfully for slot: {}", data.getSlotId());
         } catch (Exception e) {
@@ -43,6 +49,23 @@ public class EmailEventListener {
         }
     }
 
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Async("emailTaskExecutor")
+    public void handleSlotsBooked(SlotsBookedEvent event) {
+        BatchBookingEmailDTO data = event.getBatchBookingEmailDTO();
+
+        log.debug("Received SlotsBookedEvent for {} slots of event: {}", data.getSlots().size(), data.getEventName());
+
+        try {
+            emailService.sendBatchBookingConfirmation(data);
+            emailService.sendBatchHostNotification(data);
+            log.info("Emails sent successfully for batch booking by: {}", data.getAttendeeEmail());
+        } catch (Exception e) {
+            log.error("Failed to send emails for batch booking by {}: {}", data.getAttendeeEmail(), e.getMessage(),
+                    e);
+        }
+    }
+
     @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
     @Async("emailTaskExecutor")
     public void handleSlotCancelled(SlotCancelledEvent event) {
@@ -0,0 +1,69 @@
+package com.example.SlotlyV2.listener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.SlotlyV2.feature.email.dto.BatchBookingEmailDTO;
+import com.example.SlotlyV2.feature.email.dto.BookingEmailDTO;
+import com.example.SlotlyV2.feature.email.event.EventCancelledEvent;
+import com.example.SlotlyV2.feature.email.event.SlotBookedEvent;
+import com.example.SlotlyV2.feature.email.event.SlotCancelledEvent;
+import com.example.SlotlyV2.feature.email.event.SlotsBookedEvent;
+import com.example.SlotlyV2.feature.slot.SlotAvailabilityIndex;
+import com.example.SlotlyV2.feature.slot.SlotHoldRegistry;
+import com.example.SlotlyV2.feature.slot.dto.SlotCancelledEmailDTO;
+import com.example.SlotlyV2.feature.slot.dto.SlotSummary;
+
+import lombok.RequiredArgsConstructor;
+
+// Runs synchronously after commit, so the index is current before the booking response is sent
+@Component
+@RequiredArgsConstructor
+public class SlotAvailabilityListener {
+    private final SlotAvailabilityIndex slotAvailabilityIndex;
+    private final SlotHoldRegistry slotHoldRegistry;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSlotBooked(SlotBookedEvent event) {
+        BookingEmailDTO data = event.getBookingEmailDTO();
+        if (data.getSeatsLeft() > 0) {
+            // A seat of a group slot was taken, the slot itself can still be booked
+            slotAvailabilityIndex.markAvailable(data.getShareableId(), data.getStartTime(),
+                    data.getAvailabilityVersion());
+        } else {
+            slotAvailabilityIndex.markBooked(data.getShareableId(), data.getStartTime(),
+                    data.getAvailabilityVersion());
+        }
+        slotHoldRegistry.release(data.getShareableId(), List.of(data.getStartTime()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSlotsBooked(SlotsBookedEvent event) {
+        BatchBookingEmailDTO data = event.getBatchBookingEmailDTO();
+        Map<Boolean, List<LocalDateTime>> byFull = data.getSlots().stream().collect(Collectors.partitioningBy(
+                slot -> slot.getSeatsLeft() == null || slot.getSeatsLeft() == 0,
+                Collectors.mapping(SlotSummary::getStartTime, Collectors.toList())));
+        slotAvailabilityIndex.markBooked(data.getShareableId(), byFull.get(true), byFull.get(false),
+                data.getAvailabilityVersion());
+        slotHoldRegistry.release(data.getShareableId(), byFull.get(true));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSlotCancelled(SlotCancelledEvent event) {
+        SlotCancelledEmailDTO data = event.getSlotCancelledEmailDTO();
+        slotAvailabilityIndex.markAvailable(data.getShareableId(), LocalDateTime.parse(data.getSlotStartTime()),
+                data.getAvailabilityVersion());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleEventCancelled(EventCancelledEvent event) {
+        slotAvailabilityIndex.evict(event.getEventCancelledEmailDTO().getShareableId());
+        slotHoldRegistry.releaseAll(event.getEventCancelledEmailDTO().getShareableId());
+    }
+}
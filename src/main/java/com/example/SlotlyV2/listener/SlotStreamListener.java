@@ -0,0 +1,71 @@
+package com.example.SlotlyV2.listener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.SlotlyV2.feature.email.dto.BatchBookingEmailDTO;
+import com.example.SlotlyV2.feature.email.dto.BookingEmailDTO;
+import com.example.SlotlyV2.feature.email.event.EventCancelledEvent;
+import com.example.SlotlyV2.feature.email.event.SlotBookedEvent;
+import com.example.SlotlyV2.feature.email.event.SlotCancelledEvent;
+import com.example.SlotlyV2.feature.email.event.SlotsBookedEvent;
+import com.example.SlotlyV2.feature.slot.SlotStreamHub;
+import com.example.SlotlyV2.feature.slot.dto.SlotAvailabilityChange;
+import com.example.SlotlyV2.feature.slot.dto.SlotCancelledEmailDTO;
+import com.example.SlotlyV2.feature.slot.dto.SlotSummary;
+
+import lombok.RequiredArgsConstructor;
+
+// Publishing only queues the messages, the sends happen on the hub's own threads
+@Component
+@RequiredArgsConstructor
+public class SlotStreamListener {
+    private final SlotStreamHub slotStreamHub;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSlotBooked(SlotBookedEvent event) {
+        BookingEmailDTO data = event.getBookingEmailDTO();
+        // A seat of a group slot was taken, the slot itself can still be booked
+        SlotAvailabilityChange.Type type = data.getSeatsLeft() > 0
+                ? SlotAvailabilityChange.Type.FREED
+                : SlotAvailabilityChange.Type.TAKEN;
+        slotStreamHub.publish(data.getShareableId(), new SlotAvailabilityChange(type, List.of(data.getStartTime()),
+                data.getAvailabilityVersion()));
+    }
+
+    // Full slots go out as taken and group slots with seats left as still free, under the batch's one version
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSlotsBooked(SlotsBookedEvent event) {
+        BatchBookingEmailDTO data = event.getBatchBookingEmailDTO();
+        Map<Boolean, List<LocalDateTime>> byFull = data.getSlots().stream().collect(Collectors.partitioningBy(
+                slot -> slot.getSeatsLeft() == null || slot.getSeatsLeft() == 0,
+                Collectors.mapping(SlotSummary::getStartTime, Collectors.toList())));
+
+        if (!byFull.get(true).isEmpty()) {
+            slotStreamHub.publish(data.getShareableId(), new SlotAvailabilityChange(
+                    SlotAvailabilityChange.Type.TAKEN, byFull.get(true), data.getAvailabilityVersion()));
+        }
+        if (!byFull.get(false).isEmpty()) {
+            slotStreamHub.publish(data.getShareableId(), new SlotAvailabilityChange(
+                    SlotAvailabilityChange.Type.FREED, byFull.get(false), data.getAvailabilityVersion()));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleSlotCancelled(SlotCancelledEvent event) {
+        SlotCancelledEmailDTO data = event.getSlotCancelledEmailDTO();
+        slotStreamHub.publish(data.getShareableId(), new SlotAvailabilityChange(SlotAvailabilityChange.Type.FREED,
+                List.of(LocalDateTime.parse(data.getSlotStartTime())), data.getAvailabilityVersion()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleEventCancelled(EventCancelledEvent event) {
+        slotStreamHub.close(event.getEventCancelledEmailDTO().getShareableId());
+    }
+}
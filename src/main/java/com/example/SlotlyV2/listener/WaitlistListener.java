@@ -0,0 +1,22 @@
+package com.example.SlotlyV2.listener;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.SlotlyV2.feature.email.event.EventCancelledEvent;
+import com.example.SlotlyV2.feature.waitlist.WaitlistQueue;
+
+import lombok.RequiredArgsConstructor;
+
+// The entries themselves go with the event row, through their ON DELETE CASCADE foreign key
+@Component
+@RequiredArgsConstructor
+public class WaitlistListener {
+    private final WaitlistQueue waitlistQueue;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleEventCancelled(EventCancelledEvent event) {
+        waitlistQueue.evict(event.getEventCancelledEmailDTO().getEventId());
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.SlotlyV2.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.SlotlyV2.feature.availability.AvailabilityRules;
+import com.example.SlotlyV2.feature.event.Event;
+import com.example.SlotlyV2.feature.event.EventRepository;
+import com.example.SlotlyV2.feature.slot.AttendeeSchedule;
+import com.example.SlotlyV2.feature.slot.Slot;
+import com.example.SlotlyV2.feature.slot.SlotGrid;
+import com.example.SlotlyV2.feature.slot.SlotRepository;
+import com.example.SlotlyV2.feature.user.User;
+import com.example.SlotlyV2.feature.user.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+// Run with: mvn test -Pbenchmark
+@Tag("benchmark")
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import(AttendeeSchedule.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class AttendeeOverlapBenchmark {
+
+    private static final int SLOT_DURATION_MINUTES = 30;
+    private static final int[] BOOKING_COUNTS = { 1_000, 5_000, 20_000 };
+    // Every attendee's bookings are spread over events of this many slots
+    private static final int SLOTS_PER_EVENT = 500;
+    private static final int CHECKS = 2_000;
+
+    @Autowired
+    private AttendeeSchedule attendeeSchedule;
+
+    @Autowired
+    private SlotRepository slotRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User host;
+
+    private int eventCounter;
+
+    @Test
+    void measureOverlapCheckLatencyByBookingsPerAttendee() {
+        host = new User();
+        host.setEmail("bench-host@example.com");
+        host.setDisplayName("bench_host");
+        host.setPassword("password");
+        host.setIsVerified(true);
+        host = userRepository.save(host);
+
+        System.out.printf("%n%-10s %-14s %-14s%n", "bookings", "seek (us)", "range (us)");
+        for (int bookingCount : BOOKING_COUNTS) {
+            String email = "attendee" + bookingCount + "@example.com";
+            List<Event> events = book(email, bookingCount);
+
+            // Warm up both queries for this attendee
+            for (int run = 0; run < 3; run++) {
+                measure(email, events, bookingCount, true);
+                measure(email, events, bookingCount, false);
+            }
+
+            System.out.printf("%-10d %-14.1f %-14.1f%n", bookingCount, measure(email, events, bookingCount, true),
+                    measure(email, events, bookingCount, false));
+        }
+    }
+
+    // Checks a slot starting halfway through a random booking, so every check finds an overlap
+    private double measure(String email, List<Event> events, int bookingCount, boolean seek) {
+        Random random = new Random(42);
+        long started = System.nanoTime();
+        for (int i = 0; i < CHECKS; i++) {
+            int booking = random.nextInt(bookingCount);
+            Event event = events.get(booking / SLOTS_PER_EVENT);
+            long offset = (long) SLOT_DURATION_MINUTES * (booking % SLOTS_PER_EVENT) + SLOT_DURATION_MINUTES / 2;
+            LocalDateTime start = event.getEventStart().plusMinutes(offset);
+            LocalDateTime end = start.plusMinutes(SLOT_DURATION_MINUTES);
+
+            boolean overlaps = seek
+                    ? attendeeSchedule.overlaps(email, event, start, end)
+                    : countOverlapping(email, event, start, end) > 0;
+            assertEquals(true, overlaps);
+        }
+        return (System.nanoTime() - started) / 1e3 / CHECKS;
+    }
+
+    // What the check would be without the seek: a range over everything the attendee booked after the slot starts
+    private long countOverlapping(String email, Event event, LocalDateTime start, LocalDateTime end) {
+        return entityManager.createQuery("""
+                SELECT COUNT(s) FROM Slot s
+                WHERE s.bookedByEmail = :email AND s.startInstant < :end AND s.endInstant > :start
+                """, Long.class)
+                .setParameter("email", email)
+                .setParameter("start", SlotGrid.instantOf(event, start))
+                .setParameter("end", SlotGrid.instantOf(event, end))
+                .getSingleResult();
+    }
+
+    // Back-to-back bookings over consecutive events, as an attendee booking every slot would have
+    private List<Event> book(String email, int bookingCount) {
+        List<Event> events = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(0).withMinute(0).withSecond(0).withNano(0);
+        for (int booked = 0; booked < bookingCount; booked += SLOTS_PER_EVENT) {
+            Event event = createEvent(start);
+            List<Slot> slots = new ArrayList<>();
+            for (int index = 0; index < SLOTS_PER_EVENT; index++) {
+                Slot slot = SlotGrid.virtualSlot(event, index);
+                slot.setBookedByName("Attendee");
+                slot.setBookedByEmail(email);
+                slot.setBookedAt(LocalDateTime.now());
+                slots.add(slot);
+            }
+            slotRepository.saveAll(slots);
+            events.add(event);
+            start = event.getEventEnd();
+        }
+        return events;
+    }
+
+    private Event createEvent(LocalDateTime start) {
+        AvailabilityRules rules = new AvailabilityRules();
+        rules.setSlotDurationMinutes(SLOT_DURATION_MINUTES);
+
+        Event event = new Event();
+        event.setEventName("Benchmark " + eventCounter++);
+        event.setHost(host);
+        event.setEventStart(start);
+        event.setEventEnd(start.plusMinutes((long) SLOT_DURATION_MINUTES * SLOTS_PER_EVENT));
+        event.setTimeZone("UTC");
+        event.setRules(rules);
+        return eventRepository.save(event);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.SlotlyV2.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.SlotlyV2.common.config.SlotProperties;
+import com.example.SlotlyV2.common.util.NameUtils;
+import com.example.SlotlyV2.feature.availability.AvailabilityRulesDTO;
+import com.example.SlotlyV2.feature.event.Event;
+import com.example.SlotlyV2.feature.event.EventService;
+import com.example.SlotlyV2.feature.event.HostSchedule;
+import com.example.SlotlyV2.feature.event.dto.EventRequest;
+import com.example.SlotlyV2.feature.slot.AttendeeSchedule;
+import com.example.SlotlyV2.feature.slot.SlotRepository;
+import com.example.SlotlyV2.feature.slot.SlotHoldRegistry;
+import com.example.SlotlyV2.feature.slot.SlotService;
+import com.example.SlotlyV2.feature.user.User;
+import com.example.SlotlyV2.feature.user.UserRepository;
+import com.example.SlotlyV2.feature.user.UserService;
+import com.example.SlotlyV2.feature.waitlist.WaitlistService;
+
+// Run with: mvn test -Pbenchmark
+@Tag("benchmark")
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import({ EventService.class, SlotService.class, SlotHoldRegistry.class, AttendeeSchedule.class, NameUtils.class,
+        SlotProperties.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class EventCreationBenchmark {
+
+    private static final int SLOT_DURATION_MINUTES = 5;
+    private static final int[] SLOT_COUNTS = { 100, 1_000, 5_000, 10_000, 20_000 };
+    private static final int RUNS = 3;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private SlotRepository slotRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private WaitlistService waitlistService;
+
+    // The benchmark's events overlap, only their slot generation is measured
+    @MockitoBean
+    private HostSchedule hostSchedule;
+
+    private int eventCounter;
+
+    @Test
+    void measureEventCreationLatencyBySlotCount() {
+        User host = new User();
+        host.setEmail("bench-host@example.com");
+        host.setDisplayName("bench_host");
+        host.setPassword("password");
+        host.setIsVerified(true);
+        host = userRepository.save(host);
+
+        when(userService.getCurrentUser()).thenReturn(host);
+
+        // Warm up Hibernate and the connection pool
+        createEvent(1_000);
+
+        System.out.printf("%n%-10s %-12s %-14s%n", "slots", "best (ms)", "per slot (us)");
+        for (int slotCount : SLOT_COUNTS) {
+            long best = Long.MAX_VALUE;
+            for (int run = 0; run < RUNS; run++) {
+                long started = System.nanoTime();
+                Event event = createEvent(slotCount);
+                best = Math.min(best, System.nanoTime() - started);
+
+                assertEquals(slotCount, slotRepository.findByEvent(event).size());
+            }
+            System.out.printf("%-10d %-12.1f %-14.2f%n", slotCount, best / 1e6, best / 1e3 / slotCount);
+        }
+    }
+
+    private Event createEvent(int slotCount) {
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+
+        EventRequest request = EventRequest.builder()
+                .eventName("Benchmark " + slotCount + " " + eventCounter++)
+                .eventStart(start)
+                .eventEnd(start.plusMinutes((long) slotCount * SLOT_DURATION_MINUTES))
+                .timeZone("UTC")
+                .rules(AvailabilityRulesDTO.builder()
+                        .slotDurationMinutes(SLOT_DURATION_MINUTES)
+                        .build())
+                .build();
+
+        return eventService.createEvent(request);
+    }
+}
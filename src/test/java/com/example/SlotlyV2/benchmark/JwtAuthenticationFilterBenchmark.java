@@ -0,0 +1,123 @@
+package com.example.SlotlyV2.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.example.SlotlyV2.common.config.CacheConfig;
+import com.example.SlotlyV2.common.config.JwtProperties;
+import com.example.SlotlyV2.common.security.JwtAuthenticationFilter;
+import com.example.SlotlyV2.common.security.JwtTokenProvider;
+import com.example.SlotlyV2.common.security.VerifiedTokenCache;
+import com.example.SlotlyV2.feature.auth.RevokedTokenRepository;
+import com.example.SlotlyV2.feature.auth.TokenDenylist;
+import com.example.SlotlyV2.feature.auth.TokenEpochs;
+import com.example.SlotlyV2.feature.user.User;
+import com.example.SlotlyV2.feature.user.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Run with: mvn test -Pbenchmark
+@Tag("benchmark")
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET_KEY = "benchmark-secret-key-benchmark-secret-key-benchmark";
+    private static final int WARMUP = 50_000;
+    private static final int REQUESTS = 200_000;
+
+    @Test
+    void measureTokenVerificationCostPerRequest() throws Exception {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecretKey(SECRET_KEY);
+        jwtProperties.setAccessTokenExpiration(900_000L);
+        jwtProperties.setRefreshTokenExpiration(604_800_000L);
+
+        User user = new User();
+        user.setId(1L);
+        user.setEmail("bench-user@example.com");
+        user.setDisplayName("bench_user");
+        user.setPassword("password");
+        user.setIsVerified(true);
+
+        JwtTokenProvider jwtTokenProvider = new JwtTokenProvider(jwtProperties);
+        String token = jwtTokenProvider.generateAccessToken(user);
+
+        // The principal comes from the claims, so the filter's time is the token work and its own overhead
+        VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(
+                new CacheConfig().verifiedTokenClaimsCache(jwtProperties, new SimpleMeterRegistry()), jwtTokenProvider);
+        // Nothing is revoked, so after the rebuild the denylist answers from its Bloom filter alone
+        TokenDenylist tokenDenylist = new TokenDenylist(mock(RevokedTokenRepository.class), verifiedTokenCache,
+                jwtProperties);
+        tokenDenylist.rebuild();
+
+        // The user's epoch is read once, after that the check is a map lookup
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findTokenEpochById(1L)).thenReturn(Optional.of(0));
+        TokenEpochs tokenEpochs = new TokenEpochs(Caffeine.newBuilder().build(), userRepository, verifiedTokenCache);
+
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter(verifiedTokenCache, tokenDenylist, tokenEpochs);
+
+        System.out.printf("%n%-36s %-12s%n", "per request", "time (us)");
+        System.out.printf("%-36s %-12.2f%n", "filter, verified token cached",
+                measure(() -> filter(filter, token)));
+        System.out.printf("%-36s %-12.2f%n", "filter, one verification",
+                measure(() -> {
+                    verifiedTokenCache.invalidate(token);
+                    filter(filter, token);
+                }));
+        System.out.printf("%-36s %-12.2f%n", "verify with the shared parser",
+                measure(() -> assertTrue(jwtTokenProvider.verify(token).isPresent())));
+        System.out.printf("%-36s %-12.2f%n", "three parses with rebuilt key/parser",
+                measure(() -> parseWithRebuiltKey(token, 3)));
+    }
+
+    private void filter(JwtAuthenticationFilter filter, String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/events");
+        request.addHeader("Authorization", "Bearer " + token);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
+    // What the filter used to do: validate, read the type and read the email, each with a new key and parser
+    private void parseWithRebuiltKey(String token, int times) {
+        for (int i = 0; i < times; i++) {
+            SecretKey key = Keys.hmacShaKeyFor(SECRET_KEY.getBytes());
+            assertNotNull(Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload());
+        }
+    }
+
+    private double measure(Request request) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            request.run();
+        }
+
+        long started = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            request.run();
+        }
+        return (System.nanoTime() - started) / 1e3 / REQUESTS;
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        void run() throws Exception;
+    }
+}
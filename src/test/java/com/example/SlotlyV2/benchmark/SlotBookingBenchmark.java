@@ -0,0 +1,189 @@
+package com.example.SlotlyV2.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.SlotlyV2.common.config.SlotProperties;
+import com.example.SlotlyV2.common.config.SlotProperties.BookingMode;
+import com.example.SlotlyV2.common.util.NameUtils;
+import com.example.SlotlyV2.feature.availability.AvailabilityRules;
+import com.example.SlotlyV2.feature.event.Event;
+import com.example.SlotlyV2.feature.event.EventRepository;
+import com.example.SlotlyV2.feature.slot.AttendeeSchedule;
+import com.example.SlotlyV2.feature.slot.SlotBookingQueue;
+import com.example.SlotlyV2.feature.slot.SlotConflictRetry;
+import com.example.SlotlyV2.feature.slot.SlotHoldRegistry;
+import com.example.SlotlyV2.feature.slot.SlotService;
+import com.example.SlotlyV2.feature.slot.dto.SlotRequest;
+import com.example.SlotlyV2.feature.user.User;
+import com.example.SlotlyV2.feature.user.UserRepository;
+import com.example.SlotlyV2.feature.waitlist.WaitlistService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.Value;
+
+// Run with: mvn test -Pbenchmark
+@Tag("benchmark")
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import({ SlotService.class, SlotHoldRegistry.class, AttendeeSchedule.class, NameUtils.class, SlotProperties.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SlotBookingBenchmark {
+
+    private static final int THREADS = 100;
+    private static final int ATTEMPTS = 2_000;
+    // Two attendees go for every slot, so half of the attempts lose
+    private static final int SLOTS = ATTEMPTS / 2;
+    private static final int RUNS = 3;
+
+    @Autowired
+    private SlotService slotService;
+
+    // Bookings never reach the waitlist here
+    @MockitoBean
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private SlotProperties slotProperties;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User host;
+
+    private int eventCounter;
+
+    @Test
+    void measureBookingThroughputAndTailLatencyByBookingMode() throws Exception {
+        host = new User();
+        host.setEmail("bench-host@example.com");
+        host.setDisplayName("bench_host");
+        host.setPassword("password");
+        host.setIsVerified(true);
+        host = userRepository.save(host);
+
+        SlotBookingQueue slotBookingQueue = new SlotBookingQueue(slotService,
+                new SlotConflictRetry(slotProperties, new SimpleMeterRegistry()), slotProperties,
+                Executors.newVirtualThreadPerTaskExecutor(), new SimpleMeterRegistry());
+
+        // Warm up Hibernate, the connection pool and every path
+        for (BookingMode mode : BookingMode.values()) {
+            run(slotBookingQueue, mode);
+        }
+
+        System.out.printf("%n%-20s %-16s %-10s %-10s%n", "mode", "bookings/s", "p50 (ms)", "p99 (ms)");
+        for (BookingMode mode : BookingMode.values()) {
+            Result best = null;
+            for (int i = 0; i < RUNS; i++) {
+                Result result = run(slotBookingQueue, mode);
+                best = best == null || result.getThroughput() > best.getThroughput() ? result : best;
+            }
+            System.out.printf("%-20s %-16.0f %-10.2f %-10.2f%n", mode, best.getThroughput(), best.getP50() / 1e6,
+                    best.getP99() / 1e6);
+        }
+
+        slotProperties.setBookingMode(BookingMode.OPTIMISTIC);
+    }
+
+    private Result run(SlotBookingQueue slotBookingQueue, BookingMode mode) throws Exception {
+        slotProperties.setBookingMode(mode);
+        Event event = createEvent();
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startGate = new CountDownLatch(1);
+        AtomicInteger next = new AtomicInteger();
+        AtomicInteger booked = new AtomicInteger();
+        long[] latencies = new long[ATTEMPTS];
+        List<Future<?>> workers = new ArrayList<>();
+
+        for (int t = 0; t < THREADS; t++) {
+            workers.add(executor.submit(() -> {
+                startGate.await();
+                for (int i = next.getAndIncrement(); i < ATTEMPTS; i = next.getAndIncrement()) {
+                    long started = System.nanoTime();
+                    try {
+                        slotBookingQueue.bookSlot(request(event, i));
+                        booked.incrementAndGet();
+                    } catch (RuntimeException e) {
+                        // Lost the slot to the other attendee
+                    }
+                    latencies[i] = System.nanoTime() - started;
+                }
+                return null;
+            }));
+        }
+
+        long started = System.nanoTime();
+        startGate.countDown();
+        for (Future<?> worker : workers) {
+            worker.get(5, TimeUnit.MINUTES);
+        }
+        long elapsed = System.nanoTime() - started;
+        executor.shutdown();
+
+        assertEquals(SLOTS, booked.get());
+
+        Arrays.sort(latencies);
+        return new Result(booked.get() / (elapsed / 1e9), latencies[ATTEMPTS / 2],
+                latencies[(int) (ATTEMPTS * 0.99) - 1]);
+    }
+
+    private SlotRequest request(Event event, int attempt) {
+        return SlotRequest.builder()
+                .eventId(event.getId())
+                .startTime(event.getEventStart().plusMinutes(5L * (attempt % SLOTS)))
+                .attendeeName("Attendee " + attempt)
+                // Fresh attendees per run, the events of all runs overlap in time
+                .attendeeEmail("attendee" + attempt + "-" + event.getId() + "@example.com")
+                .build();
+    }
+
+    private Event createEvent() {
+        AvailabilityRules rules = new AvailabilityRules();
+        rules.setSlotDurationMinutes(5);
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withNano(0);
+
+        Event event = new Event();
+        event.setEventName("Benchmark " + eventCounter++);
+        event.setHost(host);
+        event.setEventStart(start);
+        event.setEventEnd(start.plusMinutes(5L * SLOTS));
+        event.setTimeZone("UTC");
+        event.setRules(rules);
+        event = eventRepository.save(event);
+
+        slotService.generateSlots(event);
+        return event;
+    }
+
+    @Value
+    private static class Result {
+        private double throughput;
+        private long p50;
+        private long p99;
+    }
+}
@@ -0,0 +1,141 @@
+package com.example.SlotlyV2.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.SlotlyV2.common.exception.slot.OverlappingBookingException;
+import com.example.SlotlyV2.feature.availability.AvailabilityRules;
+import com.example.SlotlyV2.feature.event.Event;
+import com.example.SlotlyV2.feature.event.EventRepository;
+import com.example.SlotlyV2.feature.slot.AttendeeSchedule;
+import com.example.SlotlyV2.feature.slot.Slot;
+import com.example.SlotlyV2.feature.slot.SlotAttendee;
+import com.example.SlotlyV2.feature.slot.SlotAttendeeRepository;
+import com.example.SlotlyV2.feature.slot.SlotGrid;
+import com.example.SlotlyV2.feature.slot.SlotRepository;
+import com.example.SlotlyV2.feature.user.User;
+import com.example.SlotlyV2.feature.user.UserRepository;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import(AttendeeSchedule.class)
+public class AttendeeScheduleTest {
+
+    private static final String ATTENDEE = "attendee@example.com";
+
+    @Autowired
+    private AttendeeSchedule attendeeSchedule;
+
+    @Autowired
+    private SlotRepository slotRepository;
+
+    @Autowired
+    private SlotAttendeeRepository slotAttendeeRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User host;
+
+    // 10:00 in Berlin, the same instant as the UTC event's start
+    private ZonedDateTime berlinStart;
+
+    private Event berlinEvent;
+
+    private Event utcEvent;
+
+    @BeforeEach
+    void setUp() {
+        host = new User();
+        host.setEmail("host@example.com");
+        host.setDisplayName("host");
+        host.setPassword("password");
+        host.setIsVerified(true);
+        host = userRepository.save(host);
+
+        berlinStart = ZonedDateTime.now(ZoneId.of("Europe/Berlin")).plusDays(1).withHour(10).withMinute(0)
+                .withSecond(0).withNano(0);
+        berlinEvent = createEvent("Europe/Berlin", berlinStart.toLocalDateTime(), 1);
+        utcEvent = createEvent("UTC", berlinStart.withZoneSameInstant(ZoneId.of("UTC")).toLocalDateTime(), 1);
+    }
+
+    @Test
+    void shouldDetectOverlapWithBookingOfEventInAnotherTimeZone() {
+        // Arrange
+        Slot booked = SlotGrid.virtualSlot(berlinEvent, 0);
+        booked.setBookedByName("Attendee");
+        booked.setBookedByEmail(ATTENDEE);
+        slotRepository.save(booked);
+
+        LocalDateTime utcStart = utcEvent.getEventStart();
+
+        // Act & Assert
+        assertThrows(OverlappingBookingException.class, () -> attendeeSchedule.checkNoOverlap(ATTENDEE, utcEvent,
+                utcStart.plusMinutes(15), utcStart.plusMinutes(45)));
+        assertDoesNotThrow(() -> attendeeSchedule.checkNoOverlap(ATTENDEE, utcEvent, utcStart.plusMinutes(30),
+                utcStart.plusMinutes(60)));
+        assertFalse(attendeeSchedule.overlaps("other@example.com", utcEvent, utcStart, utcStart.plusMinutes(30)));
+    }
+
+    @Test
+    void shouldOnlyLookAtFirstBookingEndingAfterSlotStarts() {
+        // Arrange: bookings at 10:00 and 11:00 Berlin time
+        for (int index : new int[] { 0, 2 }) {
+            Slot booked = SlotGrid.virtualSlot(berlinEvent, index);
+            booked.setBookedByName("Attendee");
+            booked.setBookedByEmail(ATTENDEE);
+            slotRepository.save(booked);
+        }
+
+        LocalDateTime utcStart = utcEvent.getEventStart();
+
+        // Act & Assert: the gap between them is free, both bookings are not
+        assertFalse(attendeeSchedule.overlaps(ATTENDEE, utcEvent, utcStart.plusMinutes(30), utcStart.plusMinutes(60)));
+        assertTrue(attendeeSchedule.overlaps(ATTENDEE, utcEvent, utcStart.plusMinutes(50), utcStart.plusMinutes(80)));
+        assertTrue(attendeeSchedule.overlaps(ATTENDEE, utcEvent, utcStart.minusMinutes(10), utcStart.plusMinutes(5)));
+    }
+
+    @Test
+    void shouldDetectOverlapWithSeatInGroupSlot() {
+        // Arrange
+        Event workshop = createEvent("Europe/Berlin", berlinStart.toLocalDateTime(), 20);
+        Slot groupSlot = slotRepository.save(SlotGrid.virtualSlot(workshop, 0));
+        slotAttendeeRepository.save(SlotAttendee.of(groupSlot, "Attendee", ATTENDEE, LocalDateTime.now()));
+
+        LocalDateTime utcStart = utcEvent.getEventStart();
+
+        // Act & Assert
+        assertTrue(attendeeSchedule.overlaps(ATTENDEE, utcEvent, utcStart, utcStart.plusMinutes(30)));
+    }
+
+    private Event createEvent(String timeZone, LocalDateTime start, int seatsPerSlot) {
+        AvailabilityRules rules = new AvailabilityRules();
+        rules.setSlotDurationMinutes(30);
+        rules.setSeatsPerSlot(seatsPerSlot);
+
+        Event event = new Event();
+        event.setEventName("Event in " + timeZone);
+        event.setHost(host);
+        event.setEventStart(start);
+        event.setEventEnd(start.plusHours(2));
+        event.setTimeZone(timeZone);
+        event.setRules(rules);
+        return eventRepository.save(event);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.SlotlyV2.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.example.SlotlyV2.feature.availability.AvailabilityRules;
+import com.example.SlotlyV2.feature.event.BookedCountReconciler;
+import com.example.SlotlyV2.feature.event.Event;
+import com.example.SlotlyV2.feature.event.EventRepository;
+import com.example.SlotlyV2.feature.slot.Slot;
+import com.example.SlotlyV2.feature.slot.SlotAttendee;
+import com.example.SlotlyV2.feature.slot.SlotAttendeeRepository;
+import com.example.SlotlyV2.feature.slot.SlotGrid;
+import com.example.SlotlyV2.feature.slot.SlotRepository;
+import com.example.SlotlyV2.feature.user.User;
+import com.example.SlotlyV2.feature.user.UserRepository;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import(BookedCountReconciler.class)
+public class BookedCountReconcilerTest {
+
+    @Autowired
+    private BookedCountReconciler bookedCountReconciler;
+
+    @Autowired
+    private SlotRepository slotRepository;
+
+    @Autowired
+    private SlotAttendeeRepository slotAttendeeRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User host;
+
+    @BeforeEach
+    void setUp() {
+        host = new User();
+        host.setEmail("host@example.com");
+        host.setDisplayName("host");
+        host.setPassword("password");
+        host.setIsVerified(true);
+        host = userRepository.save(host);
+    }
+
+    @Test
+    void shouldCountSeatsOfGroupSlots() {
+        // Arrange: three seats taken in a group slot whose counter is in sync
+        Event workshop = createEvent(20, 3);
+        Slot groupSlot = slotRepository.save(SlotGrid.virtualSlot(workshop, 0));
+        for (int i = 0; i < 3; i++) {
+            slotAttendeeRepository.save(SlotAttendee.of(groupSlot, "Attendee", "attendee" + i + "@example.com",
+                    LocalDateTime.now()));
+        }
+        entityManager.flush();
+
+        // Act
+        int repaired = bookedCountReconciler.reconcileBookedCounts();
+        entityManager.clear();
+
+        // Assert
+        assertEquals(0, repaired);
+        assertEquals(3, eventRepository.findById(workshop.getId()).orElseThrow().getBookedCount());
+    }
+
+    @Test
+    void shouldRepairDriftedCounterFromSeatsAndOneSeatBookings() {
+        // Arrange
+        Event workshop = createEvent(20, 0);
+        Slot groupSlot = slotRepository.save(SlotGrid.virtualSlot(workshop, 0));
+        slotAttendeeRepository.save(SlotAttendee.of(groupSlot, "Attendee", "seat@example.com", LocalDateTime.now()));
+
+        Event meeting = createEvent(1, 5);
+        Slot booked = SlotGrid.virtualSlot(meeting, 0);
+        booked.setBookedByName("Attendee");
+        booked.setBookedByEmail("booked@example.com");
+        slotRepository.save(booked);
+        slotRepository.save(SlotGrid.virtualSlot(meeting, 1));
+        entityManager.flush();
+
+        // Act
+        int repaired = bookedCountReconciler.reconcileBookedCounts();
+        entityManager.clear();
+
+        // Assert
+        assertEquals(2, repaired);
+        assertEquals(1, eventRepository.findById(workshop.getId()).orElseThrow().getBookedCount());
+        assertEquals(1, eventRepository.findById(meeting.getId()).orElseThrow().getBookedCount());
+    }
+
+    @Test
+    void shouldNotWriteCounterBackFromStaleEvent() {
+        // Arrange
+        Event meeting = createEvent(1, 0);
+        entityManager.flush();
+        eventRepository.incrementBookedCount(meeting.getId());
+
+        // Act: the managed copy still says 0 booked
+        meeting.setEventName("Renamed");
+        eventRepository.saveAndFlush(meeting);
+        entityManager.clear();
+
+        // Assert
+        Event saved = eventRepository.findById(meeting.getId()).orElseThrow();
+        assertEquals("Renamed", saved.getEventName());
+        assertEquals(1, saved.getBookedCount());
+    }
+
+    private Event createEvent(int seatsPerSlot, int bookedCount) {
+        AvailabilityRules rules = new AvailabilityRules();
+        rules.setSlotDurationMinutes(30);
+        rules.setSeatsPerSlot(seatsPerSlot);
+
+        LocalDateTime start = LocalDateTime.now().plusDays(1).withHour(10).withMinute(0).withSecond(0).withNano(0);
+
+        Event event = new Event();
+        event.setEventName("Event with " + seatsPerSlot + " seats");
+        event.setHost(host);
+        event.setEventStart(start);
+        event.setEventEnd(start.plusHours(2));
+        event.setTimeZone("UTC");
+        event.setRules(rules);
+        event.setBookedCount(bookedCount);
+        return eventRepository.save(event);
+    }
+}
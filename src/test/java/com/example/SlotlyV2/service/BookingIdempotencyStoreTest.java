@@ -0,0 +1,159 @@
+package com.example.SlotlyV2.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.SlotlyV2.common.config.CacheConfig;
+import com.example.SlotlyV2.common.config.SlotProperties;
+import com.example.SlotlyV2.common.exception.slot.IdempotencyKeyReusedException;
+import com.example.SlotlyV2.common.exception.slot.InvalidSlotException;
+import com.example.SlotlyV2.common.exception.slot.SlotAlreadyBookedException;
+import com.example.SlotlyV2.feature.event.dto.EventResponse;
+import com.example.SlotlyV2.feature.slot.BookingIdempotencyStore;
+import com.example.SlotlyV2.feature.slot.dto.SlotRequest;
+import com.example.SlotlyV2.feature.slot.dto.SlotResponse;
+
+public class BookingIdempotencyStoreTest {
+
+    private BookingIdempotencyStore bookingIdempotencyStore;
+
+    private AtomicInteger bookings;
+
+    private LocalDateTime startTime;
+
+    @BeforeEach
+    void setUp() {
+        bookingIdempotencyStore = new BookingIdempotencyStore(
+                new CacheConfig().bookingIdempotencyCache(new SlotProperties()));
+        bookings = new AtomicInteger();
+        startTime = LocalDateTime.now().plusDays(1);
+    }
+
+    @Test
+    void shouldReplayOriginalResultForRetriedKey() {
+        // Arrange
+        SlotRequest request = request("john@example.com");
+
+        // Act
+        SlotResponse first = bookingIdempotencyStore.execute("key-1", request, booking());
+        SlotResponse retry = bookingIdempotencyStore.execute("key-1", request("john@example.com"), booking());
+
+        // Assert
+        assertSame(first, retry);
+        assertEquals(1, bookings.get());
+    }
+
+    @Test
+    void shouldRejectKeyReusedForDifferentBooking() {
+        // Arrange
+        bookingIdempotencyStore.execute("key-1", request("john@example.com"), booking());
+
+        SlotRequest otherSlot = SlotRequest.builder()
+                .eventId(1L)
+                .startTime(startTime.plusMinutes(30))
+                .attendeeName("John Doe")
+                .attendeeEmail("john@example.com")
+                .build();
+
+        // Act & Assert
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> bookingIdempotencyStore.execute("key-1", otherSlot, booking()));
+        assertEquals(1, bookings.get());
+    }
+
+    @Test
+    void shouldScopeKeysToAttendee() {
+        // Act
+        bookingIdempotencyStore.execute("key-1", request("john@example.com"), booking());
+        bookingIdempotencyStore.execute("key-1", request("jane@example.com"), booking());
+
+        // Assert
+        assertEquals(2, bookings.get());
+    }
+
+    @Test
+    void shouldRunBookingAgainAfterFailedAttempt() {
+        // Arrange
+        SlotRequest request = request("john@example.com");
+
+        // Act
+        assertThrows(SlotAlreadyBookedException.class, () -> bookingIdempotencyStore.execute("key-1", request,
+                () -> {
+                    bookings.incrementAndGet();
+                    throw new SlotAlreadyBookedException("This slot is already booked");
+                }));
+        bookingIdempotencyStore.execute("key-1", request, booking());
+
+        // Assert
+        assertEquals(2, bookings.get());
+    }
+
+    @Test
+    void shouldRejectOversizedKey() {
+        // Act & Assert
+        assertThrows(InvalidSlotException.class,
+                () -> bookingIdempotencyStore.execute("k".repeat(256), request("john@example.com"), booking()));
+        assertEquals(0, bookings.get());
+    }
+
+    @Test
+    void shouldRunBookingOnceForConcurrentRetries() throws Exception {
+        // Arrange
+        SlotRequest request = request("john@example.com");
+        CountDownLatch bookingStarted = new CountDownLatch(1);
+        CountDownLatch releaseBooking = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        Supplier<SlotResponse> slowBooking = () -> {
+            bookingStarted.countDown();
+            try {
+                releaseBooking.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return booking().get();
+        };
+
+        // Act
+        Future<SlotResponse> first = executor.submit(() -> bookingIdempotencyStore.execute("key-1", request,
+                slowBooking));
+        bookingStarted.await(5, TimeUnit.SECONDS);
+        Future<SlotResponse> retry = executor.submit(() -> bookingIdempotencyStore.execute("key-1", request,
+                booking()));
+        releaseBooking.countDown();
+
+        // Assert
+        assertSame(first.get(5, TimeUnit.SECONDS), retry.get(5, TimeUnit.SECONDS));
+        assertEquals(1, bookings.get());
+        executor.shutdown();
+    }
+
+    private Supplier<SlotResponse> booking() {
+        return () -> {
+            bookings.incrementAndGet();
+            return new SlotResponse((EventResponse) null, startTime, startTime.plusMinutes(30));
+        };
+    }
+
+    private SlotRequest request(String attendeeEmail) {
+        return SlotRequest.builder()
+                .eventId(1L)
+                .startTime(startTime)
+                .attendeeName("John Doe")
+                .attendeeEmail(attendeeEmail)
+                .build();
+    }
+}
@@ -5,12 +5,14 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -32,15 +34,20 @@ import org.springframework.data.domain.Sort;
 import com.example.SlotlyV2.common.exception.auth.UnauthorizedAccessException;
 import com.example.SlotlyV2.common.exception.event.EventNotFoundException;
 import com.example.SlotlyV2.common.exception.event.InvalidEventException;
+import com.example.SlotlyV2.common.exception.event.OverlappingEventException;
 import com.example.SlotlyV2.feature.availability.AvailabilityRules;
 import com.example.SlotlyV2.feature.availability.AvailabilityRulesDTO;
 import com.example.SlotlyV2.feature.email.event.EventCancelledEvent;
 import com.example.SlotlyV2.feature.event.Event;
 import com.example.SlotlyV2.feature.event.EventRepository;
 import com.example.SlotlyV2.feature.event.EventService;
+import com.example.SlotlyV2.feature.event.HostSchedule;
+import com.example.SlotlyV2.feature.event.TimeRange;
 import com.example.SlotlyV2.feature.event.dto.EventRequest;
 import com.example.SlotlyV2.feature.event.dto.EventResponse;
+import com.example.SlotlyV2.feature.event.dto.FreeBusyResponse;
 import com.example.SlotlyV2.feature.slot.Slot;
+import com.example.SlotlyV2.feature.slot.SlotAttendeeRepository;
 import com.example.SlotlyV2.feature.slot.SlotService;
 import com.example.SlotlyV2.feature.user.User;
 import com.example.SlotlyV2.feature.user.UserService;
@@ -53,8 +60,12 @@ public class EventServiceTest {
     @Mock
     private SlotService slotService;
     @Mock
+    private SlotAttendeeRepository slotAttendeeRepository;
+    @Mock
     private UserService userService;
     @Mock
+    private HostSchedule hostSchedule;
+    @Mock
     private ApplicationEventPublisher eventPublisher;
 
     @InjectMocks
@@ -132,6 +143,43 @@ public class EventServiceTest {
         verify(eventPublisher, never()).publishEvent(any());
     }
 
+    @Test
+    void shouldRejectEventOverlappingAnotherEventOfTheHost() {
+        LocalDateTime startTime = LocalDateTime.now().plusHours(12);
+
+        EventRequest request = EventRequest.builder()
+                .eventName("Test Event")
+                .eventStart(startTime)
+                .eventEnd(startTime.plusHours(2))
+                .timeZone("Europe/Berlin")
+                .rules(publicRulesDto())
+                .build();
+
+        when(userService.getCurrentUser()).thenReturn(user(1L));
+        doThrow(new OverlappingEventException("overlap")).when(hostSchedule).reserve(eq(1L), any(TimeRange.class));
+
+        assertThrows(OverlappingEventException.class, () -> eventService.createEvent(request));
+
+        verify(eventRepository, never()).save(any());
+        verify(slotService, never()).generateSlots(any());
+    }
+
+    @Test
+    void shouldReturnFreeTimeBetweenBusyIntervals() {
+        Instant from = Instant.parse("2030-01-01T08:00:00Z");
+        Instant to = Instant.parse("2030-01-01T18:00:00Z");
+        TimeRange busy = new TimeRange(Instant.parse("2030-01-01T09:00:00Z"), Instant.parse("2030-01-01T12:00:00Z"));
+
+        when(userService.getCurrentUserId()).thenReturn(1L);
+        when(hostSchedule.getBusyTime(1L, from, to)).thenReturn(List.of(busy));
+
+        FreeBusyResponse freeBusy = eventService.getFreeBusy(from, to);
+
+        assertEquals(List.of(busy), freeBusy.getBusy());
+        assertEquals(List.of(new TimeRange(from, busy.getStart()), new TimeRange(busy.getEnd(), to)),
+                freeBusy.getFree());
+    }
+
     @Test
     void shouldThrowInvalidEventExceptionWhenEventNotInFuture() {
         AvailabilityRulesDTO rules = publicRulesDto();
@@ -209,11 +257,11 @@ public class EventServiceTest {
                 PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")),
                 eventsList.size());
 
-        when(eventRepository.findByHost(eq(host), any(Pageable.class))).thenReturn(pagedEvents);
+        when(eventRepository.findByHostId(eq(1L), any(Pageable.class))).thenReturn(pagedEvents);
 
         // Act
         Page<EventResponse> events = eventService.getEvents(
-                host,
+                1L,
                 PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
 
         assertNotNull(events);
@@ -223,7 +271,7 @@ public class EventServiceTest {
         assertEquals("Event 1", events.getContent().get(0).getEventName());
         assertEquals("Event 2", events.getContent().get(1).getEventName());
 
-        verify(eventRepository).findByHost(eq(host), any(Pageable.class));
+        verify(eventRepository).findByHostId(eq(1L), any(Pageable.class));
     }
 
     @Test
@@ -235,7 +283,7 @@ public class EventServiceTest {
         event.setHost(host);
 
         when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
-        when(userService.getCurrentUser()).thenReturn(host);
+        when(userService.getCurrentUserId()).thenReturn(host.getId());
 
         Event fetchedEvent = eventService.getEventById(1L);
 
@@ -243,7 +291,7 @@ public class EventServiceTest {
         assertEquals(1L, fetchedEvent.getId());
 
         verify(eventRepository).findById(1L);
-        verify(userService).getCurrentUser();
+        verify(userService).getCurrentUserId();
     }
 
     @Test
@@ -256,12 +304,12 @@ public class EventServiceTest {
         event.setHost(host);
 
         when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
-        when(userService.getCurrentUser()).thenReturn(other);
+        when(userService.getCurrentUserId()).thenReturn(other.getId());
 
         assertThrows(UnauthorizedAccessException.class, () -> eventService.getEventById(1L));
 
         verify(eventRepository).findById(1L);
-        verify(userService).getCurrentUser();
+        verify(userService).getCurrentUserId();
     }
 
     @Test
@@ -289,7 +337,7 @@ public class EventServiceTest {
         event.setSlots(List.of(slot1, slot2));
 
         when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
-        when(userService.getCurrentUser()).thenReturn(host);
+        when(userService.getCurrentUserId()).thenReturn(host.getId());
 
         eventService.deleteEventById(1L);
 
@@ -306,6 +354,34 @@ public class EventServiceTest {
         assertEquals(2, published.getEventCancelledEmailDTO().getAttendeeEmails().size());
     }
 
+    @Test
+    void shouldNotifySeatHoldersAndSkipUnbookedSlotsWhenDeletingEvent() {
+        User host = user(1L);
+
+        Event event = new Event();
+        event.setId(1L);
+        event.setEventName("Workshop");
+        event.setHost(host);
+
+        Slot booked = mock(Slot.class);
+        Slot unbooked = mock(Slot.class);
+        when(booked.getBookedByEmail()).thenReturn("a@test.com");
+        when(unbooked.getBookedByEmail()).thenReturn(null);
+        event.setSlots(List.of(booked, unbooked));
+
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(userService.getCurrentUserId()).thenReturn(host.getId());
+        when(slotAttendeeRepository.findAttendeeEmailsByEventId(1L))
+                .thenReturn(List.of("seat1@test.com", "seat2@test.com"));
+
+        eventService.deleteEventById(1L);
+
+        ArgumentCaptor<EventCancelledEvent> captor = ArgumentCaptor.forClass(EventCancelledEvent.class);
+        verify(eventPublisher).publishEvent(captor.capture());
+        assertEquals(List.of("a@test.com", "seat1@test.com", "seat2@test.com"),
+                captor.getValue().getEventCancelledEmailDTO().getAttendeeEmails());
+    }
+
     @Test
     void shouldThrowUnauthorizedAccessExceptionWhenDeletingOtherUsersEvent() {
         User host = user(1L);
@@ -316,7 +392,7 @@ public class EventServiceTest {
         event.setHost(host);
 
         when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
-        when(userService.getCurrentUser()).thenReturn(other);
+        when(userService.getCurrentUserId()).thenReturn(other.getId());
 
         assertThrows(UnauthorizedAccessException.class, () -> eventService.deleteEventById(1L));
 
@@ -335,39 +411,4 @@ public class EventServiceTest {
         verify(eventPublisher, never()).publishEvent(any());
     }
 
-    @Test
-    void shouldGetEventByShareableIdSuccessfullyWhenPublic() {
-        Event event = new Event();
-        event.setId(1L);
-        event.setRules(rules(true));
-
-        when(eventRepository.findByShareableId("abc")).thenReturn(Optional.of(event));
-
-        Event fetched = eventService.getEventByShareableId("abc");
-
-        assertNotNull(fetched);
-        assertEquals(1L, fetched.getId());
-        verify(eventRepository).findByShareableId("abc");
-    }
-
-    @Test
-    void shouldThrowEventNotFoundExceptionWhenEventNotFoundByShareableId() {
-        when(eventRepository.findByShareableId("missing")).thenReturn(Optional.empty());
-
-        assertThrows(EventNotFoundException.class, () -> eventService.getEventByShareableId("missing"));
-
-        verify(eventRepository).findByShareableId("missing");
-    }
-
-    @Test
-    void shouldThrowUnauthorizedAccessExceptionWhenAccessingPrivateEventByShareableId() {
-        Event event = new Event();
-        event.setRules(rules(false));
-
-        when(eventRepository.findByShareableId("private")).thenReturn(Optional.of(event));
-
-        assertThrows(UnauthorizedAccessException.class, () -> eventService.getEventByShareableId("private"));
-
-        verify(eventRepository).findByShareableId("private");
-    }
 }
@@ -0,0 +1,90 @@
+package com.example.SlotlyV2.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.example.SlotlyV2.feature.event.HostBusyTime;
+import com.example.SlotlyV2.feature.event.TimeRange;
+
+public class HostBusyTimeTest {
+
+    @Test
+    void shouldMergeOverlappingWindowsAcrossTimeZones() {
+        // Arrange: 10:00-12:00 in Berlin is 09:00-11:00 UTC
+        HostBusyTime busyTime = HostBusyTime.of(List.of(
+                window("2030-01-01T13:00", "2030-01-01T14:00", "UTC"),
+                window("2030-01-01T10:00", "2030-01-01T12:00", "Europe/Berlin"),
+                window("2030-01-01T10:30", "2030-01-01T11:30", "UTC")));
+
+        // Act
+        List<TimeRange> busy = busyTime.between(at("2030-01-01T00:00"), at("2030-01-02T00:00"));
+
+        // Assert
+        assertEquals(List.of(
+                new TimeRange(at("2030-01-01T09:00"), at("2030-01-01T11:30")),
+                new TimeRange(at("2030-01-01T13:00"), at("2030-01-01T14:00"))), busy);
+    }
+
+    @Test
+    void shouldClipBusyIntervalsToTheRange() {
+        // Arrange
+        HostBusyTime busyTime = HostBusyTime.of(List.of(
+                window("2030-01-01T09:00", "2030-01-01T11:00", "UTC"),
+                window("2030-01-01T13:00", "2030-01-01T15:00", "UTC"),
+                window("2030-01-01T17:00", "2030-01-01T18:00", "UTC")));
+
+        // Act
+        List<TimeRange> busy = busyTime.between(at("2030-01-01T10:00"), at("2030-01-01T14:00"));
+
+        // Assert
+        assertEquals(List.of(
+                new TimeRange(at("2030-01-01T10:00"), at("2030-01-01T11:00")),
+                new TimeRange(at("2030-01-01T13:00"), at("2030-01-01T14:00"))), busy);
+    }
+
+    @Test
+    void shouldDetectOverlapsButNotAdjacentWindows() {
+        // Arrange
+        HostBusyTime busyTime = HostBusyTime.of(List.of(window("2030-01-01T09:00", "2030-01-01T11:00", "UTC")));
+
+        // Act & Assert
+        assertTrue(busyTime.overlaps(at("2030-01-01T10:59"), at("2030-01-01T12:00")));
+        assertTrue(busyTime.overlaps(at("2030-01-01T08:00"), at("2030-01-01T12:00")));
+        assertFalse(busyTime.overlaps(at("2030-01-01T11:00"), at("2030-01-01T12:00")));
+        assertFalse(busyTime.overlaps(at("2030-01-01T08:00"), at("2030-01-01T09:00")));
+    }
+
+    @Test
+    void shouldAddFreeWindowsAndJoinTheIntervalsTheyTouch() {
+        // Arrange
+        HostBusyTime busyTime = HostBusyTime.of(List.of(
+                window("2030-01-01T09:00", "2030-01-01T10:00", "UTC"),
+                window("2030-01-01T11:00", "2030-01-01T12:00", "UTC")));
+
+        // Act
+        boolean overlapping = busyTime.addIfFree(window("2030-01-01T09:30", "2030-01-01T10:30", "UTC"));
+        boolean filling = busyTime.addIfFree(window("2030-01-01T10:00", "2030-01-01T11:00", "UTC"));
+
+        // Assert
+        assertFalse(overlapping);
+        assertTrue(filling);
+        assertEquals(1, busyTime.size());
+        assertEquals(List.of(new TimeRange(at("2030-01-01T09:00"), at("2030-01-01T12:00"))),
+                busyTime.between(at("2030-01-01T00:00"), at("2030-01-02T00:00")));
+    }
+
+    private TimeRange window(String start, String end, String timeZone) {
+        return new TimeRange(LocalDateTime.parse(start), LocalDateTime.parse(end), timeZone);
+    }
+
+    private Instant at(String utc) {
+        return Instant.parse(utc + ":00Z");
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.SlotlyV2.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.SlotlyV2.common.config.JwtProperties;
+import com.example.SlotlyV2.common.exception.auth.InvalidCredentialsException;
+import com.example.SlotlyV2.common.security.JwtTokenProvider;
+import com.example.SlotlyV2.common.security.VerifiedToken;
+import com.example.SlotlyV2.feature.auth.JwtAuthenticationService;
+import com.example.SlotlyV2.feature.auth.TokenDenylist;
+import com.example.SlotlyV2.feature.auth.TokenEpochs;
+import com.example.SlotlyV2.feature.auth.dto.RefreshTokenRequest;
+import com.example.SlotlyV2.feature.auth.dto.RefreshTokenResponse;
+import com.example.SlotlyV2.feature.user.User;
+import com.example.SlotlyV2.feature.user.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class JwtAuthenticationServiceTest {
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private TokenDenylist tokenDenylist;
+
+    @Mock
+    private TokenEpochs tokenEpochs;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    private JwtAuthenticationService jwtAuthenticationService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecretKey("test-secret-key-test-secret-key-test-secret-key");
+        jwtProperties.setAccessTokenExpiration(900_000L);
+        jwtProperties.setRefreshTokenExpiration(604_800_000L);
+
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties);
+        jwtAuthenticationService = new JwtAuthenticationService(authenticationManager, jwtTokenProvider,
+                jwtProperties, userRepository, tokenDenylist, tokenEpochs, transactionManager);
+
+        user = new User();
+        user.setId(1L);
+        user.setEmail("user@example.com");
+        user.setDisplayName("user");
+        user.setIsVerified(true);
+    }
+
+    @Test
+    void shouldRotateRefreshToken() {
+        // Arrange
+        String refreshToken = jwtTokenProvider.generateRefreshToken(user);
+        when(tokenDenylist.revoke(any(VerifiedToken.class), eq(refreshToken))).thenReturn(true);
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+
+        // Act
+        RefreshTokenResponse response = jwtAuthenticationService.refresh(new RefreshTokenRequest(refreshToken));
+
+        // Assert
+        VerifiedToken rotated = jwtTokenProvider.verify(response.getRefreshToken()).orElseThrow();
+        assertEquals("refresh", rotated.getType());
+        assertNotEquals(jwtTokenProvider.verify(refreshToken).orElseThrow().getTokenId(), rotated.getTokenId());
+        verify(tokenDenylist).revoke(any(VerifiedToken.class), eq(refreshToken));
+    }
+
+    @Test
+    void shouldRevokeAllTokensWhenRefreshTokenIsReused() {
+        // Arrange
+        String refreshToken = jwtTokenProvider.generateRefreshToken(user);
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+        when(tokenDenylist.revoke(any(VerifiedToken.class), eq(refreshToken))).thenReturn(false);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        // Act & Assert
+        assertThrows(InvalidCredentialsException.class,
+                () -> jwtAuthenticationService.refresh(new RefreshTokenRequest(refreshToken)));
+        verify(tokenEpochs).revokeAll(user);
+    }
+
+    @Test
+    void shouldRejectRefreshTokenIssuedBeforeEpochBump() {
+        // Arrange
+        String refreshToken = jwtTokenProvider.generateRefreshToken(user);
+        user.setTokenEpoch(1);
+        when(userRepository.findByEmail("user@example.com")).thenReturn(Optional.of(user));
+
+        // Act & Assert: rejected without using the token up
+        assertThrows(InvalidCredentialsException.class,
+                () -> jwtAuthenticationService.refresh(new RefreshTokenRequest(refreshToken)));
+        verify(tokenDenylist, never()).revoke(any(VerifiedToken.class), any());
+        verify(tokenEpochs, never()).revokeAll(any());
+    }
+
+    @Test
+    void shouldRevokeBothTokensOnLogout() {
+        // Arrange
+        String accessToken = jwtTokenProvider.generateAccessToken(user);
+        String refreshToken = jwtTokenProvider.generateRefreshToken(user);
+
+        // Act
+        jwtAuthenticationService.logout(accessToken, new RefreshTokenRequest(refreshToken));
+
+        // Assert
+        verify(tokenDenylist).revoke(any(VerifiedToken.class), eq(accessToken));
+        verify(tokenDenylist).revoke(any(VerifiedToken.class), eq(refreshToken));
+        verify(tokenDenylist, times(2)).revoke(any(VerifiedToken.class), any());
+    }
+}
@@ -88,6 +88,28 @@ public class RateLimitHelperTest {
         assertThrows(RateLimitExceededException.class, () -> rateLimitHelper.checkBookingRateLimit("test@example.com"));
     }
 
+    @Test
+    void shouldBlockHoldRequestsFromOneClientAfter20Attempts() {
+        // Arrange
+        Bucket mockBucket = mock(Bucket.class);
+        when(rateLimitService.getClientIp(any())).thenReturn("1.1.1.1");
+        when(rateLimitService.getHoldBucket("1.1.1.1")).thenReturn(mockBucket);
+        when(mockBucket.tryConsume(1))
+                .thenReturn(true, true, true, true, true, true, true, true, true, true,
+                        true, true, true, true, true, true, true, true, true, true)
+                .thenReturn(false);
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+
+        // Act
+        for (int i = 0; i < 20; i++) {
+            rateLimitHelper.checkHoldRateLimit(request);
+        }
+
+        // Assert
+        assertThrows(RateLimitExceededException.class, () -> rateLimitHelper.checkHoldRateLimit(request));
+    }
+
     @Test
     void shouldBlockPasswordResetRequestAfter3Attempts() {
         // Arrange
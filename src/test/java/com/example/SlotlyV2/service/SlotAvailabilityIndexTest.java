@@ -0,0 +1,435 @@
+package com.example.SlotlyV2.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.SlotlyV2.common.config.CacheConfig;
+import com.example.SlotlyV2.common.config.SlotProperties;
+import com.example.SlotlyV2.common.dto.CursorPage;
+import com.example.SlotlyV2.common.exception.auth.UnauthorizedAccessException;
+import com.example.SlotlyV2.common.exception.event.EventNotFoundException;
+import com.example.SlotlyV2.common.exception.slot.SlotAlreadyBookedException;
+import com.example.SlotlyV2.common.exception.slot.SlotHeldException;
+import com.example.SlotlyV2.feature.availability.AvailabilityRules;
+import com.example.SlotlyV2.feature.event.Event;
+import com.example.SlotlyV2.feature.event.EventRepository;
+import com.example.SlotlyV2.feature.event.dto.EventResponse;
+import com.example.SlotlyV2.feature.slot.EventAvailability;
+import com.example.SlotlyV2.feature.slot.SlotAvailabilityIndex;
+import com.example.SlotlyV2.feature.slot.SlotHold;
+import com.example.SlotlyV2.feature.slot.SlotHoldRegistry;
+import com.example.SlotlyV2.feature.slot.SlotRepository;
+import com.example.SlotlyV2.feature.slot.dto.EventSlotsResponse;
+import com.example.SlotlyV2.feature.slot.dto.SlotHoldRequest;
+import com.example.SlotlyV2.feature.slot.dto.SlotPageRequest;
+import com.example.SlotlyV2.feature.slot.dto.SlotResponse;
+import com.example.SlotlyV2.feature.user.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class SlotAvailabilityIndexTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private SlotRepository slotRepository;
+
+    private Cache<String, EventAvailability> cache;
+
+    private SlotHoldRegistry slotHoldRegistry;
+
+    private SlotAvailabilityIndex slotAvailabilityIndex;
+
+    private static final ZoneId EVENT_ZONE = ZoneId.of("Europe/Berlin");
+
+    @BeforeEach
+    void setUp() {
+        cache = Caffeine.newBuilder().maximumSize(2).executor(Runnable::run).build();
+        slotHoldRegistry = new SlotHoldRegistry(new SlotProperties());
+        slotAvailabilityIndex = new SlotAvailabilityIndex(cache, eventRepository, slotRepository, new SlotProperties(),
+                slotHoldRegistry);
+    }
+
+    @Test
+    void shouldBuildIndexOnFirstReadAndServeLaterReadsFromMemory() {
+        // Arrange
+        Event event = createEvent("event1", true);
+
+        when(eventRepository.findByShareableId("event1")).thenReturn(Optional.of(event));
+        when(slotRepository.findBookedStartTimesByEvent(event))
+                .thenReturn(List.of(event.getEventStart(), event.getEventStart().plusMinutes(60)));
+
+        // Act
+        slotAvailabilityIndex.getAvailableSlots("event1", new SlotPageRequest());
+        List<SlotResponse> slots = slotAvailabilityIndex.getAvailableSlots("event1", new SlotPageRequest())
+                .getContent();
+
+        // Assert
+        assertEquals(2, slots.size());
+        assertEquals(event.getEventStart().plusMinutes(30), slots.get(0).getStartTime());
+        assertEquals(event.getEventStart().plusMinutes(60), slots.get(0).getEndTime());
+        assertEquals(event.getEventStart().plusMinutes(90), slots.get(1).getStartTime());
+        assertEquals("event1", slots.get(0).getEventResponse().getShareableId());
+        assertNull(slots.get(0).getBookedByEmail());
+
+        verify(eventRepository, times(1)).findByShareableId("event1");
+        verify(slotRepository, times(1)).findBookedStartTimesByEvent(event);
+    }
+
+    @Test
+    void shouldApplyBookingsAndCancellationsToCachedEntry() {
+        // Arrange
+        Event event = createEvent("event1", true);
+
+        when(eventRepository.findByShareableId("event1")).thenReturn(Optional.of(event));
+        when(slotRepository.findBookedStartTimesByEvent(event)).thenReturn(List.of());
+
+        slotAvailabilityIndex.getAvailableSlots("event1", new SlotPageRequest());
+
+        // Act
+        slotAvailabilityIndex.markBooked("event1", event.getEventStart(), 1L);
+        slotAvailabilityIndex.markBooked("event1", event.getEventStart().plusMinutes(30), 2L);
+        slotAvailabilityIndex.markAvailable("event1", event.getEventStart(), 3L);
+        List<SlotResponse> slots = slotAvailabilityIndex.getAvailableSlots("event1", new SlotPageRequest())
+                .getContent();
+
+        // Assert
+        assertEquals(3, slots.size());
+        assertEquals(event.getEventStart(), slots.get(0).getStartTime());
+        assertEquals(event.getEventStart().plusMinutes(60), slots.get(1).getStartTime());
+        verify(eventRepository, times(1)).findByShareableId("event1");
+    }
+
+    @Test
+    void shouldKeepGroupSlotsListedUntilTheirLastSeatIsTaken() {
+        // Arrange
+        Event event = createEvent("event1", true);
+        LocalDateTime start = event.getEventStart();
+
+        when(eventRepository.findByShareableId("event1")).thenReturn(Optional.of(event));
+        when(slotRepository.findBookedStartTimesByEvent(event)).thenReturn(List.of());
+
+        slotAvailabilityIndex.getAvailableSlots("event1", new SlotPageRequest());
+
+        // Act: one batch fills the first slot and takes a seat of the second
+        slotAvailabilityIndex.markBooked("event1", List.of(start), List.of(start.plusMinutes(30)), 1L);
+        List<SlotResponse> slots = slotAvailabilityIndex.getAvailableSlots("event1", new SlotPageRequest())
+                .getContent();
+
+        // Assert
+        assertEquals(3, slots.size());
+        assertEquals(start.plusMinutes(30), slots.get(0).getStartTime());
+        assertEquals(1L, slotAvailabilityIndex.getAvailabilityVersion("event1").orElseThrow());
+    }
+
+    @Test
+    void shouldPageFreeSlotsWithinRangeUsingCursor() {
+        // Arrange
+        Event event = createEvent("event1", true);
+        LocalDateTime start = event.getEventStart();
+
+        when(eventRepository.findByShareableId("event1")).thenReturn(Optional.of(event));
+        when(slotRepository.findBookedStartTimesByEvent(event)).thenReturn(List.of(start.plusMinutes(30)));
+
+        // Act
+        CursorPage<SlotResponse> firstPage = slotAvailabilityIndex.getAvailableSlots("event1",
+                new SlotPageRequest(start.plusMinutes(1), null, null, 1));
+        CursorPage<SlotResponse> lastPage = slotAvailabilityIndex.getAvailableSlots("event1",
+                new SlotPageRequest(start.plusMinutes(1), null, firstPage.getNextCursor(), 1));
+
+        // Assert
+        assertEquals(start.plusMinutes(60), firstPage.getContent().get(0).getStartTime());
+        assertTrue(firstPage.isHasNext());
+        assertEquals(start.plusMinutes(90), lastPage.getContent().get(0).getStartTime());
+        assertFalse(lastPage.isHasNext());
+    }
+
+    @Test
+    void shouldServeCompactSummariesFromSameEntry() {
+        // Arrange
+        Event event = createEvent("event1", true);
+
+        when(eventRepository.findByShareableId("event1")).thenReturn(Optional.of(event));
+        when(slotRepository.findBookedStartTimesByEvent(event)).thenReturn(List.of(event.getEventStart()));
+
+        slotAvailabilityIndex.getAvailableSlots("event1", new SlotPageRequest());
+
+        // Act
+        EventSlotsResponse response = slotAvailabilityIndex.getAvailableSlotSummaries("event1");
+
+        // Assert
+        assertEquals("event1", response.getEvent().getShareableId());
+        assertEquals(3, response.getSlots().size());
+        assertEquals(event.getEventStart().plusMinutes(30), response.getSlots().get(0).getStartTime());
+        verify(eventRepository, times(1)).findByShareableId("event1");
+    }
+
+    @Test
+    void shouldHideHeldSlotsFromListingsAndChangeETag() {
+        // Arrange
+        Event event = createEvent("event1", true);
+
+        when(eventRepository.findByShareableId("event1")).thenReturn(Optional.of(event));
+        when(slotRepository.findBookedStartTimesByEvent(event)).thenReturn(List.of());
+
+        slotAvailabilityIndex.getAvailableSlots("event1", new SlotPageRequest());
+        String freeTag = slotAvailabilityIndex.getSlotsETag("event1").orElseThrow();
+
+        // Act
+        SlotHold hold = slotAvailabilityIndex.holdSlot("event1",
+                holdRequest(event.getEventStart(), "attendee@example.com"));
+        List<SlotResponse> slots = slotAvailabilityIndex.getAvailableSlots("event1", new SlotPageRequest())
+                .getContent();
+        String heldTag = slotAvailabilityIndex.getSlotsETag("event1").orElseThrow();
+
+        // Assert
+        assertEquals("attendee@example.com", hold.getAttendeeEmail());
+        assertEquals(3, slots.size());
+        assertEquals(event.getEventStart().plusMinutes(30), slots.get(0).getStartTime());
+        assertEquals(3, slotAvailabilityIndex.getAvailableSlotSummaries("event1").getSlots().size());
+        assertNotEquals(freeTag, heldTag);
+    }
+
+    @Test
+    void shouldRejectHoldOnSlotHeldByAnotherAttendeeOrBooked() {
+        // Arrange
+        Event event = createEvent("event1", true);
+
+        when(eventRepository.findByShareableId("event1")).thenReturn(Optional.of(event));
+        when(slotRepository.findBookedStartTimesByEvent(event)).thenReturn(List.of(event.getEventStart()));
+
+        LocalDateTime free = event.getEventStart().plusMinutes(30);
+        slotAvailabilityIndex.holdSlot("event1", holdRequest(free, "first@example.com"));
+
+        // Act & Assert
+        assertThrows(SlotHeldException.class, () -> slotAvailabilityIndex.holdSlot("event1",
+                holdRequest(free, "second@example.com")));
+        assertThrows(SlotAlreadyBookedException.class, () -> slotAvailabilityIndex.holdSlot("event1",
+                holdRequest(event.getEventStart(), "second@example.com")));
+    }
+
+    @Test
+    void shouldServeEventHeaderFromSameEntry() {
+        // Arrange
+        Event event = createEvent("event1", true);
+
+        when(eventRepository.findByShareableId("event1")).thenReturn(Optional.of(event));
+        when(slotRepository.findBookedStartTimesByEvent(event)).thenReturn(List.of());
+
+        // Act
+        EventResponse header = slotAvailabilityIndex.getPublicEvent("event1");
+        slotAvailabilityIndex.getAvailableSlots("event1", new SlotPageRequest());
+
+        // Assert
+        assertEquals(event.getId(), header.getId());
+        assertEquals("host@example.com", header.getHost().getEmail());
+        verify(eventRepository, times(1)).findByShareableId("event1");
+    }
+
+    @Test
+    void shouldRecordHitAndMissMetrics() {
+        // Arrange
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        cache = new CacheConfig().slotAvailabilityCache(new SlotProperties(), meterRegistry);
+        slotAvailabilityIndex = new SlotAvailabilityIndex(cache, eventRepository, slotRepository, new SlotProperties(),
+                slotHoldRegistry);
+        Event event = createEvent("event1", true);
+
+        when(eventRepository.findByShareableId("event1")).thenReturn(Optional.of(event));
+        when(slotRepository.findBookedStartTimesByEvent(event)).thenReturn(List.of());
+
+        // Act
+        slotAvailabilityIndex.getPublicEvent("event1");
+        slotAvailabilityIndex.getPublicEvent("event1");
+        slotAvailabilityIndex.getPublicEvent("event1");
+
+        // Assert
+        assertEquals(2.0, meterRegistry.get("cache.gets").tags("cache", "slotAvailability", "result", "hit")
+                .functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tags("cache", "slotAvailability", "result", "miss")
+                .functionCounter().count());
+    }
+
+    @Test
+    void shouldIgnoreUpdatesAlreadyReflectedInEntry() {
+        // Arrange
+        Event event = createEvent("event1", true);
+        event.setAvailabilityVersion(4L);
+
+        when(eventRepository.findByShareableId("event1")).thenReturn(Optional.of(event));
+        when(slotRepository.findBookedStartTimesByEvent(event)).thenReturn(List.of());
+
+        slotAvailabilityIndex.getAvailableSlots("event1", new SlotPageRequest());
+
+        // Act
+        slotAvailabilityIndex.markBooked("event1", event.getEventStart(), 4L);
+
+        // Assert
+        assertEquals(4, slotAvailabilityIndex.getAvailableSlots("event1", new SlotPageRequest()).getContent().size());
+        assertEquals(Optional.of(4L), slotAvailabilityIndex.getAvailabilityVersion("event1"));
+    }
+
+    @Test
+    void shouldDropEntryWhenVersionsWereMissed() {
+        // Arrange
+        Event event = createEvent("event1", true);
+
+        when(eventRepository.findByShareableId("event1")).thenReturn(Optional.of(event));
+        when(slotRepository.findBookedStartTimesByEvent(event)).thenReturn(List.of());
+
+        slotAvailabilityIndex.getAvailableSlots("event1", new SlotPageRequest());
+
+        // Act
+        slotAvailabilityIndex.markBooked("event1", event.getEventStart(), 2L);
+
+        // Assert
+        assertNull(cache.getIfPresent("event1"));
+    }
+
+    @Test
+    void shouldReadAvailabilityVersionFromCachedEntryOrEventRow() {
+        // Arrange
+        Event event = createEvent("event1", true);
+        event.setAvailabilityVersion(7L);
+
+        when(eventRepository.findPublicAvailabilityVersion("event1")).thenReturn(Optional.of(7L));
+        when(eventRepository.findByShareableId("event1")).thenReturn(Optional.of(event));
+        when(slotRepository.findBookedStartTimesByEvent(event)).thenReturn(List.of());
+
+        // Act
+        Optional<Long> beforeLoad = slotAvailabilityIndex.getAvailabilityVersion("event1");
+        slotAvailabilityIndex.getAvailableSlots("event1", new SlotPageRequest());
+        slotAvailabilityIndex.markBooked("event1", event.getEventStart(), 8L);
+        Optional<Long> afterBooking = slotAvailabilityIndex.getAvailabilityVersion("event1");
+
+        // Assert
+        assertEquals(Optional.of(7L), beforeLoad);
+        assertEquals(Optional.of(8L), afterBooking);
+        verify(eventRepository, times(1)).findPublicAvailabilityVersion("event1");
+        verify(slotRepository, times(1)).findBookedStartTimesByEvent(event);
+    }
+
+    @Test
+    void shouldIgnoreUpdatesForEventsNotInIndex() {
+        // Act
+        slotAvailabilityIndex.markBooked("event1", LocalDateTime.now(), 1L);
+
+        // Assert
+        assertNull(cache.getIfPresent("event1"));
+        verify(eventRepository, never()).findByShareableId(anyString());
+    }
+
+    @Test
+    void shouldReloadEventAfterEviction() {
+        // Arrange
+        Event event = createEvent("event1", true);
+
+        when(eventRepository.findByShareableId("event1")).thenReturn(Optional.of(event));
+        when(slotRepository.findBookedStartTimesByEvent(event)).thenReturn(List.of());
+
+        slotAvailabilityIndex.getAvailableSlots("event1", new SlotPageRequest());
+
+        // Act
+        slotAvailabilityIndex.evict("event1");
+        slotAvailabilityIndex.getAvailableSlots("event1", new SlotPageRequest());
+
+        // Assert
+        verify(eventRepository, times(2)).findByShareableId("event1");
+    }
+
+    @Test
+    void shouldBoundIndexToMaximumNumberOfEvents() {
+        // Arrange
+        for (String shareableId : List.of("event1", "event2", "event3")) {
+            Event event = createEvent(shareableId, true);
+            when(eventRepository.findByShareableId(shareableId)).thenReturn(Optional.of(event));
+            when(slotRepository.findBookedStartTimesByEvent(event)).thenReturn(List.of());
+        }
+
+        // Act
+        slotAvailabilityIndex.getAvailableSlots("event1", new SlotPageRequest());
+        slotAvailabilityIndex.getAvailableSlots("event2", new SlotPageRequest());
+        slotAvailabilityIndex.getAvailableSlots("event3", new SlotPageRequest());
+        cache.cleanUp();
+
+        // Assert
+        assertEquals(2, cache.estimatedSize());
+    }
+
+    @Test
+    void shouldThrowUnauthorizedAccessExceptionWhenEventIsPrivate() {
+        // Arrange
+        Event event = createEvent("event1", false);
+
+        when(eventRepository.findByShareableId("event1")).thenReturn(Optional.of(event));
+        when(slotRepository.findBookedStartTimesByEvent(event)).thenReturn(List.of());
+
+        // Act & Assert
+        assertThrows(UnauthorizedAccessException.class, () -> slotAvailabilityIndex.getAvailableSlots("event1", new SlotPageRequest()));
+    }
+
+    @Test
+    void shouldThrowEventNotFoundException() {
+        // Arrange
+        when(eventRepository.findByShareableId(anyString())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(EventNotFoundException.class, () -> slotAvailabilityIndex.getAvailableSlots("missing", new SlotPageRequest()));
+
+        verify(slotRepository, never()).findBookedStartTimesByEvent(any(Event.class));
+        assertNull(cache.getIfPresent("missing"));
+    }
+
+    private SlotHoldRequest holdRequest(LocalDateTime startTime, String attendeeEmail) {
+        return SlotHoldRequest.builder().startTime(startTime).attendeeEmail(attendeeEmail).build();
+    }
+
+    private Event createEvent(String shareableId, boolean isPublic) {
+        User host = new User();
+        host.setId(1L);
+        host.setEmail("host@example.com");
+
+        AvailabilityRules rules = new AvailabilityRules();
+        rules.setSlotDurationMinutes(30);
+        rules.setIsPublic(isPublic);
+
+        LocalDateTime eventStart = ZonedDateTime.now(EVENT_ZONE).plusDays(1).toLocalDateTime().withNano(0);
+
+        Event event = new Event();
+        event.setId(1L);
+        event.setShareableId(shareableId);
+        event.setHost(host);
+        event.setRules(rules);
+        event.setTimeZone("Europe/Berlin");
+        event.setEventStart(eventStart);
+        event.setEventEnd(eventStart.plusMinutes(120));
+        return event;
+    }
+}
@@ -0,0 +1,305 @@
+package com.example.SlotlyV2.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.SlotlyV2.common.config.SlotProperties;
+import com.example.SlotlyV2.common.exception.event.MaxCapacityExceededException;
+import com.example.SlotlyV2.common.exception.slot.MaxSlotsPerUserExceededException;
+import com.example.SlotlyV2.common.exception.slot.SlotAlreadyBookedException;
+import com.example.SlotlyV2.common.util.NameUtils;
+import com.example.SlotlyV2.feature.availability.AvailabilityRules;
+import com.example.SlotlyV2.feature.event.Event;
+import com.example.SlotlyV2.feature.event.EventRepository;
+import com.example.SlotlyV2.feature.slot.AttendeeSchedule;
+import com.example.SlotlyV2.feature.slot.Slot;
+import com.example.SlotlyV2.feature.slot.SlotAttendeeRepository;
+import com.example.SlotlyV2.feature.slot.SlotRepository;
+import com.example.SlotlyV2.feature.slot.SlotBookingQueue;
+import com.example.SlotlyV2.feature.slot.SlotConflictRetry;
+import com.example.SlotlyV2.feature.slot.SlotHoldRegistry;
+import com.example.SlotlyV2.feature.slot.SlotService;
+import com.example.SlotlyV2.feature.slot.dto.BatchSlotRequest;
+import com.example.SlotlyV2.feature.slot.dto.SlotRequest;
+import com.example.SlotlyV2.feature.slot.dto.SlotSummary;
+import com.example.SlotlyV2.feature.user.User;
+import com.example.SlotlyV2.feature.user.UserRepository;
+import com.example.SlotlyV2.feature.waitlist.WaitlistService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import({ SlotService.class, SlotHoldRegistry.class, AttendeeSchedule.class, NameUtils.class,
+        SlotProperties.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SlotBookingConcurrencyTest {
+
+    private static final int THREADS = 200;
+    private static final int MAX_CAPACITY = 10;
+    // Every batch waits on the event row in turn, fewer threads keep that queue inside H2's lock timeout
+    private static final int BATCH_THREADS = 50;
+    private static final int SEATS = 50;
+
+    @Autowired
+    private SlotService slotService;
+
+    // Bookings never reach the waitlist here
+    @MockitoBean
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private SlotProperties slotProperties;
+
+    @Autowired
+    private SlotRepository slotRepository;
+
+    @Autowired
+    private SlotAttendeeRepository slotAttendeeRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private SlotBookingQueue slotBookingQueue;
+
+    private Event event;
+    private LocalDateTime startTime;
+
+    @BeforeEach
+    void setUp() {
+        User host = new User();
+        host.setEmail("host@example.com");
+        host.setDisplayName("host");
+        host.setPassword("password");
+        host.setIsVerified(true);
+        host = userRepository.save(host);
+
+        AvailabilityRules rules = new AvailabilityRules();
+        rules.setSlotDurationMinutes(30);
+        rules.setMaxCapacity(MAX_CAPACITY);
+
+        startTime = LocalDateTime.now().plusDays(1).withNano(0);
+
+        event = new Event();
+        event.setEventName("Popular Event");
+        event.setHost(host);
+        event.setEventStart(startTime);
+        event.setEventEnd(startTime.plusMinutes(30L * THREADS));
+        event.setTimeZone("UTC");
+        event.setRules(rules);
+        event = eventRepository.save(event);
+
+        slotService.generateSlots(event);
+
+        slotBookingQueue = new SlotBookingQueue(slotService,
+                new SlotConflictRetry(slotProperties, new SimpleMeterRegistry()), slotProperties,
+                Executors.newVirtualThreadPerTaskExecutor(), new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    void tearDown() {
+        slotProperties.setBookingMode(SlotProperties.BookingMode.OPTIMISTIC);
+        slotRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @ParameterizedTest
+    @EnumSource(SlotProperties.BookingMode.class)
+    void shouldLetExactlyOneOfManyConcurrentAttendeesClaimTheSlot(SlotProperties.BookingMode bookingMode)
+            throws Exception {
+        // Arrange
+        slotProperties.setBookingMode(bookingMode);
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // Act
+        runConcurrently(i -> {
+            try {
+                slotBookingQueue.bookSlot(request(i, startTime));
+                booked.incrementAndGet();
+            } catch (SlotAlreadyBookedException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        // Assert
+        assertEquals(1, booked.get());
+        assertEquals(THREADS - 1, rejected.get());
+
+        Slot slot = slotRepository.findByEventIdAndStartTime(event.getId(), startTime).orElseThrow();
+        assertNotNull(slot.getBookedByEmail());
+        assertEquals(1L, slot.getVersion());
+        assertEquals(1, eventRepository.findById(event.getId()).orElseThrow().getBookedCount());
+    }
+
+    @ParameterizedTest
+    @EnumSource(SlotProperties.BookingMode.class)
+    void shouldNeverBookMoreSlotsThanEventCapacity(SlotProperties.BookingMode bookingMode) throws Exception {
+        // Arrange
+        slotProperties.setBookingMode(bookingMode);
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // Act: every attendee goes for a different slot
+        runConcurrently(i -> {
+            try {
+                slotBookingQueue.bookSlot(request(i, startTime.plusMinutes(30L * i)));
+                booked.incrementAndGet();
+            } catch (MaxCapacityExceededException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        // Assert
+        assertEquals(MAX_CAPACITY, booked.get());
+        assertEquals(THREADS - MAX_CAPACITY, rejected.get());
+        assertEquals(MAX_CAPACITY, eventRepository.findById(event.getId()).orElseThrow().getBookedCount());
+        assertEquals(MAX_CAPACITY, slotRepository.findBookedStartTimesByEvent(event).size());
+    }
+
+    @ParameterizedTest
+    @EnumSource(SlotProperties.BookingMode.class)
+    void shouldNeverSellMoreSeatsThanGroupSlotHas(SlotProperties.BookingMode bookingMode) throws Exception {
+        // Arrange
+        slotProperties.setBookingMode(bookingMode);
+        event = createGroupEvent();
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // Act: every attendee goes for a seat in the same slot
+        runConcurrently(i -> {
+            try {
+                slotBookingQueue.bookSlot(request(i, startTime));
+                booked.incrementAndGet();
+            } catch (SlotAlreadyBookedException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        // Assert
+        assertEquals(SEATS, booked.get());
+        assertEquals(THREADS - SEATS, rejected.get());
+
+        Slot slot = slotRepository.findByEventIdAndStartTime(event.getId(), startTime).orElseThrow();
+        assertEquals(SEATS, slot.getSeatsTaken());
+        assertNull(slot.getBookedByEmail());
+        assertEquals(SEATS, slotAttendeeRepository.count());
+        assertEquals(SEATS, eventRepository.findById(event.getId()).orElseThrow().getBookedCount());
+
+        SlotSummary summary = slotRepository.findSummariesByEventId(event.getId()).get(0);
+        assertTrue(summary.getBooked());
+        assertEquals(0, summary.getSeatsLeft());
+    }
+
+    @Test
+    void shouldNeverLetOneAttendeeBatchBookMoreThanMaxSlotsPerUser() throws Exception {
+        // Arrange
+        event.getRules().setMaxSlotsPerUser(3);
+        event = eventRepository.save(event);
+        AtomicInteger booked = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // Act: the same attendee goes for two different slots from every thread
+        runConcurrently(BATCH_THREADS, i -> {
+            try {
+                slotService.bookSlots(BatchSlotRequest.builder()
+                        .eventId(event.getId())
+                        .startTimes(List.of(startTime.plusMinutes(60L * i), startTime.plusMinutes(60L * i + 30)))
+                        .attendeeName("Attendee")
+                        .attendeeEmail("attendee@example.com")
+                        .build());
+                booked.incrementAndGet();
+            } catch (MaxSlotsPerUserExceededException e) {
+                rejected.incrementAndGet();
+            }
+        });
+
+        // Assert
+        assertEquals(1, booked.get());
+        assertEquals(BATCH_THREADS - 1, rejected.get());
+        assertEquals(2, eventRepository.findById(event.getId()).orElseThrow().getBookedCount());
+        assertEquals(2, slotRepository.findBookedStartTimesByEvent(event).size());
+    }
+
+    private Event createGroupEvent() {
+        AvailabilityRules rules = new AvailabilityRules();
+        rules.setSlotDurationMinutes(30);
+        rules.setSeatsPerSlot(SEATS);
+
+        Event groupEvent = new Event();
+        groupEvent.setEventName("Workshop");
+        groupEvent.setHost(event.getHost());
+        groupEvent.setEventStart(startTime);
+        groupEvent.setEventEnd(startTime.plusMinutes(60));
+        groupEvent.setTimeZone("UTC");
+        groupEvent.setRules(rules);
+        groupEvent = eventRepository.save(groupEvent);
+
+        slotService.generateSlots(groupEvent);
+        return groupEvent;
+    }
+
+    private SlotRequest request(int attendee, LocalDateTime slotStart) {
+        return SlotRequest.builder()
+                .eventId(event.getId())
+                .startTime(slotStart)
+                .attendeeName("Attendee " + attendee)
+                .attendeeEmail("attendee" + attendee + "@example.com")
+                .build();
+    }
+
+    private void runConcurrently(IntConsumer attempt) throws Exception {
+        runConcurrently(THREADS, attempt);
+    }
+
+    private void runConcurrently(int threads, IntConsumer attempt) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> attempts = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            int attendee = i;
+            attempts.add(executor.submit(() -> {
+                startGate.await();
+                attempt.accept(attendee);
+                return null;
+            }));
+        }
+
+        startGate.countDown();
+        for (Future<?> future : attempts) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+}
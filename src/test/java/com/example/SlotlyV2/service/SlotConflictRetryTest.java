@@ -0,0 +1,98 @@
+package com.example.SlotlyV2.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import com.example.SlotlyV2.common.config.SlotProperties;
+import com.example.SlotlyV2.common.exception.slot.SlotAlreadyBookedException;
+import com.example.SlotlyV2.feature.slot.Slot;
+import com.example.SlotlyV2.feature.slot.SlotConflictRetry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class SlotConflictRetryTest {
+
+    private MeterRegistry meterRegistry;
+
+    private SlotConflictRetry slotConflictRetry;
+
+    @BeforeEach
+    void setUp() {
+        SlotProperties slotProperties = new SlotProperties();
+        slotProperties.setConflictRetryDelay(Duration.ofMillis(2));
+        slotProperties.setConflictRetryMaxDelay(Duration.ofMillis(4));
+
+        meterRegistry = new SimpleMeterRegistry();
+        slotConflictRetry = new SlotConflictRetry(slotProperties, meterRegistry);
+    }
+
+    @Test
+    void shouldRetryConflictsUntilAttemptSucceeds() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+        Slot slot = new Slot();
+
+        // Act
+        Slot result = slotConflictRetry.execute("book", () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new ObjectOptimisticLockingFailureException(Slot.class, 1L);
+            }
+            return slot;
+        });
+
+        // Assert
+        assertEquals(slot, result);
+        assertEquals(3, attempts.get());
+        assertEquals(2.0, meterRegistry.get("slot.conflicts").tag("operation", "book").counter().count());
+        assertEquals(2.0, meterRegistry.get("slot.conflict.retries").tag("operation", "book").counter().count());
+    }
+
+    @Test
+    void shouldEndRetriesWithDomainErrorOfLaterAttempt() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        assertThrows(SlotAlreadyBookedException.class, () -> slotConflictRetry.execute("book", () -> {
+            if (attempts.incrementAndGet() == 1) {
+                throw new ObjectOptimisticLockingFailureException(Slot.class, 1L);
+            }
+            throw new SlotAlreadyBookedException("This slot is already booked. Please choose another slot");
+        }));
+        assertEquals(2, attempts.get());
+        assertNull(meterRegistry.find("slot.conflict.exhausted").counter());
+    }
+
+    @Test
+    void shouldNotCountDomainErrorWithoutConflictAsExhaustion() {
+        // Act & Assert
+        assertThrows(SlotAlreadyBookedException.class, () -> slotConflictRetry.execute("book", () -> {
+            throw new SlotAlreadyBookedException("This slot is already booked. Please choose another slot");
+        }));
+        assertNull(meterRegistry.find("slot.conflict.exhausted").counter());
+    }
+
+    @Test
+    void shouldRethrowConflictOnceRetriesAreExhausted() {
+        // Arrange
+        AtomicInteger attempts = new AtomicInteger();
+
+        // Act & Assert
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> slotConflictRetry.execute("cancel", () -> {
+            attempts.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException(Slot.class, 1L);
+        }));
+        assertEquals(4, attempts.get());
+        assertEquals(4.0, meterRegistry.get("slot.conflicts").tag("operation", "cancel").counter().count());
+        assertEquals(1.0, meterRegistry.get("slot.conflict.exhausted").tag("operation", "cancel").counter().count());
+    }
+}
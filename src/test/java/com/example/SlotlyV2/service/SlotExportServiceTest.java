@@ -0,0 +1,185 @@
+package com.example.SlotlyV2.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.SlotlyV2.common.config.SlotProperties;
+import com.example.SlotlyV2.common.exception.event.EventNotFoundException;
+import com.example.SlotlyV2.common.util.NameUtils;
+import com.example.SlotlyV2.feature.availability.AvailabilityRules;
+import com.example.SlotlyV2.feature.event.Event;
+import com.example.SlotlyV2.feature.event.EventRepository;
+import com.example.SlotlyV2.feature.slot.AttendeeSchedule;
+import com.example.SlotlyV2.feature.slot.SlotExportService;
+import com.example.SlotlyV2.feature.slot.SlotRepository;
+import com.example.SlotlyV2.feature.slot.SlotHoldRegistry;
+import com.example.SlotlyV2.feature.slot.SlotService;
+import com.example.SlotlyV2.feature.slot.dto.SlotRequest;
+import com.example.SlotlyV2.feature.user.User;
+import com.example.SlotlyV2.feature.user.UserRepository;
+import com.example.SlotlyV2.feature.waitlist.WaitlistService;
+
+import jakarta.persistence.EntityManager;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+@DataJpaTest(showSql = false)
+@ActiveProfiles("test")
+@Import({ SlotService.class, SlotHoldRegistry.class, AttendeeSchedule.class, NameUtils.class,
+        SlotProperties.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SlotExportServiceTest {
+
+    private static final int SLOT_COUNT = 1_200;
+
+    @Autowired
+    private SlotService slotService;
+
+    @MockitoBean
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private SlotProperties slotProperties;
+
+    @Autowired
+    private SlotRepository slotRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+    private SlotExportService slotExportService;
+
+    private User host;
+
+    @BeforeEach
+    void setUp() {
+        slotExportService = new SlotExportService(slotRepository, eventRepository, slotProperties, entityManager,
+                jsonMapper, transactionManager);
+
+        host = new User();
+        host.setEmail("host@example.com");
+        host.setDisplayName("host");
+        host.setPassword("password");
+        host.setIsVerified(true);
+        host = userRepository.save(host);
+    }
+
+    @AfterEach
+    void tearDown() {
+        slotProperties.setMaterialization(SlotProperties.Materialization.STORED);
+        slotRepository.deleteAll();
+        eventRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void shouldStreamEverySlotOfEventAsJson() throws Exception {
+        // Arrange
+        Event event = createEvent();
+        slotService.generateSlots(event);
+        book(event, event.getEventStart().plusMinutes(30));
+
+        // Act
+        JsonNode response = export(slotExportService.exportSlots(event.getId()));
+
+        // Assert
+        assertEquals("Slots exported successfully", response.get("message").asString());
+        assertEquals(SLOT_COUNT, response.get("data").size());
+        assertEquals("attendee@example.com", response.get("data").get(1).get("bookedByEmail").asString());
+        assertEquals(event.getShareableId(), response.get("data").get(0).get("eventResponse").get("shareableId").asString());
+    }
+
+    @Test
+    void shouldMergeBookedRowsIntoGridWhenSlotsAreVirtual() throws Exception {
+        // Arrange
+        slotProperties.setMaterialization(SlotProperties.Materialization.VIRTUAL);
+        Event event = createEvent();
+        book(event, event.getEventStart().plusMinutes(60));
+
+        // Act
+        JsonNode response = export(slotExportService.exportSlots(event.getId()));
+
+        // Assert
+        assertEquals(SLOT_COUNT, response.get("data").size());
+        assertEquals("attendee@example.com", response.get("data").get(2).get("bookedByEmail").asString());
+        assertTrue(response.get("data").get(3).get("bookedByEmail").isNull());
+    }
+
+    @Test
+    void shouldStreamBookedSlotsOfUser() throws Exception {
+        // Arrange
+        Event event = createEvent();
+        slotService.generateSlots(event);
+        book(event, event.getEventStart());
+
+        // Act
+        JsonNode response = export(slotExportService.exportBookedSlots("attendee@example.com"));
+
+        // Assert
+        assertEquals(1, response.get("data").size());
+    }
+
+    @Test
+    void shouldThrowEventNotFoundExceptionBeforeStreaming() {
+        assertThrows(EventNotFoundException.class, () -> slotExportService.exportSlots(999L));
+    }
+
+    private JsonNode export(StreamingResponseBody body) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return jsonMapper.readTree(out.toByteArray());
+    }
+
+    private void book(Event event, LocalDateTime startTime) {
+        slotService.bookSlot(SlotRequest.builder()
+                .eventId(event.getId())
+                .startTime(startTime)
+                .attendeeName("Attendee")
+                .attendeeEmail("attendee@example.com")
+                .build());
+    }
+
+    private Event createEvent() {
+        AvailabilityRules rules = new AvailabilityRules();
+        rules.setSlotDurationMinutes(30);
+
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1).withNano(0);
+
+        Event event = new Event();
+        event.setEventName("Export Event");
+        event.setHost(host);
+        event.setEventStart(startTime);
+        event.setEventEnd(startTime.plusMinutes(30L * SLOT_COUNT));
+        event.setTimeZone("UTC");
+        event.setRules(rules);
+        return eventRepository.save(event);
+    }
+}
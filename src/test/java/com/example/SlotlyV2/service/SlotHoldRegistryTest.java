@@ -0,0 +1,167 @@
+package com.example.SlotlyV2.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.SlotlyV2.common.config.SlotProperties;
+import com.example.SlotlyV2.common.exception.slot.MaxSlotsPerUserExceededException;
+import com.example.SlotlyV2.common.exception.slot.SlotHeldException;
+import com.example.SlotlyV2.feature.slot.SlotHold;
+import com.example.SlotlyV2.feature.slot.SlotHoldRegistry;
+
+public class SlotHoldRegistryTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private SlotHoldRegistry slotHoldRegistry;
+
+    private LocalDateTime startTime;
+
+    @BeforeEach
+    void setUp() {
+        slotHoldRegistry = new SlotHoldRegistry(new SlotProperties(), nanos::get);
+        startTime = LocalDateTime.now().plusDays(1).withNano(0);
+    }
+
+    @Test
+    void shouldTurnAwayOtherAttendeesWhileSlotIsHeld() {
+        // Arrange
+        slotHoldRegistry.hold("event1", startTime, "first@example.com", null, null, null);
+
+        // Act & Assert
+        assertThrows(SlotHeldException.class,
+                () -> slotHoldRegistry.hold("event1", startTime, "second@example.com", null, null, null));
+        assertThrows(SlotHeldException.class,
+                () -> slotHoldRegistry.checkNotHeldByOthers("event1", List.of(startTime), "second@example.com"));
+        assertDoesNotThrow(
+                () -> slotHoldRegistry.checkNotHeldByOthers("event1", List.of(startTime), "FIRST@example.com"));
+        assertEquals(Set.of(startTime), slotHoldRegistry.getHeldStartTimes("event1"));
+    }
+
+    @Test
+    void shouldLetHolderExtendTheirHold() {
+        // Arrange
+        SlotHold hold = slotHoldRegistry.hold("event1", startTime, "first@example.com", null, 60, null);
+        nanos.addAndGet(Duration.ofSeconds(50).toNanos());
+
+        // Act
+        SlotHold extended = slotHoldRegistry.hold("event1", startTime, "first@example.com", hold.getHoldToken(), 60,
+                null);
+        nanos.addAndGet(Duration.ofSeconds(50).toNanos());
+
+        // Assert
+        assertEquals(Duration.ofSeconds(60), extended.getTtl());
+        assertEquals(hold.getHoldToken(), extended.getHoldToken());
+        assertEquals(Set.of(startTime), slotHoldRegistry.getHeldStartTimes("event1"));
+    }
+
+    @Test
+    void shouldFreeSlotWhenHoldExpires() {
+        // Arrange
+        slotHoldRegistry.hold("event1", startTime, "first@example.com", null, 60, null);
+        String heldTag = slotHoldRegistry.tag("event1", 3L);
+
+        // Act
+        nanos.addAndGet(Duration.ofSeconds(61).toNanos());
+
+        // Assert
+        assertTrue(slotHoldRegistry.getHeldStartTimes("event1").isEmpty());
+        assertDoesNotThrow(() -> slotHoldRegistry.hold("event1", startTime, "second@example.com", null, null, null));
+        assertNotEquals(heldTag, slotHoldRegistry.tag("event1", 3L));
+    }
+
+    @Test
+    void shouldCapHoldAtConfiguredTtl() {
+        // Act
+        SlotHold hold = slotHoldRegistry.hold("event1", startTime, "first@example.com", null, 3600, null);
+
+        // Assert
+        assertEquals(Duration.ofMinutes(5), hold.getTtl());
+    }
+
+    @Test
+    void shouldOnlyReleaseHoldWithItsToken() {
+        // Arrange
+        SlotHold hold = slotHoldRegistry.hold("event1", startTime, "first@example.com", null, null, null);
+
+        // Act
+        slotHoldRegistry.release("event1", startTime, "first@example.com");
+        Set<LocalDateTime> stillHeld = slotHoldRegistry.getHeldStartTimes("event1");
+        slotHoldRegistry.release("event1", startTime, hold.getHoldToken());
+
+        // Assert
+        assertEquals(Set.of(startTime), stillHeld);
+        assertTrue(slotHoldRegistry.getHeldStartTimes("event1").isEmpty());
+        assertEquals("3", slotHoldRegistry.tag("event1", 3L));
+    }
+
+    @Test
+    void shouldLimitHoldsPerAttendee() {
+        // Arrange
+        SlotHold hold = slotHoldRegistry.hold("event1", startTime, "first@example.com", null, null, 1);
+
+        // Act & Assert
+        assertThrows(MaxSlotsPerUserExceededException.class,
+                () -> slotHoldRegistry.hold("event1", startTime.plusMinutes(30), "first@example.com", null, null, 1));
+        assertDoesNotThrow(
+                () -> slotHoldRegistry.hold("event1", startTime, "first@example.com", hold.getHoldToken(), null, 1));
+    }
+
+    @Test
+    void shouldNotLetSameEmailWithoutTokenTakeOverHold() {
+        // Arrange
+        slotHoldRegistry.hold("event1", startTime, "first@example.com", null, null, null);
+
+        // Act & Assert
+        assertThrows(SlotHeldException.class,
+                () -> slotHoldRegistry.hold("event1", startTime, "first@example.com", "guessed", null, null));
+    }
+
+    @Test
+    void shouldCapHoldsPerEventAcrossAttendees() {
+        // Arrange
+        SlotProperties slotProperties = new SlotProperties();
+        slotProperties.setMaxHoldsPerEvent(2);
+        slotHoldRegistry = new SlotHoldRegistry(slotProperties, nanos::get);
+        SlotHold hold = slotHoldRegistry.hold("event1", startTime, "first@example.com", null, null, null);
+        slotHoldRegistry.hold("event1", startTime.plusMinutes(30), "second@example.com", null, null, null);
+
+        // Act & Assert
+        assertThrows(SlotHeldException.class, () -> slotHoldRegistry.hold("event1", startTime.plusMinutes(60),
+                "third@example.com", null, null, null));
+        assertDoesNotThrow(
+                () -> slotHoldRegistry.hold("event1", startTime, "first@example.com", hold.getHoldToken(), null, null));
+        assertDoesNotThrow(
+                () -> slotHoldRegistry.hold("event2", startTime, "third@example.com", null, null, null));
+    }
+
+    @Test
+    void shouldTagWithVersionAloneWhenEventHasNoHolds() {
+        // Arrange
+        slotHoldRegistry.hold("event1", startTime, "first@example.com", null, null, null);
+        String firstTag = slotHoldRegistry.tag("event1", 3L);
+        slotHoldRegistry.hold("event1", startTime.plusMinutes(30), "first@example.com", null, null, null);
+
+        // Act
+        String secondTag = slotHoldRegistry.tag("event1", 3L);
+        slotHoldRegistry.releaseAll("event1");
+
+        // Assert
+        assertNotEquals("3", firstTag);
+        assertNotEquals(firstTag, secondTag);
+        assertEquals("3", slotHoldRegistry.tag("event1", 3L));
+        assertEquals("3", slotHoldRegistry.tag("event2", 3L));
+    }
+}
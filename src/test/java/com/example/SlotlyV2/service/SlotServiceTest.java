@@ -2,14 +2,20 @@ package com.example.SlotlyV2.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -18,6 +24,9 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -25,26 +34,51 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
+import com.example.SlotlyV2.common.config.SlotProperties;
+import com.example.SlotlyV2.common.dto.CursorPage;
 import com.example.SlotlyV2.common.exception.auth.UnauthorizedAccessException;
 import com.example.SlotlyV2.common.exception.event.EventNotFoundException;
 import com.example.SlotlyV2.common.exception.event.MaxCapacityExceededException;
 import com.example.SlotlyV2.common.exception.slot.InvalidSlotException;
+import com.example.SlotlyV2.common.exception.slot.MaxSlotsPerUserExceededException;
+import com.example.SlotlyV2.common.exception.slot.OverlappingBookingException;
 import com.example.SlotlyV2.common.exception.slot.SlotAlreadyBookedException;
 import com.example.SlotlyV2.common.exception.slot.SlotNotFoundException;
 import com.example.SlotlyV2.common.util.NameUtils;
 import com.example.SlotlyV2.feature.availability.AvailabilityRules;
+import com.example.SlotlyV2.feature.email.dto.BookingEmailDTO;
 import com.example.SlotlyV2.feature.email.event.SlotBookedEvent;
+import com.example.SlotlyV2.feature.email.event.SlotCancelledEvent;
+import com.example.SlotlyV2.feature.email.event.SlotsBookedEvent;
 import com.example.SlotlyV2.feature.event.Event;
 import com.example.SlotlyV2.feature.event.EventRepository;
+import com.example.SlotlyV2.feature.slot.AttendeeSchedule;
 import com.example.SlotlyV2.feature.slot.Slot;
+import com.example.SlotlyV2.feature.slot.SlotAttendee;
+import com.example.SlotlyV2.feature.slot.SlotAttendeeRepository;
+import com.example.SlotlyV2.feature.slot.SlotCursor;
+import com.example.SlotlyV2.feature.slot.SlotGrid;
+import com.example.SlotlyV2.feature.slot.QueuedBooking;
+import com.example.SlotlyV2.feature.slot.SlotHoldRegistry;
 import com.example.SlotlyV2.feature.slot.SlotRepository;
 import com.example.SlotlyV2.feature.slot.SlotService;
+import com.example.SlotlyV2.feature.slot.dto.BatchSlotRequest;
 import com.example.SlotlyV2.feature.slot.dto.CancelBookingRequest;
+import com.example.SlotlyV2.feature.slot.dto.EventSlotsResponse;
+import com.example.SlotlyV2.feature.slot.dto.SlotPageRequest;
 import com.example.SlotlyV2.feature.slot.dto.SlotRequest;
+import com.example.SlotlyV2.feature.slot.dto.SlotSummary;
 import com.example.SlotlyV2.feature.user.User;
+import com.example.SlotlyV2.feature.waitlist.WaitlistService;
+import com.example.SlotlyV2.feature.waitlist.WaitlistTicket;
+
+import jakarta.persistence.EntityManager;
 
 @ExtendWith(MockitoExtension.class)
 public class SlotServiceTest {
@@ -52,6 +86,9 @@ public class SlotServiceTest {
     @Mock
     private SlotRepository slotRepository;
 
+    @Mock
+    private SlotAttendeeRepository slotAttendeeRepository;
+
     @Mock
     private EventRepository eventRepository;
 
@@ -61,6 +98,21 @@ public class SlotServiceTest {
     @Mock
     private NameUtils nameUtils;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private SlotHoldRegistry slotHoldRegistry;
+
+    @Mock
+    private AttendeeSchedule attendeeSchedule;
+
+    @Mock
+    private WaitlistService waitlistService;
+
+    @Spy
+    private SlotProperties slotProperties = new SlotProperties();
+
     @InjectMocks
     private SlotService slotService;
 
@@ -251,6 +303,40 @@ public class SlotServiceTest {
         verify(slotRepository).saveAll(any(List.class));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldSaveAndFlushSlotsInBatchesOfConfiguredSize() {
+        // Arrange
+        slotProperties.setGenerationBatchSize(2);
+
+        AvailabilityRules rules = new AvailabilityRules();
+        rules.setSlotDurationMinutes(30);
+
+        Event event = new Event();
+        event.setId(1L);
+        event.setRules(rules);
+
+        // 5 slots -> two full batches and one partial batch
+        event.setEventStart(LocalDateTime.of(2025, 1, 1, 10, 0));
+        event.setEventEnd(LocalDateTime.of(2025, 1, 1, 12, 30));
+
+        ArgumentCaptor<List<Slot>> batchCaptor = ArgumentCaptor.forClass(List.class);
+
+        // Act
+        slotService.generateSlots(event);
+
+        // Assert
+        verify(slotRepository, times(3)).saveAll(batchCaptor.capture());
+        verify(slotRepository, times(2)).flush();
+        verify(entityManager, times(4)).detach(any(Slot.class));
+
+        List<List<Slot>> batches = batchCaptor.getAllValues();
+        assertEquals(2, batches.get(0).size());
+        assertEquals(2, batches.get(1).size());
+        assertEquals(1, batches.get(2).size());
+        assertEquals(LocalDateTime.of(2025, 1, 1, 12, 0), batches.get(2).get(0).getStartTime());
+    }
+
     @Test
     void shouldBookSlotSuccessfully() {
         // Arrange
@@ -286,7 +372,8 @@ public class SlotServiceTest {
                 .build();
 
         when(slotRepository.findByEventIdAndStartTime(event.getId(), startTime)).thenReturn(Optional.of(slot));
-        when(slotRepository.countByEventAndBookedByEmailIsNotNullAndBookedByNameIsNotNull(event)).thenReturn(0);
+        when(eventRepository.incrementBookedCount(event.getId())).thenReturn(1);
+        when(eventRepository.findAvailabilityVersionById(event.getId())).thenReturn(5L);
         when(slotRepository.save(any(Slot.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // Act
@@ -299,7 +386,7 @@ public class SlotServiceTest {
         assertFalse(bookedSlot.isAvailable());
 
         verify(slotRepository).findByEventIdAndStartTime(event.getId(), startTime);
-        verify(slotRepository).countByEventAndBookedByEmailIsNotNullAndBookedByNameIsNotNull(event);
+        verify(eventRepository).incrementBookedCount(event.getId());
         verify(slotRepository).save(any(Slot.class));
 
         // Assert - Event Publish
@@ -312,6 +399,7 @@ public class SlotServiceTest {
         assertEquals(capturedEvent.getBookingEmailDTO().getHostEmail(), host.getEmail());
         assertEquals(capturedEvent.getBookingEmailDTO().getAttendeeEmail(), request.getAttendeeEmail());
         assertEquals(capturedEvent.getBookingEmailDTO().getAttendeeName(), request.getAttendeeName());
+        assertEquals(5L, capturedEvent.getBookingEmailDTO().getAvailabilityVersion());
     }
 
     @Test
@@ -331,6 +419,30 @@ public class SlotServiceTest {
         verify(slotRepository).findByEventIdAndStartTime(anyLong(), any(LocalDateTime.class));
     }
 
+    @Test
+    void shouldRejectBookingThatOverlapsAnotherBookingOfTheAttendee() {
+        // Arrange
+        Slot slot = createTestSlot();
+        Long eventId = slot.getEvent().getId();
+
+        SlotRequest request = SlotRequest.builder()
+                .eventId(eventId)
+                .startTime(slot.getStartTime())
+                .attendeeName("Test User")
+                .attendeeEmail("test@example.com")
+                .build();
+
+        when(slotRepository.findByEventIdAndStartTime(eventId, request.getStartTime())).thenReturn(Optional.of(slot));
+        doThrow(new OverlappingBookingException("You already have a booking that overlaps this slot"))
+                .when(attendeeSchedule)
+                .checkNoOverlap("test@example.com", slot.getEvent(), slot.getStartTime(), slot.getEndTime());
+
+        // Act & Assert
+        assertThrows(OverlappingBookingException.class, () -> slotService.bookSlot(request));
+        verify(eventRepository, never()).incrementBookedCount(anyLong());
+        verify(slotRepository, never()).save(any(Slot.class));
+    }
+
     @Test
     void shouldThrowSlotAlreadyBookedException() {
         // Arrange
@@ -414,12 +526,13 @@ public class SlotServiceTest {
 
         when(slotRepository.findByEventIdAndStartTime(request.getEventId(), request.getStartTime()))
                 .thenReturn(Optional.of(slot));
-        when(slotRepository.countByEventAndBookedByEmailIsNotNullAndBookedByNameIsNotNull(event)).thenReturn(1);
+        when(eventRepository.incrementBookedCount(event.getId())).thenReturn(0);
 
         // Act & Assert
         assertThrows(MaxCapacityExceededException.class, () -> slotService.bookSlot(request));
 
-        verify(slotRepository).countByEventAndBookedByEmailIsNotNullAndBookedByNameIsNotNull(event);
+        verify(eventRepository).incrementBookedCount(event.getId());
+        verify(slotRepository, never()).save(any(Slot.class));
     }
 
     @Test
@@ -431,17 +544,67 @@ public class SlotServiceTest {
         Slot slot = new Slot();
         slot.setId(1L);
 
-        when(slotRepository.findByEventId(event.getId())).thenReturn(List.of(slot));
+        // Without a cursor or limit every slot is read, as the v1 list did before paging
+        when(slotRepository.findPageByEventId(eq(event.getId()), any(LocalDateTime.class), any(LocalDateTime.class),
+                any(LocalDateTime.class), eq(0L), eq(Limit.of(Integer.MAX_VALUE)))).thenReturn(List.of(slot));
 
         // Act
-        List<Slot> slots = slotService.getSlots(event.getId());
+        CursorPage<Slot> slots = slotService.getSlots(event.getId(), new SlotPageRequest());
 
         // Assert
         assertNotNull(slots);
-        assertEquals(1, slots.size());
-        assertEquals(slot.getId(), slots.get(0).getId());
+        assertEquals(1, slots.getContent().size());
+        assertEquals(slot.getId(), slots.getContent().get(0).getId());
+        assertFalse(slots.isHasNext());
+        assertNull(slots.getNextCursor());
+    }
 
-        verify(slotRepository).findByEventId(event.getId());
+    @Test
+    void shouldReturnNextCursorWhenMoreSlotsThanLimit() {
+        // Arrange
+        LocalDateTime startTime = LocalDateTime.of(2030, 1, 1, 9, 0);
+        Slot first = new Slot();
+        first.setId(1L);
+        first.setStartTime(startTime);
+        Slot second = new Slot();
+        second.setId(2L);
+        second.setStartTime(startTime.plusMinutes(30));
+
+        when(slotRepository.findPageByEventId(eq(1L), any(LocalDateTime.class), any(LocalDateTime.class),
+                any(LocalDateTime.class), eq(0L), eq(Limit.of(2)))).thenReturn(List.of(first, second));
+
+        // Act
+        CursorPage<Slot> slots = slotService.getSlots(1L, new SlotPageRequest(null, null, null, 1));
+
+        // Assert
+        assertEquals(List.of(first), slots.getContent());
+        assertTrue(slots.isHasNext());
+        assertEquals(new SlotCursor(startTime, 1L), SlotCursor.decode(slots.getNextCursor()));
+    }
+
+    @Test
+    void shouldResumeAfterCursorWithinRequestedRange() {
+        // Arrange
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2030, 1, 2, 0, 0);
+        LocalDateTime cursorTime = LocalDateTime.of(2030, 1, 1, 9, 0);
+        String cursor = new SlotCursor(cursorTime, 7L).encode();
+
+        when(slotRepository.findPageByEventId(1L, from, to, cursorTime, 7L, Limit.of(101))).thenReturn(List.of());
+
+        // Act
+        CursorPage<Slot> slots = slotService.getSlots(1L, new SlotPageRequest(from, to, cursor, null));
+
+        // Assert
+        assertTrue(slots.getContent().isEmpty());
+        verify(slotRepository).findPageByEventId(1L, from, to, cursorTime, 7L, Limit.of(101));
+    }
+
+    @Test
+    void shouldThrowInvalidSlotExceptionWhenCursorIsMalformed() {
+        // Act & Assert
+        assertThrows(InvalidSlotException.class,
+                () -> slotService.getSlots(1L, new SlotPageRequest(null, null, "not-a-cursor", null)));
     }
 
     @Test
@@ -450,16 +613,16 @@ public class SlotServiceTest {
         Event event = new Event();
         event.setId(1L);
 
-        when(slotRepository.findByEventId(event.getId())).thenReturn(List.of());
+        when(slotRepository.findPageByEventId(eq(event.getId()), any(LocalDateTime.class), any(LocalDateTime.class),
+                any(LocalDateTime.class), eq(0L), any(Limit.class))).thenReturn(List.of());
 
         // Act
-        List<Slot> slots = slotService.getSlots(event.getId());
+        CursorPage<Slot> slots = slotService.getSlots(event.getId(), new SlotPageRequest());
 
         // Assert
         assertNotNull(slots);
-        assertEquals(0, slots.size());
-
-        verify(slotRepository).findByEventId(event.getId());
+        assertEquals(0, slots.getContent().size());
+        assertFalse(slots.isHasNext());
     }
 
     @Test
@@ -472,19 +635,19 @@ public class SlotServiceTest {
         Slot slot = new Slot();
         slot.setId(1L);
 
-        when(slotRepository.findByBookedByEmail(user.getEmail())).thenReturn(List.of(slot));
+        when(slotRepository.findBookedPageByEmail(eq(user.getEmail()), any(LocalDateTime.class),
+                any(LocalDateTime.class), any(LocalDateTime.class), eq(0L), eq(Limit.of(Integer.MAX_VALUE))))
+                .thenReturn(List.of(slot));
 
         // Act
-        List<Slot> slots = slotService.getBookedSlots(user);
+        CursorPage<Slot> slots = slotService.getBookedSlots(user.getEmail(), new SlotPageRequest());
 
         // Assert
         assertNotNull(slots);
-        assertEquals(1, slots.size());
-        assertEquals(slot.getId(), slots.get(0).getId());
-        assertEquals(slot.getEvent(), slots.get(0).getEvent());
-        assertEquals(slot.getStartTime(), slots.get(0).getStartTime());
-
-        verify(slotRepository).findByBookedByEmail(user.getEmail());
+        assertEquals(1, slots.getContent().size());
+        assertEquals(slot.getId(), slots.getContent().get(0).getId());
+        assertEquals(slot.getEvent(), slots.getContent().get(0).getEvent());
+        assertEquals(slot.getStartTime(), slots.getContent().get(0).getStartTime());
     }
 
     @Test
@@ -514,6 +677,201 @@ public class SlotServiceTest {
         assertTrue(cancelledSlot.isAvailable());
         verify(slotRepository).findByEventIdAndStartTime(request.getEventId(), request.getStartTime());
         verify(slotRepository).save(any(Slot.class));
+        verify(eventRepository).decrementBookedCount(slot.getEvent().getId());
+    }
+
+    @Test
+    void shouldPromoteNextWaitlistedAttendeeWhenBookingIsCancelled() {
+        // Arrange
+        Slot slot = createTestSlot();
+        slot.setVersion(1L);
+        slot.setBookedByEmail("test@example.com");
+        slot.setBookedByName("Test User");
+        slot.getEvent().setHost(new User());
+        Long eventId = slot.getEvent().getId();
+
+        CancelBookingRequest request = CancelBookingRequest.builder()
+                .eventId(eventId)
+                .attendeeEmail(slot.getBookedByEmail())
+                .startTime(slot.getStartTime())
+                .build();
+
+        WaitlistTicket ticket = new WaitlistTicket(9L, eventId, null, "Waiting User", "waiting@example.com");
+
+        Slot claimed = createTestSlot();
+        claimed.setEvent(slot.getEvent());
+        claimed.setVersion(3L);
+        claimed.setBookedByName("Waiting User");
+        claimed.setBookedByEmail("waiting@example.com");
+
+        when(slotRepository.findByEventIdAndStartTime(eventId, request.getStartTime()))
+                .thenReturn(Optional.of(slot), Optional.of(claimed));
+        when(slotRepository.save(any(Slot.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(eventRepository.findAvailabilityVersionById(eventId)).thenReturn(3L, 4L);
+        promoteOnClaim(slot, ticket);
+        when(eventRepository.incrementBookedCount(eventId)).thenReturn(1);
+        when(slotRepository.claimSlot(eq(eventId), eq(slot.getStartTime()), eq("Waiting User"),
+                eq("waiting@example.com"), any(LocalDateTime.class))).thenReturn(1);
+
+        // Act
+        Slot cancelledSlot = slotService.cancelBooking(request);
+
+        // Assert
+        assertTrue(cancelledSlot.isAvailable());
+
+        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        assertInstanceOf(SlotCancelledEvent.class, eventCaptor.getAllValues().get(0));
+
+        BookingEmailDTO promotion = ((SlotBookedEvent) eventCaptor.getAllValues().get(1)).getBookingEmailDTO();
+        assertTrue(promotion.isPromotedFromWaitlist());
+        assertEquals("waiting@example.com", promotion.getAttendeeEmail());
+        assertEquals(4L, promotion.getAvailabilityVersion());
+        verify(entityManager).detach(slot);
+    }
+
+    @Test
+    void shouldCommitCancellationWhenWaitlistPromotionFails() {
+        // Arrange
+        Slot slot = createTestSlot();
+        slot.setVersion(1L);
+        slot.setBookedByEmail("test@example.com");
+        slot.setBookedByName("Test User");
+        slot.getEvent().setHost(new User());
+        Long eventId = slot.getEvent().getId();
+
+        CancelBookingRequest request = CancelBookingRequest.builder()
+                .eventId(eventId)
+                .attendeeEmail(slot.getBookedByEmail())
+                .startTime(slot.getStartTime())
+                .build();
+
+        WaitlistTicket ticket = new WaitlistTicket(9L, eventId, null, "Waiting User", "waiting@example.com");
+
+        when(slotRepository.findByEventIdAndStartTime(eventId, request.getStartTime())).thenReturn(Optional.of(slot));
+        when(slotRepository.save(any(Slot.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(eventRepository.findAvailabilityVersionById(eventId)).thenReturn(3L, 4L);
+        AtomicBoolean promoted = new AtomicBoolean(true);
+        when(waitlistService.claimNext(eq(slot), any())).thenAnswer(invocation -> {
+            promoted.set(invocation.<Predicate<WaitlistTicket>>getArgument(1).test(ticket));
+            return Optional.empty();
+        });
+        when(eventRepository.incrementBookedCount(eventId)).thenReturn(1);
+        when(slotRepository.claimSlot(eq(eventId), eq(slot.getStartTime()), eq("Waiting User"),
+                eq("waiting@example.com"), any(LocalDateTime.class))).thenReturn(0);
+
+        // Act
+        Slot cancelledSlot = slotService.cancelBooking(request);
+
+        // Assert: the capacity taken for the promotion is given back, only the cancellation is published
+        assertTrue(cancelledSlot.isAvailable());
+        assertFalse(promoted.get());
+        verify(eventRepository, times(2)).decrementBookedCount(eventId);
+        verify(eventPublisher, times(1)).publishEvent(any(SlotCancelledEvent.class));
+    }
+
+    @Test
+    void shouldTakeSeatOfGroupSlotWithoutWritingAttendeeToTheSlot() {
+        // Arrange
+        Slot slot = createTestSlot();
+        slot.setCapacity(3);
+        slot.getEvent().setHost(new User());
+        Long eventId = slot.getEvent().getId();
+
+        SlotRequest request = SlotRequest.builder()
+                .eventId(eventId)
+                .startTime(slot.getStartTime())
+                .attendeeName("Test User")
+                .attendeeEmail("test@example.com")
+                .build();
+
+        when(slotRepository.findByEventIdAndStartTime(eventId, request.getStartTime())).thenReturn(Optional.of(slot));
+        when(slotRepository.takeSeat(slot.getId())).thenReturn(1);
+        when(eventRepository.incrementBookedCount(eventId)).thenReturn(1);
+        when(eventRepository.findAvailabilityVersionById(eventId)).thenReturn(1L);
+        doAnswer(invocation -> {
+            slot.setSeatsTaken(1);
+            return null;
+        }).when(entityManager).refresh(slot);
+
+        // Act
+        Slot booked = slotService.bookSlot(request);
+
+        // Assert
+        assertNull(booked.getBookedByEmail());
+        assertEquals(2, booked.getSeatsLeft());
+        assertTrue(booked.isAvailable());
+        verify(slotAttendeeRepository).saveAndFlush(any(SlotAttendee.class));
+
+        ArgumentCaptor<SlotBookedEvent> eventCaptor = ArgumentCaptor.forClass(SlotBookedEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals("test@example.com", eventCaptor.getValue().getBookingEmailDTO().getAttendeeEmail());
+        assertEquals(2, eventCaptor.getValue().getBookingEmailDTO().getSeatsLeft());
+    }
+
+    @Test
+    void shouldRejectSeatWhenGroupSlotIsFull() {
+        // Arrange
+        Slot slot = createTestSlot();
+        slot.setCapacity(3);
+        slot.setSeatsTaken(3);
+        Long eventId = slot.getEvent().getId();
+
+        SlotRequest request = SlotRequest.builder()
+                .eventId(eventId)
+                .startTime(slot.getStartTime())
+                .attendeeName("Test User")
+                .attendeeEmail("test@example.com")
+                .build();
+
+        when(slotRepository.findByEventIdAndStartTime(eventId, request.getStartTime())).thenReturn(Optional.of(slot));
+        when(slotRepository.takeSeat(slot.getId())).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(SlotAlreadyBookedException.class, () -> slotService.bookSlot(request));
+        verify(eventRepository, never()).incrementBookedCount(anyLong());
+        verify(slotAttendeeRepository, never()).saveAndFlush(any(SlotAttendee.class));
+    }
+
+    @Test
+    void shouldReleaseSeatWhenGroupBookingIsCancelled() {
+        // Arrange
+        Slot slot = createTestSlot();
+        slot.setCapacity(3);
+        slot.setSeatsTaken(2);
+        slot.getEvent().setHost(new User());
+        Long eventId = slot.getEvent().getId();
+
+        CancelBookingRequest request = CancelBookingRequest.builder()
+                .eventId(eventId)
+                .attendeeEmail("test@example.com")
+                .startTime(slot.getStartTime())
+                .build();
+
+        SlotAttendee attendee = SlotAttendee.of(slot, "Test User", "test@example.com", LocalDateTime.now());
+
+        when(slotRepository.findByEventIdAndStartTime(eventId, request.getStartTime())).thenReturn(Optional.of(slot));
+        when(slotAttendeeRepository.findBySlotIdAndAttendeeEmail(slot.getId(), "test@example.com"))
+                .thenReturn(Optional.of(attendee));
+        when(eventRepository.findAvailabilityVersionById(eventId)).thenReturn(2L);
+        doAnswer(invocation -> {
+            slot.setSeatsTaken(1);
+            return null;
+        }).when(entityManager).refresh(slot);
+
+        // Act
+        Slot cancelled = slotService.cancelBooking(request);
+
+        // Assert
+        assertEquals(2, cancelled.getSeatsLeft());
+        verify(slotAttendeeRepository).delete(attendee);
+        verify(slotRepository).releaseSeat(slot.getId());
+        verify(eventRepository).decrementBookedCount(eventId);
+        verify(slotRepository, never()).save(any(Slot.class));
+
+        ArgumentCaptor<SlotCancelledEvent> eventCaptor = ArgumentCaptor.forClass(SlotCancelledEvent.class);
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertEquals("Test User", eventCaptor.getValue().getSlotCancelledEmailDTO().getBookedByName());
     }
 
     @Test
@@ -618,97 +976,653 @@ public class SlotServiceTest {
     }
 
     @Test
-    void shouldGetAvailableSlotsByShareableIdSuccessfully() {
+    void shouldGetSlotByIdSuccessfully() {
         // Arrange
-        AvailabilityRules rules = new AvailabilityRules();
-        rules.setIsPublic(true);
+        Slot testSlot = createTestSlot();
+        when(slotRepository.findById(anyLong())).thenReturn(Optional.of(testSlot));
 
-        Event event = new Event();
-        event.setId(1L);
-        event.setShareableId("event1");
-        event.setRules(rules);
+        // Act
+        Slot slot = slotService.getSlotById(1L);
 
-        LocalDateTime startTime = ZonedDateTime.now(EVENT_ZONE).plusHours(1).toLocalDateTime();
-        Slot slot = new Slot();
-        slot.setId(1L);
-        slot.setEvent(event);
-        slot.setStartTime(startTime);
-        slot.setBookedByEmail(null);
-        slot.setBookedByName(null);
+        // Assert
+        assertNotNull(slot);
+        assertEquals(testSlot.getId(), slot.getId());
+        assertEquals(testSlot.getEvent(), slot.getEvent());
+        assertEquals(testSlot.getStartTime(), slot.getStartTime());
+        assertEquals(testSlot.getEndTime(), slot.getEndTime());
+    }
 
-        when(eventRepository.findByShareableId(event.getShareableId())).thenReturn(Optional.of(event));
-        when(slotRepository.findByEventAndBookedByEmailIsNullAndBookedByNameIsNull(event))
-                .thenReturn(List.of(slot));
+    @Test
+    void shouldThrowSlotNotFoundExceptionWhenSlotNotFoundById() {
+        // Arrange
+        when(slotRepository.findById(anyLong())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        assertThrows(SlotNotFoundException.class, () -> slotService.getSlotById(anyLong()));
+
+        verify(slotRepository).findById(anyLong());
+    }
+
+    @Test
+    void shouldNotPersistSlotsWhenSlotsAreVirtual() {
+        // Arrange
+        slotProperties.setMaterialization(SlotProperties.Materialization.VIRTUAL);
+        Event event = createVirtualEvent();
 
         // Act
-        List<Slot> slots = slotService.getAvailableSlotsByShareableId(event.getShareableId());
+        slotService.generateSlots(event);
 
         // Assert
-        assertNotNull(slots);
-        assertEquals(1, slots.size());
-        assertEquals(slot.getId(), slots.get(0).getId());
-        assertEquals(slot.getEvent(), slots.get(0).getEvent());
-        assertEquals(slot.getStartTime(), slots.get(0).getStartTime());
+        verify(slotRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void shouldOverlayBookedSlotsOnComputedGridWhenSlotsAreVirtual() {
+        // Arrange
+        slotProperties.setMaterialization(SlotProperties.Materialization.VIRTUAL);
+        Event event = createVirtualEvent();
+
+        Slot booked = SlotGrid.virtualSlot(event, 1);
+        booked.setId(7L);
+        booked.setBookedByEmail("attendee@example.com");
+        booked.setBookedByName("Jane Smith");
+
+        when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(slotRepository.findPageByEventId(event.getId(), event.getEventStart(), event.getEventEnd(),
+                event.getEventStart(), 0L, Limit.of(4))).thenReturn(List.of(booked));
 
-        verify(eventRepository).findByShareableId(event.getShareableId());
-        verify(slotRepository).findByEventAndBookedByEmailIsNullAndBookedByNameIsNull(event);
+        // Act
+        List<Slot> slots = slotService.getSlots(event.getId(), new SlotPageRequest()).getContent();
+
+        // Assert
+        assertEquals(4, slots.size());
+        assertTrue(slots.get(0).isAvailable());
+        assertEquals(booked, slots.get(1));
+        assertEquals(event.getEventStart().plusMinutes(90), slots.get(3).getStartTime());
+        assertEquals(event.getEventEnd(), slots.get(3).getEndTime());
     }
 
     @Test
-    void shouldThrowUnauthorizedAccessExceptionWhenEventIsPrivate() {
+    void shouldReturnEventOnceWithSlotSummaries() {
         // Arrange
-        AvailabilityRules rules = new AvailabilityRules();
-        rules.setIsPublic(false);
+        Event event = createVirtualEvent();
+        LocalDateTime start = event.getEventStart();
+        List<SlotSummary> summaries = List.of(
+                new SlotSummary(start, start.plusMinutes(30), true),
+                new SlotSummary(start.plusMinutes(30), start.plusMinutes(60), false));
 
-        Event event = new Event();
-        event.setId(1L);
-        event.setShareableId("event1");
-        event.setRules(rules);
+        when(eventRepository.findWithHostById(event.getId())).thenReturn(Optional.of(event));
+        when(slotRepository.findSummariesByEventId(event.getId())).thenReturn(summaries);
+
+        // Act
+        EventSlotsResponse response = slotService.getSlotSummaries(event.getId());
+
+        // Assert
+        assertEquals(event.getShareableId(), response.getEvent().getShareableId());
+        assertEquals(summaries, response.getSlots());
+        verify(slotRepository, never()).findPageByEventId(anyLong(), any(), any(), any(), anyLong(), any());
+    }
+
+    @Test
+    void shouldComputeSlotSummariesFromGridWhenSlotsAreVirtual() {
+        // Arrange
+        slotProperties.setMaterialization(SlotProperties.Materialization.VIRTUAL);
+        Event event = createVirtualEvent();
+
+        when(eventRepository.findWithHostById(event.getId())).thenReturn(Optional.of(event));
+        when(slotRepository.findBookedStartTimesByEvent(event))
+                .thenReturn(List.of(event.getEventStart().plusMinutes(30)));
+
+        // Act
+        EventSlotsResponse response = slotService.getSlotSummaries(event.getId());
 
-        when(eventRepository.findByShareableId(event.getShareableId())).thenReturn(Optional.of(event));
+        // Assert
+        assertEquals(4, response.getSlots().size());
+        assertFalse(response.getSlots().get(0).getBooked());
+        assertTrue(response.getSlots().get(1).getBooked());
+        assertEquals(event.getEventEnd(), response.getSlots().get(3).getEndTime());
+        verify(slotRepository, never()).findSummariesByEventId(anyLong());
+    }
+
+    @Test
+    void shouldThrowEventNotFoundExceptionWhenListingSlotSummariesOfMissingEvent() {
+        // Arrange
+        when(eventRepository.findWithHostById(1L)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThrows(UnauthorizedAccessException.class,
-                () -> slotService.getAvailableSlotsByShareableId(event.getShareableId()));
+        assertThrows(EventNotFoundException.class, () -> slotService.getSlotSummaries(1L));
     }
 
     @Test
-    void shouldThrowEventNotFoundException() {
+    void shouldListEveryComputedSlotInRangeWithoutCursorOrLimit() {
         // Arrange
-        when(eventRepository.findByShareableId(anyString())).thenReturn(Optional.empty());
+        slotProperties.setMaterialization(SlotProperties.Materialization.VIRTUAL);
+        slotProperties.setMaxPageSize(2);
+        Event event = createVirtualEvent();
+        LocalDateTime second = event.getEventStart().plusMinutes(30);
+
+        when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(slotRepository.findPageByEventId(event.getId(), second, event.getEventEnd(), second, 0L, Limit.of(3)))
+                .thenReturn(List.of());
+
+        // Act
+        CursorPage<Slot> slots = slotService.getSlots(event.getId(), new SlotPageRequest(second, null, null, null));
+
+        // Assert
+        assertEquals(3, slots.getContent().size());
+        assertEquals(second, slots.getContent().get(0).getStartTime());
+        assertFalse(slots.isHasNext());
+    }
+
+    @Test
+    void shouldPageOverComputedGridWhenSlotsAreVirtual() {
+        // Arrange
+        slotProperties.setMaterialization(SlotProperties.Materialization.VIRTUAL);
+        Event event = createVirtualEvent();
+        LocalDateTime second = event.getEventStart().plusMinutes(30);
+        String cursor = new SlotCursor(second, null).encode();
+
+        when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(slotRepository.findPageByEventId(eq(event.getId()), any(LocalDateTime.class), any(LocalDateTime.class),
+                any(LocalDateTime.class), eq(0L), any(Limit.class))).thenReturn(List.of());
+
+        // Act
+        CursorPage<Slot> firstPage = slotService.getSlots(event.getId(), new SlotPageRequest(null, null, null, 2));
+        CursorPage<Slot> lastPage = slotService.getSlots(event.getId(), new SlotPageRequest(null, null, cursor, 2));
+
+        // Assert
+        assertEquals(2, firstPage.getContent().size());
+        assertEquals(cursor, firstPage.getNextCursor());
+        assertEquals(2, lastPage.getContent().size());
+        assertEquals(event.getEventStart().plusMinutes(60), lastPage.getContent().get(0).getStartTime());
+        assertFalse(lastPage.isHasNext());
+    }
+
+    @Test
+    void shouldInsertSlotRowWhenBookingVirtualSlot() {
+        // Arrange
+        slotProperties.setMaterialization(SlotProperties.Materialization.VIRTUAL);
+        Event event = createVirtualEvent();
+        LocalDateTime startTime = event.getEventStart().plusMinutes(30);
+
+        SlotRequest request = SlotRequest.builder()
+                .eventId(event.getId())
+                .startTime(startTime)
+                .attendeeEmail("attendee@example.com")
+                .attendeeName("Jane Smith")
+                .build();
+
+        when(slotRepository.findByEventIdAndStartTime(event.getId(), startTime)).thenReturn(Optional.empty());
+        when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(eventRepository.incrementBookedCount(event.getId())).thenReturn(1);
+        when(slotRepository.saveAndFlush(any(Slot.class))).thenAnswer(invocation -> {
+            Slot slot = invocation.getArgument(0);
+            slot.setId(11L);
+            return slot;
+        });
+
+        // Act
+        Slot bookedSlot = slotService.bookSlot(request);
+
+        // Assert
+        assertEquals(11L, bookedSlot.getId());
+        assertEquals(startTime, bookedSlot.getStartTime());
+        assertEquals(startTime.plusMinutes(30), bookedSlot.getEndTime());
+        assertEquals(request.getAttendeeEmail(), bookedSlot.getBookedByEmail());
+        verify(slotRepository, never()).save(any(Slot.class));
+        verify(eventPublisher).publishEvent(any(SlotBookedEvent.class));
+    }
+
+    @Test
+    void shouldThrowSlotNotFoundExceptionWhenVirtualStartTimeIsOffGrid() {
+        // Arrange
+        slotProperties.setMaterialization(SlotProperties.Materialization.VIRTUAL);
+        Event event = createVirtualEvent();
+        LocalDateTime startTime = event.getEventStart().plusMinutes(45);
+
+        SlotRequest request = SlotRequest.builder()
+                .eventId(event.getId())
+                .startTime(startTime)
+                .build();
+
+        when(slotRepository.findByEventIdAndStartTime(event.getId(), startTime)).thenReturn(Optional.empty());
+        when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
 
         // Act & Assert
-        assertThrows(EventNotFoundException.class, () -> slotService.getAvailableSlotsByShareableId(anyString()));
+        assertThrows(SlotNotFoundException.class, () -> slotService.bookSlot(request));
+        verify(slotRepository, never()).saveAndFlush(any(Slot.class));
+    }
 
-        verify(slotRepository, never()).countByEventAndBookedByEmailIsNotNullAndBookedByNameIsNotNull(any(Event.class));
+    @Test
+    void shouldThrowSlotAlreadyBookedExceptionWhenVirtualSlotIsInsertedConcurrently() {
+        // Arrange
+        slotProperties.setMaterialization(SlotProperties.Materialization.VIRTUAL);
+        Event event = createVirtualEvent();
+        LocalDateTime startTime = event.getEventStart();
+
+        SlotRequest request = SlotRequest.builder()
+                .eventId(event.getId())
+                .startTime(startTime)
+                .attendeeEmail("attendee@example.com")
+                .attendeeName("Jane Smith")
+                .build();
+
+        when(slotRepository.findByEventIdAndStartTime(event.getId(), startTime)).thenReturn(Optional.empty());
+        when(eventRepository.findById(event.getId())).thenReturn(Optional.of(event));
+        when(eventRepository.incrementBookedCount(event.getId())).thenReturn(1);
+        when(slotRepository.saveAndFlush(any(Slot.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_slots_event_start_time"));
+
+        // Act & Assert
+        assertThrows(SlotAlreadyBookedException.class, () -> slotService.bookSlot(request));
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
-    void shouldGetSlotByIdSuccessfully() {
+    void shouldDeleteSlotRowWhenCancellingVirtualSlot() {
         // Arrange
-        Slot testSlot = createTestSlot();
-        when(slotRepository.findById(anyLong())).thenReturn(Optional.of(testSlot));
+        slotProperties.setMaterialization(SlotProperties.Materialization.VIRTUAL);
+        Slot slot = createTestSlot();
+        slot.setBookedByEmail("test@example.com");
+        slot.setBookedByName("Test User");
+
+        CancelBookingRequest request = CancelBookingRequest.builder()
+                .eventId(slot.getEvent().getId())
+                .attendeeEmail(slot.getBookedByEmail())
+                .startTime(slot.getStartTime())
+                .build();
+
+        when(slotRepository.findByEventIdAndStartTime(request.getEventId(), request.getStartTime()))
+                .thenReturn(Optional.of(slot));
 
         // Act
-        Slot slot = slotService.getSlotById(1L);
+        Slot cancelledSlot = slotService.cancelBooking(request);
 
         // Assert
-        assertNotNull(slot);
-        assertEquals(testSlot.getId(), slot.getId());
-        assertEquals(testSlot.getEvent(), slot.getEvent());
-        assertEquals(testSlot.getStartTime(), slot.getStartTime());
-        assertEquals(testSlot.getEndTime(), slot.getEndTime());
+        assertTrue(cancelledSlot.isAvailable());
+        verify(slotRepository).delete(slot);
+        verify(slotRepository, never()).save(any(Slot.class));
     }
 
     @Test
-    void shouldThrowSlotNotFoundExceptionWhenSlotNotFoundById() {
+    void shouldClaimSlotWithSingleConditionalUpdate() {
         // Arrange
-        when(slotRepository.findById(anyLong())).thenReturn(Optional.empty());
+        slotProperties.setBookingMode(SlotProperties.BookingMode.CONDITIONAL_UPDATE);
+        Slot slot = createTestSlot();
+        slot.setVersion(3L);
+        Event event = slot.getEvent();
+        event.getRules().setMaxCapacity(5);
+
+        SlotRequest request = conditionalRequest(slot);
+
+        when(slotRepository.findByEventIdAndStartTime(event.getId(), slot.getStartTime()))
+                .thenReturn(Optional.of(slot));
+        when(slotRepository.claimSlotById(eq(slot.getId()), eq(3L), eq("Jane Smith"), eq("attendee@example.com"),
+                any(LocalDateTime.class))).thenReturn(1);
+        when(eventRepository.incrementBookedCount(event.getId())).thenReturn(1);
+
+        // Act
+        Slot bookedSlot = slotService.bookSlot(request);
+
+        // Assert: built from the row that was read, not read again
+        assertEquals("attendee@example.com", bookedSlot.getBookedByEmail());
+        assertEquals(4L, bookedSlot.getVersion());
+        verify(slotRepository).findByEventIdAndStartTime(event.getId(), slot.getStartTime());
+        verify(entityManager).detach(slot);
+        verify(entityManager, never()).refresh(any());
+        verify(eventRepository).incrementBookedCount(event.getId());
+        verify(slotRepository, never()).save(any(Slot.class));
+        verify(eventPublisher).publishEvent(any(SlotBookedEvent.class));
+    }
+
+    @Test
+    void shouldThrowSlotAlreadyBookedExceptionWhenConditionalUpdateLosesRace() {
+        // Arrange
+        slotProperties.setBookingMode(SlotProperties.BookingMode.CONDITIONAL_UPDATE);
+        Slot slot = createTestSlot();
+        slot.setVersion(3L);
+        Event event = slot.getEvent();
+
+        SlotRequest request = conditionalRequest(slot);
+
+        when(slotRepository.findByEventIdAndStartTime(event.getId(), slot.getStartTime()))
+                .thenReturn(Optional.of(slot));
+        when(slotRepository.claimSlotById(eq(slot.getId()), eq(3L), anyString(), anyString(),
+                any(LocalDateTime.class))).thenReturn(0);
+        doAnswer(invocation -> {
+            slot.setBookedByEmail("winner@example.com");
+            slot.setBookedByName("Winner");
+            slot.setVersion(4L);
+            return null;
+        }).when(entityManager).refresh(slot);
 
         // Act & Assert
-        assertThrows(SlotNotFoundException.class, () -> slotService.getSlotById(anyLong()));
+        assertThrows(SlotAlreadyBookedException.class, () -> slotService.bookSlot(request));
+        verify(eventRepository, never()).incrementBookedCount(anyLong());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
 
-        verify(slotRepository).findById(anyLong());
+    @Test
+    void shouldNotClaimAlreadyBookedSlot() {
+        // Arrange
+        slotProperties.setBookingMode(SlotProperties.BookingMode.CONDITIONAL_UPDATE);
+        Slot slot = createTestSlot();
+        slot.setBookedByEmail("winner@example.com");
+        slot.setBookedByName("Winner");
+        Event event = slot.getEvent();
+
+        when(slotRepository.findByEventIdAndStartTime(event.getId(), slot.getStartTime()))
+                .thenReturn(Optional.of(slot));
+
+        // Act & Assert
+        assertThrows(SlotAlreadyBookedException.class, () -> slotService.bookSlot(conditionalRequest(slot)));
+        verify(slotRepository, never()).claimSlotById(anyLong(), anyLong(), anyString(), anyString(), any());
+    }
+
+    @Test
+    void shouldThrowMaxCapacityExceededExceptionWhenClaimFindsEventFull() {
+        // Arrange
+        slotProperties.setBookingMode(SlotProperties.BookingMode.CONDITIONAL_UPDATE);
+        Slot slot = createTestSlot();
+        slot.setVersion(3L);
+        Event event = slot.getEvent();
+        event.getRules().setMaxCapacity(1);
+
+        when(slotRepository.findByEventIdAndStartTime(event.getId(), slot.getStartTime()))
+                .thenReturn(Optional.of(slot));
+        when(slotRepository.claimSlotById(eq(slot.getId()), eq(3L), anyString(), anyString(),
+                any(LocalDateTime.class))).thenReturn(0);
+
+        // Act & Assert: the slot is still free at the version that was read, so the capacity guard turned it away
+        assertThrows(MaxCapacityExceededException.class, () -> slotService.bookSlot(conditionalRequest(slot)));
+        verify(entityManager).refresh(slot);
+        verify(eventRepository, never()).incrementBookedCount(anyLong());
+    }
+
+    @Test
+    void shouldThrowMaxCapacityExceededExceptionWhenCounterTurnsAwayRacingClaim() {
+        // Arrange
+        slotProperties.setBookingMode(SlotProperties.BookingMode.CONDITIONAL_UPDATE);
+        Slot slot = createTestSlot();
+        slot.setVersion(3L);
+        Event event = slot.getEvent();
+        event.getRules().setMaxCapacity(1);
+
+        when(slotRepository.findByEventIdAndStartTime(event.getId(), slot.getStartTime()))
+                .thenReturn(Optional.of(slot));
+        when(slotRepository.claimSlotById(eq(slot.getId()), eq(3L), anyString(), anyString(),
+                any(LocalDateTime.class))).thenReturn(1);
+        when(eventRepository.incrementBookedCount(event.getId())).thenReturn(0);
+
+        // Act & Assert
+        assertThrows(MaxCapacityExceededException.class, () -> slotService.bookSlot(conditionalRequest(slot)));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldThrowMaxSlotsPerUserExceededExceptionWhenAttendeeAlreadyHoldsLimit() {
+        // Arrange
+        Slot slot = createTestSlot();
+        Event event = slot.getEvent();
+
+        SlotRequest request = SlotRequest.builder()
+                .eventId(event.getId())
+                .startTime(slot.getStartTime())
+                .attendeeEmail("attendee@example.com")
+                .attendeeName("Jane Smith")
+                .build();
+
+        when(slotRepository.findByEventIdAndStartTime(event.getId(), slot.getStartTime()))
+                .thenReturn(Optional.of(slot));
+        when(eventRepository.incrementBookedCount(event.getId())).thenReturn(1);
+        when(slotRepository.countByEventIdAndBookedByEmail(event.getId(), "attendee@example.com")).thenReturn(2L);
+
+        // Act & Assert
+        assertThrows(MaxSlotsPerUserExceededException.class, () -> slotService.bookSlot(request));
+        verify(slotRepository, never()).save(any(Slot.class));
+    }
+
+    @Test
+    void shouldBookSeveralSlotsWithOneClaimAndOneNotification() {
+        // Arrange
+        Event event = createVirtualEvent();
+        event.getRules().setMaxSlotsPerUser(3);
+        LocalDateTime first = event.getEventStart();
+        LocalDateTime second = event.getEventStart().plusMinutes(60);
+
+        BatchSlotRequest request = BatchSlotRequest.builder()
+                .eventId(event.getId())
+                .startTimes(List.of(second, first, second))
+                .attendeeEmail("attendee@example.com")
+                .attendeeName("Jane Smith")
+                .build();
+
+        Slot firstSlot = SlotGrid.virtualSlot(event, 0);
+        Slot secondSlot = SlotGrid.virtualSlot(event, 2);
+
+        when(eventRepository.findWithHostById(event.getId())).thenReturn(Optional.of(event));
+        when(eventRepository.incrementBookedCountBy(event.getId(), 2)).thenReturn(1);
+        when(eventRepository.findAvailabilityVersionById(event.getId())).thenReturn(7L);
+        when(slotRepository.countByEventIdAndBookedByEmail(event.getId(), "attendee@example.com")).thenReturn(1L);
+        when(slotRepository.claimSlots(eq(event.getId()), eq(Set.of(first, second)), eq("Jane Smith"),
+                eq("attendee@example.com"), any(LocalDateTime.class))).thenReturn(2);
+        when(slotRepository.findByEventIdAndStartTimeInOrderByStartTime(eq(event.getId()), any()))
+                .thenReturn(List.of(firstSlot, secondSlot));
+
+        // Act
+        List<Slot> bookedSlots = slotService.bookSlots(request);
+
+        // Assert
+        assertEquals(2, bookedSlots.size());
+
+        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPublisher, times(1)).publishEvent(eventCaptor.capture());
+
+        SlotsBookedEvent published = (SlotsBookedEvent) eventCaptor.getValue();
+        assertEquals(List.of(first, second), published.getBatchBookingEmailDTO().getSlots().stream()
+                .map(SlotSummary::getStartTime).toList());
+        assertEquals(7L, published.getBatchBookingEmailDTO().getAvailabilityVersion());
+        assertEquals("attendee@example.com", published.getBatchBookingEmailDTO().getAttendeeEmail());
+    }
+
+    @Test
+    void shouldThrowSlotAlreadyBookedExceptionWhenBatchClaimMissesAnySlot() {
+        // Arrange
+        Event event = createVirtualEvent();
+        event.getRules().setMaxSlotsPerUser(null);
+
+        BatchSlotRequest request = BatchSlotRequest.builder()
+                .eventId(event.getId())
+                .startTimes(List.of(event.getEventStart(), event.getEventStart().plusMinutes(30)))
+                .attendeeEmail("attendee@example.com")
+                .attendeeName("Jane Smith")
+                .build();
+
+        when(eventRepository.findWithHostById(event.getId())).thenReturn(Optional.of(event));
+        when(eventRepository.incrementBookedCountBy(event.getId(), 2)).thenReturn(1);
+        when(slotRepository.claimSlots(eq(event.getId()), any(), anyString(), anyString(),
+                any(LocalDateTime.class))).thenReturn(1);
+
+        // Act & Assert
+        assertThrows(SlotAlreadyBookedException.class, () -> slotService.bookSlots(request));
+        verify(slotRepository, never()).countByEventIdAndBookedByEmail(anyLong(), anyString());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void shouldThrowMaxSlotsPerUserExceededExceptionWhenBatchExceedsLimit() {
+        // Arrange
+        Event event = createVirtualEvent();
+        event.getRules().setMaxSlotsPerUser(2);
+
+        BatchSlotRequest request = BatchSlotRequest.builder()
+                .eventId(event.getId())
+                .startTimes(List.of(event.getEventStart(), event.getEventStart().plusMinutes(30)))
+                .attendeeEmail("attendee@example.com")
+                .attendeeName("Jane Smith")
+                .build();
+
+        when(eventRepository.findWithHostById(event.getId())).thenReturn(Optional.of(event));
+        when(eventRepository.incrementBookedCountBy(event.getId(), 2)).thenReturn(1);
+        when(slotRepository.countByEventIdAndBookedByEmail(event.getId(), "attendee@example.com")).thenReturn(1L);
+
+        // Act & Assert
+        assertThrows(MaxSlotsPerUserExceededException.class, () -> slotService.bookSlots(request));
+        verify(slotRepository, never()).claimSlots(anyLong(), any(), anyString(), anyString(),
+                any(LocalDateTime.class));
+    }
+
+    @Test
+    void shouldThrowSlotNotFoundExceptionWhenBatchStartTimeIsOffGrid() {
+        // Arrange
+        Event event = createVirtualEvent();
+
+        BatchSlotRequest request = BatchSlotRequest.builder()
+                .eventId(event.getId())
+                .startTimes(List.of(event.getEventStart(), event.getEventStart().plusMinutes(10)))
+                .attendeeEmail("attendee@example.com")
+                .attendeeName("Jane Smith")
+                .build();
+
+        when(eventRepository.findWithHostById(event.getId())).thenReturn(Optional.of(event));
+
+        // Act & Assert
+        assertThrows(SlotNotFoundException.class, () -> slotService.bookSlots(request));
+        verify(eventRepository, never()).incrementBookedCountBy(anyLong(), eq(2));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Test
+    void shouldInsertBatchRowsInOneFlushWhenSlotsAreVirtual() {
+        // Arrange
+        slotProperties.setMaterialization(SlotProperties.Materialization.VIRTUAL);
+        Event event = createVirtualEvent();
+        event.getRules().setMaxSlotsPerUser(null);
+
+        BatchSlotRequest request = BatchSlotRequest.builder()
+                .eventId(event.getId())
+                .startTimes(List.of(event.getEventStart(), event.getEventStart().plusMinutes(90)))
+                .attendeeEmail("attendee@example.com")
+                .attendeeName("Jane Smith")
+                .build();
+
+        when(eventRepository.findWithHostById(event.getId())).thenReturn(Optional.of(event));
+        when(eventRepository.incrementBookedCountBy(event.getId(), 2)).thenReturn(1);
+        when(slotRepository.saveAllAndFlush(any(List.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Act
+        List<Slot> bookedSlots = slotService.bookSlots(request);
+
+        // Assert
+        assertEquals(2, bookedSlots.size());
+        assertEquals(event.getEventStart().plusMinutes(120), bookedSlots.get(1).getEndTime());
+        assertTrue(bookedSlots.stream().allMatch(slot -> "attendee@example.com".equals(slot.getBookedByEmail())));
+        verify(slotRepository, never()).claimSlots(anyLong(), any(), anyString(), anyString(),
+                any(LocalDateTime.class));
+    }
+
+    @Test
+    void shouldBookQueuedBatchWithOneCapacityUpdateAndGiveEachAttemptItsOwnOutcome() {
+        // Arrange
+        Event event = createVirtualEvent();
+        event.getRules().setMaxCapacity(2);
+        event.setAvailabilityVersion(4L);
+        LocalDateTime first = event.getEventStart();
+        LocalDateTime second = event.getEventStart().plusMinutes(30);
+        LocalDateTime third = event.getEventStart().plusMinutes(60);
+
+        List<QueuedBooking> bookings = List.of(
+                queuedBooking(event, first, "a@example.com"),
+                queuedBooking(event, first, "b@example.com"),
+                queuedBooking(event, second, "c@example.com"),
+                queuedBooking(event, third, "d@example.com"));
+
+        when(eventRepository.findWithHostByIdForUpdate(event.getId())).thenReturn(Optional.of(event));
+        when(slotRepository.findByEventIdAndStartTimeInOrderByStartTime(eq(event.getId()), any()))
+                .thenReturn(List.of(SlotGrid.virtualSlot(event, 0), SlotGrid.virtualSlot(event, 1),
+                        SlotGrid.virtualSlot(event, 2)));
+        when(eventRepository.incrementBookedCountPerBooking(event.getId(), 2)).thenReturn(1);
+
+        // Act
+        slotService.bookQueued(event.getId(), bookings);
+
+        // Assert
+        assertEquals("a@example.com", bookings.get(0).getSlot().getBookedByEmail());
+        assertInstanceOf(SlotAlreadyBookedException.class, bookings.get(1).getFailure());
+        assertEquals("c@example.com", bookings.get(2).getSlot().getBookedByEmail());
+        assertInstanceOf(MaxCapacityExceededException.class, bookings.get(3).getFailure());
+
+        ArgumentCaptor<SlotBookedEvent> eventCaptor = ArgumentCaptor.forClass(SlotBookedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(eventCaptor.capture());
+        assertEquals(List.of(5L, 6L), eventCaptor.getAllValues().stream()
+                .map(published -> published.getBookingEmailDTO().getAvailabilityVersion()).toList());
+        verify(eventRepository, never()).incrementBookedCount(anyLong());
+    }
+
+    @Test
+    void shouldCountQueuedBookingsAgainstMaxSlotsPerUser() {
+        // Arrange
+        Event event = createVirtualEvent();
+        event.getRules().setMaxSlotsPerUser(2);
+        LocalDateTime first = event.getEventStart();
+
+        List<QueuedBooking> bookings = List.of(
+                queuedBooking(event, first, "a@example.com"),
+                queuedBooking(event, first.plusMinutes(30), "a@example.com"));
+
+        when(eventRepository.findWithHostByIdForUpdate(event.getId())).thenReturn(Optional.of(event));
+        when(slotRepository.findByEventIdAndStartTimeInOrderByStartTime(eq(event.getId()), any()))
+                .thenReturn(List.of(SlotGrid.virtualSlot(event, 0), SlotGrid.virtualSlot(event, 1)));
+        when(slotRepository.countByEventIdAndBookedByEmail(event.getId(), "a@example.com")).thenReturn(1L);
+        when(eventRepository.incrementBookedCountPerBooking(event.getId(), 1)).thenReturn(1);
+
+        // Act
+        slotService.bookQueued(event.getId(), bookings);
+
+        // Assert
+        assertNotNull(bookings.get(0).getSlot());
+        assertInstanceOf(MaxSlotsPerUserExceededException.class, bookings.get(1).getFailure());
+        verify(slotRepository, times(1)).countByEventIdAndBookedByEmail(event.getId(), "a@example.com");
+    }
+
+    private QueuedBooking queuedBooking(Event event, LocalDateTime startTime, String attendeeEmail) {
+        return new QueuedBooking(SlotRequest.builder()
+                .eventId(event.getId())
+                .startTime(startTime)
+                .attendeeName("Attendee")
+                .attendeeEmail(attendeeEmail)
+                .build());
+    }
+
+    private Event createVirtualEvent() {
+        User host = new User();
+        host.setId(1L);
+        host.setEmail("host@example.com");
+
+        AvailabilityRules rules = new AvailabilityRules();
+        rules.setSlotDurationMinutes(30);
+        rules.setIsPublic(true);
+
+        LocalDateTime eventStart = ZonedDateTime.now(EVENT_ZONE).plusDays(1).toLocalDateTime().withNano(0);
+
+        Event event = new Event();
+        event.setId(1L);
+        event.setShareableId("event1");
+        event.setHost(host);
+        event.setRules(rules);
+        event.setTimeZone("Europe/Berlin");
+        event.setEventStart(eventStart);
+        event.setEventEnd(eventStart.plusMinutes(120));
+        return event;
+    }
+
+    private SlotRequest conditionalRequest(Slot slot) {
+        return SlotRequest.builder()
+                .eventId(slot.getEvent().getId())
+                .startTime(slot.getStartTime())
+                .attendeeEmail("attendee@example.com")
+                .attendeeName("Jane Smith")
+                .build();
     }
 
     private Slot createTestSlot() {
@@ -736,4 +1650,12 @@ public class SlotServiceTest {
 
         return slot;
     }
+
+    // Runs the promotion the service hands to the waitlist, like WaitlistService.claimNext does
+    private void promoteOnClaim(Slot freedSlot, WaitlistTicket ticket) {
+        when(waitlistService.claimNext(eq(freedSlot), any())).thenAnswer(invocation ->
+                invocation.<Predicate<WaitlistTicket>>getArgument(1).test(ticket)
+                        ? Optional.of(ticket)
+                        : Optional.empty());
+    }
 }
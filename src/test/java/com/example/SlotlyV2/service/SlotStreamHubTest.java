@@ -0,0 +1,103 @@
+package com.example.SlotlyV2.service;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.SlotlyV2.common.config.SlotProperties;
+import com.example.SlotlyV2.common.exception.auth.UnauthorizedAccessException;
+import com.example.SlotlyV2.feature.slot.SlotAvailabilityIndex;
+import com.example.SlotlyV2.feature.slot.SlotStreamHub;
+import com.example.SlotlyV2.feature.slot.dto.SlotAvailabilityChange;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class SlotStreamHubTest {
+
+    @Mock
+    private SlotAvailabilityIndex slotAvailabilityIndex;
+
+    private MeterRegistry meterRegistry;
+
+    private SlotStreamHub slotStreamHub;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        slotStreamHub = new SlotStreamHub(slotAvailabilityIndex, new SlotProperties(), Runnable::run, meterRegistry);
+    }
+
+    @Test
+    void shouldRegisterSubscribersPerShareableLink() {
+        // Arrange
+        when(slotAvailabilityIndex.getAvailabilityVersion("event1")).thenReturn(Optional.of(3L));
+        when(slotAvailabilityIndex.getAvailabilityVersion("event2")).thenReturn(Optional.of(0L));
+
+        // Act
+        assertNotNull(slotStreamHub.subscribe("event1"));
+        slotStreamHub.subscribe("event1");
+        slotStreamHub.subscribe("event2");
+
+        // Assert
+        assertEquals(2, slotStreamHub.getSubscriberCount("event1"));
+        assertEquals(1, slotStreamHub.getSubscriberCount("event2"));
+        assertEquals(3.0, meterRegistry.get("slot.stream.subscribers").gauge().value());
+    }
+
+    @Test
+    void shouldRejectSubscriptionToPrivateEvent() {
+        // Arrange
+        when(slotAvailabilityIndex.getPublicEvent("event1"))
+                .thenThrow(new UnauthorizedAccessException("Event is private"));
+
+        // Act & Assert
+        assertThrows(UnauthorizedAccessException.class, () -> slotStreamHub.subscribe("event1"));
+        assertEquals(0, slotStreamHub.getSubscriberCount("event1"));
+    }
+
+    @Test
+    void shouldQueueChangesForSubscribersOfTheEvent() {
+        // Arrange
+        when(slotAvailabilityIndex.getAvailabilityVersion("event1")).thenReturn(Optional.of(3L));
+        slotStreamHub.subscribe("event1");
+
+        // Act & Assert
+        assertDoesNotThrow(() -> {
+            slotStreamHub.publish("event1", new SlotAvailabilityChange(SlotAvailabilityChange.Type.TAKEN,
+                    List.of(LocalDateTime.now()), 4L));
+            slotStreamHub.publish("event2", new SlotAvailabilityChange(SlotAvailabilityChange.Type.FREED,
+                    List.of(LocalDateTime.now()), 1L));
+            slotStreamHub.sendHeartbeats();
+        });
+        assertEquals(1, slotStreamHub.getSubscriberCount("event1"));
+    }
+
+    @Test
+    void shouldCloseAllStreamsOfCancelledEvent() {
+        // Arrange
+        when(slotAvailabilityIndex.getAvailabilityVersion("event1")).thenReturn(Optional.of(3L));
+        slotStreamHub.subscribe("event1");
+        slotStreamHub.subscribe("event1");
+
+        // Act
+        slotStreamHub.close("event1");
+
+        // Assert
+        assertEquals(0, slotStreamHub.getSubscriberCount("event1"));
+        assertEquals(0.0, meterRegistry.get("slot.stream.subscribers").gauge().value());
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.SlotlyV2.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.SlotlyV2.feature.email.dto.BatchBookingEmailDTO;
+import com.example.SlotlyV2.feature.email.dto.BookingEmailDTO;
+import com.example.SlotlyV2.feature.email.event.SlotBookedEvent;
+import com.example.SlotlyV2.feature.email.event.SlotsBookedEvent;
+import com.example.SlotlyV2.feature.slot.SlotStreamHub;
+import com.example.SlotlyV2.feature.slot.dto.SlotAvailabilityChange;
+import com.example.SlotlyV2.feature.slot.dto.SlotSummary;
+import com.example.SlotlyV2.listener.SlotStreamListener;
+
+@ExtendWith(MockitoExtension.class)
+public class SlotStreamListenerTest {
+
+    @Mock
+    private SlotStreamHub slotStreamHub;
+
+    private SlotStreamListener slotStreamListener;
+
+    private LocalDateTime startTime;
+
+    @BeforeEach
+    void setUp() {
+        slotStreamListener = new SlotStreamListener(slotStreamHub);
+        startTime = LocalDateTime.now().plusDays(1).withNano(0);
+    }
+
+    @Test
+    void shouldKeepGroupSlotFreeWhileSeatsAreLeft() {
+        // Arrange: one seat of a 2-seat slot, then the second
+        ArgumentCaptor<SlotAvailabilityChange> changes = ArgumentCaptor.forClass(SlotAvailabilityChange.class);
+
+        // Act
+        slotStreamListener.handleSlotBooked(new SlotBookedEvent(booking(1, 4L)));
+        slotStreamListener.handleSlotBooked(new SlotBookedEvent(booking(0, 5L)));
+
+        // Assert
+        verify(slotStreamHub, times(2)).publish(eq("event1"), changes.capture());
+        assertEquals(SlotAvailabilityChange.Type.FREED, changes.getAllValues().get(0).getType());
+        assertEquals(4L, changes.getAllValues().get(0).getAvailabilityVersion());
+        assertEquals(SlotAvailabilityChange.Type.TAKEN, changes.getAllValues().get(1).getType());
+        assertEquals(List.of(startTime), changes.getAllValues().get(1).getStartTimes());
+    }
+
+    @Test
+    void shouldSplitBatchIntoFullSlotsAndSlotsWithSeatsLeft() {
+        // Arrange
+        BatchBookingEmailDTO batch = BatchBookingEmailDTO.builder()
+                .shareableId("event1")
+                .availabilityVersion(7L)
+                .slots(List.of(
+                        new SlotSummary(startTime, startTime.plusMinutes(30), true, 0),
+                        new SlotSummary(startTime.plusMinutes(30), startTime.plusMinutes(60), true, 1)))
+                .build();
+        ArgumentCaptor<SlotAvailabilityChange> changes = ArgumentCaptor.forClass(SlotAvailabilityChange.class);
+
+        // Act
+        slotStreamListener.handleSlotsBooked(new SlotsBookedEvent(batch));
+
+        // Assert
+        verify(slotStreamHub, times(2)).publish(eq("event1"), changes.capture());
+        assertEquals(SlotAvailabilityChange.Type.TAKEN, changes.getAllValues().get(0).getType());
+        assertEquals(List.of(startTime), changes.getAllValues().get(0).getStartTimes());
+        assertEquals(SlotAvailabilityChange.Type.FREED, changes.getAllValues().get(1).getType());
+        assertEquals(List.of(startTime.plusMinutes(30)), changes.getAllValues().get(1).getStartTimes());
+    }
+
+    private BookingEmailDTO booking(int seatsLeft, long availabilityVersion) {
+        return BookingEmailDTO.builder()
+                .shareableId("event1")
+                .startTime(startTime)
+                .endTime(startTime.plusMinutes(30))
+                .availabilityVersion(availabilityVersion)
+                .seatsLeft(seatsLeft)
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.SlotlyV2.service;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.example.SlotlyV2.common.config.JwtProperties;
+import com.example.SlotlyV2.common.security.VerifiedToken;
+import com.example.SlotlyV2.common.security.VerifiedTokenCache;
+import com.example.SlotlyV2.common.util.BloomFilter;
+import com.example.SlotlyV2.feature.auth.RevokedToken;
+import com.example.SlotlyV2.feature.auth.RevokedTokenRepository;
+import com.example.SlotlyV2.feature.auth.TokenDenylist;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenDenylistTest {
+
+    @Mock
+    private RevokedTokenRepository revokedTokenRepository;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    private TokenDenylist tokenDenylist;
+
+    @BeforeEach
+    void setUp() {
+        tokenDenylist = new TokenDenylist(revokedTokenRepository, verifiedTokenCache, new JwtProperties());
+    }
+
+    @Test
+    void shouldAnswerUnrevokedTokensWithoutTheTableAfterRebuild() {
+        // Arrange
+        when(revokedTokenRepository.findUnexpiredTokenIds(any(Instant.class))).thenReturn(List.of("revoked"));
+        when(revokedTokenRepository.existsByTokenId("revoked")).thenReturn(true);
+
+        // Act
+        tokenDenylist.rebuild();
+
+        // Assert
+        assertTrue(tokenDenylist.isRevoked(token("revoked")));
+        assertFalse(tokenDenylist.isRevoked(token("active")));
+        verify(revokedTokenRepository, never()).existsByTokenId("active");
+    }
+
+    @Test
+    void shouldSeeRevocationOnThisInstanceBeforeNextRebuild() {
+        // Arrange
+        tokenDenylist.rebuild();
+        when(revokedTokenRepository.existsByTokenId("logged-out")).thenReturn(true);
+
+        // Act
+        boolean revoked = tokenDenylist.revoke(token("logged-out"), "raw");
+
+        // Assert
+        assertTrue(revoked);
+        assertTrue(tokenDenylist.isRevoked(token("logged-out")));
+        verify(revokedTokenRepository).saveAndFlush(any(RevokedToken.class));
+        verify(verifiedTokenCache).invalidate("raw");
+    }
+
+    @Test
+    void shouldReportTokenThatWasAlreadyRevoked() {
+        // Arrange
+        when(revokedTokenRepository.saveAndFlush(any(RevokedToken.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_revoked_tokens_token_id"));
+
+        // Act & Assert
+        assertFalse(tokenDenylist.revoke(token("reused"), "raw"));
+        verify(verifiedTokenCache, never()).invalidate(anyString());
+    }
+
+    @Test
+    void shouldNeverMissAnIdPutInTheBloomFilter() {
+        // Arrange
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            ids.add("token-" + i);
+            filter.put("token-" + i);
+        }
+
+        // Act
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            falsePositives += filter.mightContain("other-" + i) ? 1 : 0;
+        }
+
+        // Assert
+        assertTrue(ids.stream().allMatch(filter::mightContain));
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    private VerifiedToken token(String tokenId) {
+        return new VerifiedToken(tokenId, 1L, "user@example.com", "user", "access", 0,
+                new Date(System.currentTimeMillis() + 60_000));
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.SlotlyV2.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.SlotlyV2.common.security.VerifiedToken;
+import com.example.SlotlyV2.common.security.VerifiedTokenCache;
+import com.example.SlotlyV2.feature.auth.TokenEpochs;
+import com.example.SlotlyV2.feature.user.User;
+import com.example.SlotlyV2.feature.user.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenEpochsTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+
+    private TokenEpochs tokenEpochs;
+
+    @BeforeEach
+    void setUp() {
+        tokenEpochs = new TokenEpochs(Caffeine.newBuilder().build(), userRepository, verifiedTokenCache);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void shouldReadEpochOnceAndAcceptOnlyCurrentTokens() {
+        // Arrange
+        when(userRepository.findTokenEpochById(1L)).thenReturn(Optional.of(2));
+
+        // Act & Assert
+        assertTrue(tokenEpochs.isCurrent(token(2)));
+        assertFalse(tokenEpochs.isCurrent(token(1)));
+        verify(userRepository, times(1)).findTokenEpochById(1L);
+    }
+
+    @Test
+    void shouldRejectOldTokensOnceBumpCommits() {
+        // Arrange
+        User user = new User();
+        user.setId(1L);
+        when(userRepository.findTokenEpochById(1L)).thenReturn(Optional.of(0), Optional.of(1));
+        assertTrue(tokenEpochs.isCurrent(token(0)));
+
+        // Act
+        tokenEpochs.revokeAll(user);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Assert
+        assertEquals(1, user.getTokenEpoch());
+        assertFalse(tokenEpochs.isCurrent(token(0)));
+        assertTrue(tokenEpochs.isCurrent(token(1)));
+        verify(verifiedTokenCache).invalidateUser(1L);
+    }
+
+    private VerifiedToken token(int epoch) {
+        return new VerifiedToken("jti", 1L, "user@example.com", "user", "access", epoch,
+                new Date(System.currentTimeMillis() + 60_000));
+    }
+}
@@ -15,6 +15,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -39,6 +40,8 @@ import com.example.SlotlyV2.common.exception.auth.TokenAlreadyExpiredException;
 import com.example.SlotlyV2.common.exception.auth.UnauthorizedAccessException;
 import com.example.SlotlyV2.common.exception.user.UserAlreadyExistsException;
 import com.example.SlotlyV2.common.exception.user.UsernameAlreadyExistsException;
+import com.example.SlotlyV2.common.security.AuthenticatedUser;
+import com.example.SlotlyV2.feature.auth.TokenEpochs;
 import com.example.SlotlyV2.feature.auth.VerificationTokenService;
 import com.example.SlotlyV2.feature.email.event.EmailVerificationEvent;
 import com.example.SlotlyV2.feature.email.event.PasswordResetEvent;
@@ -70,6 +73,9 @@ public class UserServiceTest {
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
+    @Mock
+    private TokenEpochs tokenEpochs;
+
     @InjectMocks
     private UserService userService;
 
@@ -309,6 +315,7 @@ public class UserServiceTest {
         assertNull(testUser.getPasswordVerificationToken());
         assertNull(testUser.getPasswordVerificationTokenExpiresAt());
         verify(passwordEncoder).encode("newPassword123");
+        verify(tokenEpochs).revokeAll(testUser);
         verify(userRepository).save(testUser);
     }
 
@@ -395,6 +402,37 @@ public class UserServiceTest {
         SecurityContextHolder.clearContext();
     }
 
+    @Test
+    void shouldResolveTokenPrincipalWithoutQueryingUsers() {
+        // Arrange
+        AuthenticatedUser principal = new AuthenticatedUser(5L, "test@example.com", "testUser");
+
+        Authentication authentication = mock(Authentication.class);
+        when(authentication.getPrincipal()).thenReturn(principal);
+        when(authentication.isAuthenticated()).thenReturn(true);
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+
+        User reference = new User();
+        reference.setId(5L);
+        when(userRepository.getReferenceById(5L)).thenReturn(reference);
+
+        // Act
+        AuthenticatedUser authenticatedUser = userService.getAuthenticatedUser();
+        Long currentUserId = userService.getCurrentUserId();
+        User currentUser = userService.getCurrentUser();
+
+        // Assert
+        assertEquals(principal, authenticatedUser);
+        assertEquals(5L, currentUserId);
+        assertEquals(reference, currentUser);
+        verify(userRepository, never()).findByEmail(anyString());
+        verify(userRepository, never()).findById(any());
+
+        // Clean
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void shouldThrowUnauthorizedAccessExceptionWhenUnauthenticatedForGetCurrentUser() {
         // Arrange
@@ -432,6 +470,27 @@ public class UserServiceTest {
         SecurityContextHolder.clearContext();
     }
 
+    @Test
+    void shouldRevokeAllTokensOnLogoutEverywhere() {
+        // Arrange
+        User testUser = createTestUser();
+        testUser.setId(1L);
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                AuthenticatedUser.of(testUser), null, List.of()));
+        when(userRepository.findById(testUser.getId())).thenReturn(Optional.of(testUser));
+
+        HttpServletRequest request = mock(HttpServletRequest.class);
+
+        // Act
+        userService.logoutEverywhere(request);
+
+        // Assert
+        verify(tokenEpochs).revokeAll(testUser);
+        verify(userRepository).save(testUser);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void shouldLogoutUserWithoutSession() {
         // Arrange
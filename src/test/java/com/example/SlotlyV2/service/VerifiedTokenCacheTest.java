@@ -0,0 +1,103 @@
+package com.example.SlotlyV2.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Date;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.SlotlyV2.common.config.CacheConfig;
+import com.example.SlotlyV2.common.config.JwtProperties;
+import com.example.SlotlyV2.common.security.JwtTokenProvider;
+import com.example.SlotlyV2.common.security.VerifiedToken;
+import com.example.SlotlyV2.common.security.VerifiedTokenCache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class VerifiedTokenCacheTest {
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(
+                new CacheConfig().verifiedTokenClaimsCache(new JwtProperties(), meterRegistry), jwtTokenProvider);
+    }
+
+    @Test
+    void shouldVerifyRepeatedTokenOnlyOnce() {
+        // Arrange
+        when(jwtTokenProvider.verify("token")).thenReturn(Optional.of(accessToken(1L, 60_000)));
+
+        // Act
+        verifiedTokenCache.verify("token");
+        Optional<VerifiedToken> cached = verifiedTokenCache.verify("token");
+
+        // Assert
+        assertEquals(1L, cached.orElseThrow().getUserId());
+        verify(jwtTokenProvider, times(1)).verify("token");
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "verifiedTokens").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void shouldVerifyAgainAfterTokenOrUserIsInvalidated() {
+        // Arrange
+        when(jwtTokenProvider.verify("first")).thenReturn(Optional.of(accessToken(1L, 60_000)));
+        when(jwtTokenProvider.verify("second")).thenReturn(Optional.of(accessToken(2L, 60_000)));
+        verifiedTokenCache.verify("first");
+        verifiedTokenCache.verify("second");
+
+        // Act
+        verifiedTokenCache.invalidate("first");
+        verifiedTokenCache.invalidateUser(2L);
+        verifiedTokenCache.verify("first");
+        verifiedTokenCache.verify("second");
+
+        // Assert
+        verify(jwtTokenProvider, times(2)).verify("first");
+        verify(jwtTokenProvider, times(2)).verify("second");
+    }
+
+    @Test
+    void shouldNotCacheFailedExpiredOrRefreshTokens() {
+        // Arrange
+        when(jwtTokenProvider.verify("bad")).thenReturn(Optional.empty());
+        when(jwtTokenProvider.verify("expiring")).thenReturn(Optional.of(accessToken(1L, -1_000)));
+        when(jwtTokenProvider.verify("refresh")).thenReturn(Optional.of(new VerifiedToken("jti-1", 1L,
+                "user1@example.com", "user1", "refresh", 0, new Date(System.currentTimeMillis() + 60_000))));
+
+        // Act
+        for (int i = 0; i < 2; i++) {
+            assertTrue(verifiedTokenCache.verify("bad").isEmpty());
+            verifiedTokenCache.verify("expiring");
+            verifiedTokenCache.verify("refresh");
+        }
+
+        // Assert
+        verify(jwtTokenProvider, times(2)).verify("bad");
+        verify(jwtTokenProvider, times(2)).verify("expiring");
+        verify(jwtTokenProvider, times(2)).verify("refresh");
+    }
+
+    private VerifiedToken accessToken(Long userId, long expiresInMillis) {
+        return new VerifiedToken("jti-" + userId, userId, "user" + userId + "@example.com", "user" + userId,
+                "access", 0, new Date(System.currentTimeMillis() + expiresInMillis));
+    }
+}
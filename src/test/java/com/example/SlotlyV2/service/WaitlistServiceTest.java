@@ -0,0 +1,224 @@
+package com.example.SlotlyV2.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.SlotlyV2.common.exception.slot.AlreadyOnWaitlistException;
+import com.example.SlotlyV2.common.exception.slot.InvalidSlotException;
+import com.example.SlotlyV2.feature.availability.AvailabilityRules;
+import com.example.SlotlyV2.feature.event.Event;
+import com.example.SlotlyV2.feature.event.EventRepository;
+import com.example.SlotlyV2.feature.slot.AttendeeSchedule;
+import com.example.SlotlyV2.feature.slot.Slot;
+import com.example.SlotlyV2.feature.slot.SlotAttendeeRepository;
+import com.example.SlotlyV2.feature.slot.SlotGrid;
+import com.example.SlotlyV2.feature.slot.SlotRepository;
+import com.example.SlotlyV2.feature.waitlist.WaitlistEntry;
+import com.example.SlotlyV2.feature.waitlist.WaitlistQueue;
+import com.example.SlotlyV2.feature.waitlist.WaitlistRepository;
+import com.example.SlotlyV2.feature.waitlist.WaitlistService;
+import com.example.SlotlyV2.feature.waitlist.WaitlistTicket;
+import com.example.SlotlyV2.feature.waitlist.dto.WaitlistRequest;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@ExtendWith(MockitoExtension.class)
+public class WaitlistServiceTest {
+
+    private static final ZoneId EVENT_ZONE = ZoneId.of("UTC");
+
+    @Mock
+    private WaitlistRepository waitlistRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private SlotRepository slotRepository;
+
+    @Mock
+    private SlotAttendeeRepository slotAttendeeRepository;
+
+    @Mock
+    private AttendeeSchedule attendeeSchedule;
+
+    private WaitlistService waitlistService;
+
+    private Event event;
+
+    private LocalDateTime startTime;
+
+    @BeforeEach
+    void setUp() {
+        WaitlistQueue waitlistQueue = new WaitlistQueue(Caffeine.newBuilder().build(), waitlistRepository);
+        waitlistService = new WaitlistService(waitlistRepository, waitlistQueue, eventRepository, slotRepository,
+                slotAttendeeRepository, attendeeSchedule);
+
+        AvailabilityRules rules = new AvailabilityRules();
+        rules.setSlotDurationMinutes(60);
+        rules.setMaxCapacity(1);
+        rules.setMaxSlotsPerUser(1);
+
+        startTime = ZonedDateTime.now(EVENT_ZONE).plusDays(1).withHour(9).withMinute(0).withSecond(0).withNano(0)
+                .toLocalDateTime();
+
+        event = new Event();
+        event.setId(1L);
+        event.setEventName("Event 1");
+        event.setEventStart(startTime);
+        event.setEventEnd(startTime.plusHours(4));
+        event.setTimeZone("UTC");
+        event.setRules(rules);
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void shouldRejectJoinWhenEventHasFreeSlots() {
+        // Arrange
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+
+        // Act & Assert
+        assertThrows(InvalidSlotException.class, () -> waitlistService.join(request(null, "waiting@example.com")));
+        verify(waitlistRepository, never()).save(any(WaitlistEntry.class));
+    }
+
+    @Test
+    void shouldJoinWaitlistWhenEventIsFull() {
+        // Arrange
+        event.setBookedCount(1);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(waitlistRepository.save(any(WaitlistEntry.class))).thenAnswer(invocation -> {
+            WaitlistEntry entry = invocation.getArgument(0);
+            entry.setId(5L);
+            return entry;
+        });
+
+        // Act
+        WaitlistEntry entry = waitlistService.join(request(null, "waiting@example.com"));
+
+        // Assert
+        assertEquals(5L, entry.getId());
+        assertEquals("waiting@example.com", entry.getAttendeeEmail());
+        assertEquals(1, TransactionSynchronizationManager.getSynchronizations().size());
+    }
+
+    @Test
+    void shouldRejectSecondJoinForTheSameSlot() {
+        // Arrange
+        event.setBookedCount(1);
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(waitlistRepository.isWaiting(1L, "waiting@example.com", startTime)).thenReturn(true);
+
+        // Act & Assert
+        assertThrows(AlreadyOnWaitlistException.class,
+                () -> waitlistService.join(request(startTime, "waiting@example.com")));
+    }
+
+    @Test
+    void shouldPromoteLongestWaitingAttendeeWhoCanTakeTheSlot() {
+        // Arrange
+        when(waitlistRepository.findTicketsByEventId(1L)).thenReturn(List.of(
+                ticket(1L, startTime.plusHours(1), "other-slot@example.com"),
+                ticket(2L, startTime, "this-slot@example.com"),
+                ticket(3L, null, "any-slot@example.com")));
+        WaitlistEntry entry = entry(2L);
+        when(waitlistRepository.findForUpdateById(2L)).thenReturn(Optional.of(entry));
+
+        // Act
+        Optional<WaitlistTicket> promoted = waitlistService.claimNext(freedSlot(), ticket -> true);
+
+        // Assert
+        assertEquals(2L, promoted.orElseThrow().getId());
+        verify(waitlistRepository).delete(entry);
+        verify(waitlistRepository, never()).findForUpdateById(1L);
+    }
+
+    @Test
+    void shouldSkipEntriesTakenElsewhereAndKeepAttendeesAtTheirLimitWaiting() {
+        // Arrange
+        when(waitlistRepository.findTicketsByEventId(1L)).thenReturn(List.of(
+                ticket(1L, null, "taken@example.com"),
+                ticket(2L, startTime, "limit@example.com"),
+                ticket(3L, null, "next@example.com")));
+        when(waitlistRepository.findForUpdateById(1L)).thenReturn(Optional.empty());
+        when(waitlistRepository.findForUpdateById(3L)).thenReturn(Optional.of(entry(3L)));
+        when(slotRepository.countByEventIdAndBookedByEmail(1L, "limit@example.com")).thenReturn(1L);
+        when(slotRepository.countByEventIdAndBookedByEmail(1L, "next@example.com")).thenReturn(0L);
+        when(slotRepository.countByEventIdAndBookedByEmail(1L, "taken@example.com")).thenReturn(0L);
+
+        // Act
+        Optional<WaitlistTicket> promoted = waitlistService.claimNext(freedSlot(), ticket -> true);
+
+        // Assert: the attendee at their limit is neither deleted nor dropped, and gets the next freed slot
+        assertEquals("next@example.com", promoted.orElseThrow().getAttendeeEmail());
+        verify(waitlistRepository, never()).findForUpdateById(2L);
+
+        when(slotRepository.countByEventIdAndBookedByEmail(1L, "limit@example.com")).thenReturn(0L);
+        when(waitlistRepository.findForUpdateById(2L)).thenReturn(Optional.of(entry(2L)));
+        assertEquals(2L, waitlistService.claimNext(freedSlot(), ticket -> true).orElseThrow().getId());
+    }
+
+    @Test
+    void shouldKeepEntryWhenPromotionFails() {
+        // Arrange
+        when(waitlistRepository.findTicketsByEventId(1L)).thenReturn(List.of(ticket(1L, null, "next@example.com")));
+        when(waitlistRepository.findForUpdateById(1L)).thenReturn(Optional.of(entry(1L)));
+
+        // Act
+        Optional<WaitlistTicket> promoted = waitlistService.claimNext(freedSlot(), ticket -> false);
+
+        // Assert
+        assertTrue(promoted.isEmpty());
+        verify(waitlistRepository, never()).delete(any(WaitlistEntry.class));
+        assertEquals(1L, waitlistService.claimNext(freedSlot(), ticket -> true).orElseThrow().getId());
+    }
+
+    private Slot freedSlot() {
+        Slot slot = SlotGrid.virtualSlot(event, 0);
+        slot.setId(1L);
+        return slot;
+    }
+
+    private WaitlistRequest request(LocalDateTime slotStart, String email) {
+        return WaitlistRequest.builder()
+                .eventId(1L)
+                .startTime(slotStart)
+                .attendeeName("Waiting User")
+                .attendeeEmail(email)
+                .build();
+    }
+
+    private WaitlistEntry entry(Long id) {
+        WaitlistEntry entry = new WaitlistEntry();
+        entry.setId(id);
+        return entry;
+    }
+
+    private WaitlistTicket ticket(Long id, LocalDateTime slotStart, String email) {
+        return new WaitlistTicket(id, 1L, slotStart, "Waiting User", email);
+    }
+}